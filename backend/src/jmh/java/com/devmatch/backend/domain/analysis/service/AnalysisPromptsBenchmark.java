@@ -0,0 +1,72 @@
+package com.devmatch.backend.domain.analysis.service;
+
+import com.devmatch.backend.domain.analysis.dto.CompatibilityPromptInput;
+import com.devmatch.backend.domain.analysis.dto.CompatibilityPromptInput.SkillLine;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 적합도 분석 프롬프트 생성/캐시 키 계산 비용 (LLM 호출 전 CPU 구간).
+ * skillCount 는 지원자 한 명의 기술 점수 수, 일괄 프롬프트는 지원자 5명(기본 chunkSize) 기준
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AnalysisPromptsBenchmark {
+
+  private static final int BATCH_SIZE = 5;
+
+  @Param({"3", "10"})
+  public int skillCount;
+
+  private CompatibilityPromptInput input;
+  private List<CompatibilityPromptInput> batchInputs;
+
+  @Setup
+  public void setUp() {
+    input = input(1L);
+    batchInputs = LongStream.rangeClosed(1, BATCH_SIZE)
+        .mapToObj(this::input)
+        .toList();
+  }
+
+  @Benchmark
+  public String compatibility() {
+    return AnalysisPrompts.compatibility(input);
+  }
+
+  @Benchmark
+  public String batchCompatibility() {
+    return AnalysisPrompts.batchCompatibility(batchInputs);
+  }
+
+  @Benchmark
+  public String compatibilityCacheKey() {
+    return AnalysisPrompts.compatibilityCacheKey(input);
+  }
+
+  private CompatibilityPromptInput input(long applicationId) {
+    List<SkillLine> skills = IntStream.range(0, skillCount)
+        .mapToObj(i -> new SkillLine("Tech" + i, i % 10 + 1))
+        .toList();
+
+    return new CompatibilityPromptInput(
+        applicationId,
+        "스프링 부트와 리액트로 만드는 팀 매칭 서비스",
+        4,
+        8,
+        "Java, Spring Boot, JPA, React, TypeScript",
+        skills
+    );
+  }
+}
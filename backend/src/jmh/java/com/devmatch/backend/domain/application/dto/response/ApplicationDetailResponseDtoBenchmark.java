@@ -0,0 +1,80 @@
+package com.devmatch.backend.domain.application.dto.response;
+
+import com.devmatch.backend.domain.application.dto.query.ApplicationRow;
+import com.devmatch.backend.domain.application.dto.query.SkillScoreRow;
+import com.devmatch.backend.domain.application.entity.Application;
+import com.devmatch.backend.domain.application.entity.SkillScore;
+import com.devmatch.backend.domain.application.enums.ApplicationStatus;
+import com.devmatch.backend.domain.project.entity.Project;
+import com.devmatch.backend.domain.user.entity.User;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 지원서 목록 응답 변환 비용.
+ * - fromEntities: 엔티티(지원서 + 기술 점수 컬렉션)에서 변환
+ * - fromRows: 프로젝션 + IN 쿼리로 가져온 기술 점수를 묶어 변환 (listOf)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApplicationDetailResponseDtoBenchmark {
+
+  private static final int SKILL_COUNT = 5;
+
+  @Param({"1", "50"})
+  public int applicationCount;
+
+  private List<Application> applications;
+  private List<ApplicationRow> rows;
+  private List<SkillScoreRow> skillScoreRows;
+
+  @Setup
+  public void setUp() {
+    User creator = new User("creator@test.com", "pwd", "creator", "imgUrl");
+    Project project = new Project("title", "description", "Java, React", 4, creator, 8);
+
+    applications = IntStream.range(0, applicationCount)
+        .mapToObj(i -> {
+          User user = new User("user%d@test.com".formatted(i), "pwd", "user" + i, "imgUrl");
+          Application application = new Application(user, project);
+          IntStream.range(0, SKILL_COUNT).forEach(j -> application.getSkillScore()
+              .add(new SkillScore(application, "Tech" + j, j + 1)));
+          return application;
+        })
+        .toList();
+
+    LocalDateTime appliedAt = LocalDateTime.of(2025, 7, 1, 12, 0);
+    rows = LongStream.rangeClosed(1, applicationCount)
+        .mapToObj(id -> new ApplicationRow(id, "user" + id, ApplicationStatus.PENDING, appliedAt))
+        .toList();
+    skillScoreRows = LongStream.rangeClosed(1, applicationCount)
+        .boxed()
+        .flatMap(id -> IntStream.range(0, SKILL_COUNT)
+            .mapToObj(j -> new SkillScoreRow(id, "Tech" + j, j + 1)))
+        .toList();
+  }
+
+  @Benchmark
+  public List<ApplicationDetailResponseDto> fromEntities() {
+    return applications.stream()
+        .map(ApplicationDetailResponseDto::new)
+        .toList();
+  }
+
+  @Benchmark
+  public List<ApplicationDetailResponseDto> fromRows() {
+    return ApplicationDetailResponseDto.listOf(rows, skillScoreRows);
+  }
+}
@@ -0,0 +1,58 @@
+package com.devmatch.backend.domain.project.mapper;
+
+import com.devmatch.backend.domain.project.dto.ProjectDetailResponse;
+import com.devmatch.backend.domain.project.entity.Project;
+import com.devmatch.backend.domain.project.entity.Tech;
+import com.devmatch.backend.domain.user.entity.User;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 프로젝트 목록 응답 변환 비용 (한 페이지 분량의 엔티티 -> ProjectDetailResponse).
+ * DB 조회는 포함하지 않는다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProjectMapperBenchmark {
+
+  private static final String TECH_STACK = "Java, Spring Boot, JPA, React, TypeScript";
+
+  @Param({"1", "20"})
+  public int pageSize;
+
+  private List<Project> projects;
+
+  @Setup
+  public void setUp() {
+    User creator = new User("user1@test.com", "pwd", "user1", "imgUrl");
+    List<Tech> techs = Arrays.stream(TECH_STACK.split(", "))
+        .map(Tech::new)
+        .toList();
+
+    projects = IntStream.range(0, pageSize)
+        .mapToObj(i -> {
+          Project project = new Project("title" + i, "description" + i, TECH_STACK, 4, creator, 8);
+          project.changeTechs(techs);
+          return project;
+        })
+        .toList();
+  }
+
+  @Benchmark
+  public List<ProjectDetailResponse> toProjectDetailResponses() {
+    return projects.stream()
+        .map(ProjectMapper::toProjectDetailResponse)
+        .toList();
+  }
+}
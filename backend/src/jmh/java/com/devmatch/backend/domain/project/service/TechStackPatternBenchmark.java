@@ -0,0 +1,34 @@
+package com.devmatch.backend.domain.project.service;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 프로젝트 생성 시 기술 스택 형식 검증 비용.
+ * - stringMatches: 호출마다 정규식을 컴파일하는 String.matches
+ * - precompiled: ProjectService 가 쓰는 미리 컴파일한 Pattern
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TechStackPatternBenchmark {
+
+  @Param({"Java", "Java, Spring Boot, JPA, React, TypeScript, C#, C++, Node.js"})
+  public String techStack;
+
+  @Benchmark
+  public boolean stringMatches() {
+    return techStack.matches(ProjectService.TECH_STACK_PATTERN.pattern());
+  }
+
+  @Benchmark
+  public boolean precompiled() {
+    return ProjectService.TECH_STACK_PATTERN.matcher(techStack).matches();
+  }
+}
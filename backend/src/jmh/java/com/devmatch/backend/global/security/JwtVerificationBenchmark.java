@@ -0,0 +1,100 @@
+package com.devmatch.backend.global.security;
+
+import com.devmatch.backend.domain.user.entity.User;
+import com.devmatch.backend.domain.user.service.AuthTokenService;
+import com.devmatch.backend.domain.user.service.UserService;
+import com.devmatch.backend.global.rq.Rq;
+import com.devmatch.backend.standard.util.Ut;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 인증 필터의 액세스 토큰 검증 처리량.
+ * - legacyVerify: 변경 전 방식 (요청마다 HMAC 키와 파서를 새로 만들고 페이로드를 복사)
+ * - parserVerify: 미리 만든 키/파서로 검증
+ * - filter(verificationCache=false/true): 인증 필터 전체, 검증 결과 캐시 사용 여부 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtVerificationBenchmark {
+
+  private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+  @Param({"false", "true"})
+  public boolean verificationCache;
+
+  private String accessToken;
+  private UserService userService;
+  private final FilterChain noopChain = (request, response) -> {
+  };
+
+  @Setup
+  public void setUp() {
+    AuthTokenService authTokenService = new AuthTokenService(verificationCache ? 10_000 : 0);
+    ReflectionTestUtils.setField(authTokenService, "jwtSecretKey", SECRET);
+    ReflectionTestUtils.setField(authTokenService, "accessTokenExpirationSeconds", 60 * 20);
+
+    userService = new UserService(authTokenService, null, null, null);
+    accessToken = userService.genAccessToken(new User(1L, "user1@test.com", "user1"));
+  }
+
+  @Benchmark
+  public Map<String, Object> legacyVerify() {
+    SecretKey secretKey = Keys.hmacShaKeyFor(SECRET.getBytes());
+
+    Map<String, Object> parsedPayload = (Map<String, Object>) Jwts
+        .parser()
+        .verifyWith(secretKey)
+        .build()
+        .parse(accessToken)
+        .getPayload();
+
+    return Map.of(
+        "id", parsedPayload.get("id"),
+        "username", parsedPayload.get("username"),
+        "name", parsedPayload.get("name")
+    );
+  }
+
+  @Benchmark
+  public Map<String, Object> parserVerify() {
+    return Ut.jwt.payload(SECRET, accessToken);
+  }
+
+  @Benchmark
+  public MockHttpServletResponse filter() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/projects");
+    request.addHeader("Authorization", "Bearer apiKey " + accessToken);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    CustomAuthenticationFilter filter = new CustomAuthenticationFilter(
+        userService,
+        new Rq(request, response, userService)
+    );
+
+    try {
+      filter.doFilter(request, response, noopChain);
+    } finally {
+      SecurityContextHolder.clearContext();
+    }
+
+    return response;
+  }
+}
@@ -0,0 +1,74 @@
+package com.devmatch.backend.standard.util;
+
+import com.devmatch.backend.domain.project.dto.ProjectDetailResponse;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 요청마다 호출되는 Ut 유틸 비용.
+ * - jwtToString: 로그인/토큰 재발급 시 액세스 토큰 생성
+ * - jwtPayload: 인증 필터의 토큰 검증
+ * - jsonToString: 인증 실패 응답 등 RsData 직렬화 (프로젝트 상세 응답 크기 기준)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UtBenchmark {
+
+  private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+  private final Map<String, Object> claims = Map.of(
+      "id", 1L,
+      "username", "user1@test.com",
+      "name", "user1"
+  );
+
+  private String accessToken;
+  private ProjectDetailResponse response;
+
+  @Setup
+  public void setUp() {
+    // 애플리케이션에서는 스프링이 만든 ObjectMapper 를 넣어준다
+    Ut.json.objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    accessToken = Ut.jwt.toString(SECRET, 60 * 20, claims);
+    response = new ProjectDetailResponse(
+        1L,
+        "팀 매칭 서비스",
+        "스프링 부트와 리액트로 만드는 팀 매칭 서비스",
+        List.of("Java", "Spring Boot", "JPA", "React", "TypeScript"),
+        4,
+        2,
+        "user1",
+        "RECRUITING",
+        "",
+        8,
+        LocalDateTime.of(2025, 7, 1, 12, 0)
+    );
+  }
+
+  @Benchmark
+  public String jwtToString() {
+    return Ut.jwt.toString(SECRET, 60 * 20, claims);
+  }
+
+  @Benchmark
+  public Map<String, Object> jwtPayload() {
+    return Ut.jwt.payload(SECRET, accessToken);
+  }
+
+  @Benchmark
+  public String jsonToString() {
+    return Ut.json.toString(response);
+  }
+}
@@ -1,16 +1,24 @@
 package com.devmatch.backend.domain.analysis.controller;
 
+import com.devmatch.backend.domain.analysis.dto.AnalysisJobResponse;
 import com.devmatch.backend.domain.analysis.dto.AnalysisResultResponse;
+import com.devmatch.backend.domain.analysis.dto.BatchAnalysisResponse;
+import com.devmatch.backend.domain.analysis.dto.SkillMatchRankingResponse;
+import com.devmatch.backend.domain.analysis.service.AnalysisBatchService;
+import com.devmatch.backend.domain.analysis.service.AnalysisJobService;
 import com.devmatch.backend.domain.analysis.service.AnalysisService;
 import com.devmatch.backend.global.ApiResponse;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/analysis")
@@ -18,6 +26,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class AnalysisController {
 
   private final AnalysisService analysisService;
+  private final AnalysisJobService analysisJobService;
+  private final AnalysisBatchService analysisBatchService;
 
   @GetMapping("/application/{applicationId}")
   public ResponseEntity<ApiResponse<AnalysisResultResponse>> getAnalysisResult(
@@ -45,6 +55,57 @@ public class AnalysisController {
         .body(new ApiResponse<>("분석 결과 생성 성공", analysisResultResponse));
   }
 
+  // LLM 응답을 기다리지 않고 분석 작업만 등록한 뒤, 작업 조회 API로 진행 상태를 확인한다
+  @PostMapping("/application/{applicationId}/jobs")
+  public ResponseEntity<ApiResponse<AnalysisJobResponse>> enqueueAnalysisJob(
+      @PathVariable Long applicationId
+  ) {
+    AnalysisJobResponse analysisJobResponse = new AnalysisJobResponse(
+        analysisJobService.enqueue(applicationId)
+    );
+
+    return ResponseEntity
+        .status(HttpStatus.ACCEPTED)
+        .body(new ApiResponse<>("분석 작업 등록 성공", analysisJobResponse));
+  }
+
+  @GetMapping("/jobs/{jobId}")
+  public ResponseEntity<ApiResponse<AnalysisJobResponse>> getAnalysisJob(
+      @PathVariable Long jobId
+  ) {
+    AnalysisJobResponse analysisJobResponse = new AnalysisJobResponse(
+        analysisJobService.getJob(jobId)
+    );
+
+    return ResponseEntity
+        .status(HttpStatus.OK)
+        .body(new ApiResponse<>("분석 작업 조회 성공", analysisJobResponse));
+  }
+
+  // 프로젝트에서 아직 분석되지 않은 지원서를 한 번에 분석한다
+  @PostMapping("/project/{projectId}/batch")
+  public ResponseEntity<ApiResponse<BatchAnalysisResponse>> createAnalysisResults(
+      @PathVariable Long projectId
+  ) {
+    BatchAnalysisResponse batchAnalysisResponse = analysisBatchService.analyzeProject(projectId);
+
+    return ResponseEntity
+        .status(HttpStatus.CREATED)
+        .body(new ApiResponse<>("일괄 분석 완료", batchAnalysisResponse));
+  }
+
+  // LLM 호출 없이 기술 일치 점수로 지원서 순위를 바로 보여준다. 이유가 필요한 지원서만 적합도 분석을 요청한다
+  @GetMapping("/project/{projectId}/ranking")
+  public ResponseEntity<ApiResponse<List<SkillMatchRankingResponse>>> getSkillMatchRanking(
+      @PathVariable Long projectId
+  ) {
+    List<SkillMatchRankingResponse> ranking = analysisService.getSkillMatchRanking(projectId);
+
+    return ResponseEntity
+        .status(HttpStatus.OK)
+        .body(new ApiResponse<>("기술 일치 순위 조회 성공", ranking));
+  }
+
   @PostMapping("/project/{projectId}/role-assignment")
   public ResponseEntity<ApiResponse<String>> createTeamRoleAssignment(
       @PathVariable Long projectId
@@ -55,4 +116,11 @@ public class AnalysisController {
         .status(HttpStatus.CREATED)
         .body(new ApiResponse<>("팀 역할 분배 완료", roleAssignment));
   }
+
+  // 역할 분배 결과를 토큰 단위로 스트리밍하고, 완료되면 프로젝트 본문(content)에 저장한다
+  @PostMapping(value = "/project/{projectId}/role-assignment/stream",
+      produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter streamTeamRoleAssignment(@PathVariable Long projectId) {
+    return analysisService.streamTeamRoleAssignment(projectId);
+  }
 }
\ No newline at end of file
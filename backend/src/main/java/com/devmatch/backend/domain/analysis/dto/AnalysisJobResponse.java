@@ -0,0 +1,28 @@
+package com.devmatch.backend.domain.analysis.dto;
+
+import com.devmatch.backend.domain.analysis.entity.AnalysisJob;
+import com.devmatch.backend.domain.analysis.entity.AnalysisJobStatus;
+import java.time.LocalDateTime;
+
+public record AnalysisJobResponse(
+    Long jobId,
+    Long applicationId,
+    AnalysisJobStatus status,
+    Long analysisResultId,
+    String errorMessage,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+
+  public AnalysisJobResponse(AnalysisJob job) {
+    this(
+        job.getId(),
+        job.getApplicationId(),
+        job.getStatus(),
+        job.getAnalysisResultId(),
+        job.getErrorMessage(),
+        job.getCreatedAt(),
+        job.getUpdatedAt()
+    );
+  }
+}
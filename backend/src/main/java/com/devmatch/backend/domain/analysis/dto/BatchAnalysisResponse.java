@@ -0,0 +1,12 @@
+package com.devmatch.backend.domain.analysis.dto;
+
+import java.util.List;
+
+public record BatchAnalysisResponse(
+    int requestedCount,                   // 분석 대상(분석 결과가 없던) 지원서 수
+    int analyzedCount,                    // 이번에 분석 결과가 저장된 지원서 수
+    List<Long> failedApplicationIds,      // 분석에 실패한 지원서 ID
+    List<AnalysisResultResponse> results  // 저장된 분석 결과
+) {
+
+}
@@ -0,0 +1,11 @@
+package com.devmatch.backend.domain.analysis.dto;
+
+import java.math.BigDecimal;
+
+// LLM 응답("[점수]|[이유]")을 파싱한 적합도 분석 결과
+public record CompatibilityAnalysis(
+    BigDecimal score,
+    String reason
+) {
+
+}
@@ -0,0 +1,35 @@
+package com.devmatch.backend.domain.analysis.dto;
+
+import com.devmatch.backend.domain.application.entity.Application;
+import com.devmatch.backend.domain.project.entity.Project;
+import java.util.List;
+
+// 적합도 분석 프롬프트를 만드는 데 필요한 값만 담는다 (트랜잭션 밖에서 LLM을 호출하기 위해 엔티티 대신 사용)
+public record CompatibilityPromptInput(
+    Long applicationId,
+    String projectDescription,
+    Integer teamSize,
+    Integer durationWeeks,
+    String techStack,
+    List<SkillLine> skills
+) {
+
+  public record SkillLine(String techName, int score) {
+
+  }
+
+  public static CompatibilityPromptInput from(Application application) {
+    Project project = application.getProject();
+
+    return new CompatibilityPromptInput(
+        application.getId(),
+        project.getDescription(),
+        project.getTeamSize(),
+        project.getDurationWeeks(),
+        project.getTechStack(),
+        application.getSkillScore().stream()
+            .map(skill -> new SkillLine(skill.getTechName(), skill.getScore()))
+            .toList()
+    );
+  }
+}
@@ -0,0 +1,27 @@
+package com.devmatch.backend.domain.analysis.dto;
+
+import com.devmatch.backend.domain.application.entity.Application;
+import com.devmatch.backend.domain.application.enums.ApplicationStatus;
+import java.math.BigDecimal;
+
+// 기술 일치 점수 순위. 적합도 분석(LLM)을 아직 요청하지 않았다면 compatibilityScore 는 null
+public record SkillMatchRankingResponse(
+    Long applicationId,
+    String nickname,
+    ApplicationStatus status,
+    BigDecimal skillMatchScore,
+    BigDecimal compatibilityScore
+) {
+
+  public SkillMatchRankingResponse(Application application, BigDecimal skillMatchScore) {
+    this(
+        application.getId(),
+        application.getUser().getNickName(),
+        application.getStatus(),
+        skillMatchScore,
+        application.getAnalysisResult() != null
+            ? application.getAnalysisResult().getCompatibilityScore()
+            : null
+    );
+  }
+}
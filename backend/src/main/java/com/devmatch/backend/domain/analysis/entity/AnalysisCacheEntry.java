@@ -0,0 +1,49 @@
+package com.devmatch.backend.domain.analysis.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+// 같은 프롬프트 입력에 대한 LLM 적합도 분석 결과를 재사용하기 위한 영속 캐시
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "analysis_cache_entries")
+@EntityListeners(AuditingEntityListener.class)
+public class AnalysisCacheEntry {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  // 정규화한 프롬프트 입력의 SHA-256 (hex)
+  @Column(name = "cache_key", length = 64, nullable = false, unique = true)
+  private String cacheKey;
+
+  @Column(name = "compatibility_score", precision = 5, scale = 2, nullable = false)
+  private BigDecimal compatibilityScore;
+
+  @Column(columnDefinition = "TEXT", nullable = false)
+  private String compatibilityReason;
+
+  @CreatedDate
+  @Column(name = "created_at", updatable = false)
+  private LocalDateTime createdAt;
+
+  public AnalysisCacheEntry(String cacheKey, BigDecimal compatibilityScore, String compatibilityReason) {
+    this.cacheKey = cacheKey;
+    this.compatibilityScore = compatibilityScore;
+    this.compatibilityReason = compatibilityReason;
+  }
+}
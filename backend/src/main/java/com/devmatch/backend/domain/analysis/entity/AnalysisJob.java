@@ -0,0 +1,85 @@
+package com.devmatch.backend.domain.analysis.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+// 비동기로 처리되는 지원서 적합도 분석 작업
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "analysis_jobs",
+    indexes = {
+        @Index(name = "idx_analysis_job_status", columnList = "status"),
+        @Index(name = "idx_analysis_job_application_id", columnList = "application_id")
+    }
+)
+@EntityListeners(AuditingEntityListener.class)
+public class AnalysisJob {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  // 분석 대상 지원서 ID
+  @Column(name = "application_id", nullable = false)
+  private Long applicationId;
+
+  @Column(name = "status", nullable = false)
+  @Enumerated(EnumType.STRING)
+  private AnalysisJobStatus status = AnalysisJobStatus.PENDING;
+
+  // 분석이 끝나 저장된 분석 결과 ID
+  @Column(name = "analysis_result_id")
+  private Long analysisResultId;
+
+  // 실패 사유
+  @Column(name = "error_message", columnDefinition = "TEXT")
+  private String errorMessage;
+
+  @CreatedDate
+  @Column(name = "created_at", updatable = false)
+  private LocalDateTime createdAt;
+
+  @LastModifiedDate
+  @Column(name = "updated_at")
+  private LocalDateTime updatedAt;
+
+  // 실행 중인 서버가 주기적으로 갱신한다. 오래 갱신되지 않은 RUNNING 작업은 그 서버가 내려간 것으로 보고 다른 서버가 이어받는다
+  @Column(name = "heartbeat_at")
+  private LocalDateTime heartbeatAt;
+
+  public AnalysisJob(Long applicationId) {
+    this.applicationId = applicationId;
+  }
+
+  public boolean isFinished() {
+    return status == AnalysisJobStatus.DONE || status == AnalysisJobStatus.FAILED;
+  }
+
+  public void complete(Long analysisResultId) {
+    this.status = AnalysisJobStatus.DONE;
+    this.analysisResultId = analysisResultId;
+    this.errorMessage = null;
+  }
+
+  public void fail(String errorMessage) {
+    this.status = AnalysisJobStatus.FAILED;
+    this.errorMessage = errorMessage;
+  }
+}
@@ -0,0 +1,8 @@
+package com.devmatch.backend.domain.analysis.entity;
+
+public enum AnalysisJobStatus {
+  PENDING,
+  RUNNING,
+  DONE,
+  FAILED
+}
@@ -0,0 +1,5 @@
+package com.devmatch.backend.domain.analysis.event;
+
+public record AnalysisJobCreatedEvent(Long jobId) {
+
+}
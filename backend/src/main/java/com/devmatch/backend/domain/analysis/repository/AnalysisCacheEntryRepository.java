@@ -0,0 +1,12 @@
+package com.devmatch.backend.domain.analysis.repository;
+
+import com.devmatch.backend.domain.analysis.entity.AnalysisCacheEntry;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AnalysisCacheEntryRepository extends JpaRepository<AnalysisCacheEntry, Long> {
+
+  Optional<AnalysisCacheEntry> findByCacheKey(String cacheKey);
+}
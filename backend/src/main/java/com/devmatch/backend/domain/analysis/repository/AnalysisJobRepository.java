@@ -0,0 +1,68 @@
+package com.devmatch.backend.domain.analysis.repository;
+
+import com.devmatch.backend.domain.analysis.entity.AnalysisJob;
+import com.devmatch.backend.domain.analysis.entity.AnalysisJobStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AnalysisJobRepository extends JpaRepository<AnalysisJob, Long> {
+
+  Optional<AnalysisJob> findFirstByApplicationIdAndStatusIn(
+      Long applicationId,
+      Collection<AnalysisJobStatus> statuses
+  );
+
+  // 대기 중인 작업이나 하트비트가 끊긴 실행 중 작업을 RUNNING 으로 차지한다.
+  // 여러 서버가 같은 작업을 동시에 차지하려 해도 조건부 UPDATE 라 한 곳만 1을 받는다
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("""
+      update AnalysisJob j
+      set j.status = :running,
+          j.heartbeatAt = :now,
+          j.updatedAt = :now
+      where j.id = :jobId
+        and (j.status = :pending
+          or (j.status = :running and (j.heartbeatAt is null or j.heartbeatAt < :staleBefore)))
+      """)
+  int claim(
+      @Param("jobId") Long jobId,
+      @Param("now") LocalDateTime now,
+      @Param("staleBefore") LocalDateTime staleBefore,
+      @Param("pending") AnalysisJobStatus pending,
+      @Param("running") AnalysisJobStatus running
+  );
+
+  @Modifying
+  @Query("""
+      update AnalysisJob j
+      set j.heartbeatAt = :now
+      where j.id in :jobIds
+        and j.status = :running
+      """)
+  int heartbeat(
+      @Param("jobIds") Collection<Long> jobIds,
+      @Param("now") LocalDateTime now,
+      @Param("running") AnalysisJobStatus running
+  );
+
+  // 다른 서버가 곧 처리할 새 작업까지 가져가지 않도록 staleBefore 이전에 만들어진 대기 작업만 본다
+  @Query("""
+      select j.id from AnalysisJob j
+      where (j.status = :pending and j.createdAt < :staleBefore)
+         or (j.status = :running and (j.heartbeatAt is null or j.heartbeatAt < :staleBefore))
+      order by j.id
+      """)
+  List<Long> findRecoverableIds(
+      @Param("staleBefore") LocalDateTime staleBefore,
+      @Param("pending") AnalysisJobStatus pending,
+      @Param("running") AnalysisJobStatus running
+  );
+}
@@ -0,0 +1,185 @@
+package com.devmatch.backend.domain.analysis.service;
+
+import com.devmatch.backend.domain.analysis.dto.AnalysisResultResponse;
+import com.devmatch.backend.domain.analysis.dto.BatchAnalysisResponse;
+import com.devmatch.backend.domain.analysis.dto.CompatibilityAnalysis;
+import com.devmatch.backend.domain.analysis.dto.CompatibilityPromptInput;
+import com.devmatch.backend.domain.analysis.entity.AnalysisResult;
+import com.devmatch.backend.domain.analysis.repository.AnalysisRepository;
+import com.devmatch.backend.domain.application.entity.Application;
+import com.devmatch.backend.domain.application.service.ApplicationService;
+import com.devmatch.backend.domain.project.service.ProjectService;
+import com.devmatch.backend.global.ai.LlmClient;
+import com.devmatch.backend.global.async.BoundedExecutor;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 프로젝트에서 아직 분석되지 않은 지원서를 한 번에 분석한다.
+ * 지원자 여러 명을 한 프롬프트에 묶어 LLM 호출 수를 줄이고, 묶음(chunk)들은 동시에 호출한다.
+ */
+@Slf4j
+@Service
+public class AnalysisBatchService {
+
+  private final AnalysisService analysisService;
+  private final AnalysisRepository analysisRepository;
+  private final ApplicationService applicationService;
+  private final ProjectService projectService;
+  private final CompatibilityCache compatibilityCache;
+  private final LlmClient llmClient;
+  private final TransactionTemplate transactionTemplate;
+  private final BoundedExecutor analysisBatchExecutor;
+  private final int chunkSize;
+
+  public AnalysisBatchService(
+      AnalysisService analysisService,
+      AnalysisRepository analysisRepository,
+      ApplicationService applicationService,
+      ProjectService projectService,
+      CompatibilityCache compatibilityCache,
+      LlmClient llmClient,
+      TransactionTemplate transactionTemplate,
+      BoundedExecutor analysisBatchExecutor,
+      @Value("${custom.analysis.batch.chunkSize:5}") int chunkSize
+  ) {
+    this.analysisService = analysisService;
+    this.analysisRepository = analysisRepository;
+    this.applicationService = applicationService;
+    this.projectService = projectService;
+    this.compatibilityCache = compatibilityCache;
+    this.llmClient = llmClient;
+    this.transactionTemplate = transactionTemplate;
+    this.analysisBatchExecutor = analysisBatchExecutor;
+    this.chunkSize = Math.max(1, chunkSize);
+  }
+
+  public BatchAnalysisResponse analyzeProject(Long projectId) {
+    List<CompatibilityPromptInput> promptInputs = transactionTemplate.execute(status -> {
+      projectService.getProject(projectId);
+
+      return applicationService.findAllWithoutAnalysisResult(projectId).stream()
+          .map(CompatibilityPromptInput::from)
+          .toList();
+    });
+
+    if (promptInputs.isEmpty()) {
+      return new BatchAnalysisResponse(0, 0, List.of(), List.of());
+    }
+
+    Map<Long, CompatibilityAnalysis> analyses = new HashMap<>();
+    Map<Long, String> cacheKeys = new HashMap<>();
+    List<CompatibilityPromptInput> uncached = new ArrayList<>();
+
+    for (CompatibilityPromptInput promptInput : promptInputs) {
+      String cacheKey = AnalysisPrompts.compatibilityCacheKey(promptInput);
+      cacheKeys.put(promptInput.applicationId(), cacheKey);
+
+      compatibilityCache.get(cacheKey).ifPresentOrElse(
+          analysis -> analyses.put(promptInput.applicationId(), analysis),
+          () -> uncached.add(promptInput)
+      );
+    }
+
+    List<CompletableFuture<Map<Long, CompatibilityAnalysis>>> futures = new ArrayList<>();
+    for (int from = 0; from < uncached.size(); from += chunkSize) {
+      List<CompatibilityPromptInput> chunk = uncached.subList(from,
+          Math.min(from + chunkSize, uncached.size()));
+
+      futures.add(CompletableFuture.supplyAsync(() -> analyzeChunk(chunk), analysisBatchExecutor));
+    }
+
+    for (CompletableFuture<Map<Long, CompatibilityAnalysis>> future : futures) {
+      Map<Long, CompatibilityAnalysis> chunkAnalyses = future.join();
+      chunkAnalyses.forEach((applicationId, analysis) -> {
+        analyses.put(applicationId, analysis);
+        compatibilityCache.put(cacheKeys.get(applicationId), analysis);
+      });
+    }
+
+    List<AnalysisResult> saved = saveAll(analyses);
+
+    Set<Long> savedApplicationIds = saved.stream()
+        .map(result -> result.getApplication().getId())
+        .collect(Collectors.toSet());
+    List<Long> failedApplicationIds = promptInputs.stream()
+        .map(CompatibilityPromptInput::applicationId)
+        .filter(applicationId -> !savedApplicationIds.contains(applicationId))
+        .toList();
+
+    return new BatchAnalysisResponse(
+        promptInputs.size(),
+        saved.size(),
+        failedApplicationIds,
+        saved.stream().map(AnalysisResultResponse::new).toList()
+    );
+  }
+
+  // 묶음 응답에서 빠졌거나 형식이 깨진 지원서는 개별 프롬프트로 한 번 더 분석한다
+  private Map<Long, CompatibilityAnalysis> analyzeChunk(List<CompatibilityPromptInput> chunk) {
+    List<Long> applicationIds = chunk.stream()
+        .map(CompatibilityPromptInput::applicationId)
+        .toList();
+
+    Map<Long, CompatibilityAnalysis> analyses = new HashMap<>();
+    try {
+      String aiResponse = llmClient.call(AnalysisPrompts.batchCompatibility(chunk));
+      analyses.putAll(AnalysisPrompts.parseBatchCompatibility(
+          aiResponse, applicationIds, llmClient::recordParseFailure));
+    } catch (Exception e) {
+      log.warn("일괄 분석 호출 실패 - applicationIds: {}", applicationIds, e);
+    }
+
+    for (CompatibilityPromptInput promptInput : chunk) {
+      if (analyses.containsKey(promptInput.applicationId())) {
+        continue;
+      }
+
+      try {
+        analyses.put(promptInput.applicationId(), analysisService.analyzeCompatibility(promptInput));
+      } catch (Exception e) {
+        log.warn("개별 분석 실패 - applicationId: {}", promptInput.applicationId(), e);
+      }
+    }
+
+    return analyses;
+  }
+
+  // 분석 결과를 한 트랜잭션에서 저장한다. 그 사이 다른 요청이 먼저 분석한 지원서는 건너뛴다
+  private List<AnalysisResult> saveAll(Map<Long, CompatibilityAnalysis> analyses) {
+    if (analyses.isEmpty()) {
+      return List.of();
+    }
+
+    return transactionTemplate.execute(status -> {
+      List<Application> applications = applicationService.findAllByIds(analyses.keySet()).stream()
+          .filter(application -> application.getAnalysisResult() == null)
+          .toList();
+
+      List<AnalysisResult> results = applications.stream()
+          .map(application -> {
+            CompatibilityAnalysis analysis = analyses.get(application.getId());
+            return AnalysisResult.builder()
+                .application(application)
+                .compatibilityScore(analysis.score())
+                .compatibilityReason(analysis.reason())
+                .build();
+          })
+          .toList();
+
+      List<AnalysisResult> saved = analysisRepository.saveAll(results);
+      saved.forEach(result -> applicationService.attachAnalysisResult(result.getApplication(), result));
+
+      return saved;
+    });
+  }
+}
@@ -0,0 +1,191 @@
+package com.devmatch.backend.domain.analysis.service;
+
+import com.devmatch.backend.domain.analysis.entity.AnalysisJob;
+import com.devmatch.backend.domain.analysis.entity.AnalysisJobStatus;
+import com.devmatch.backend.domain.analysis.entity.AnalysisResult;
+import com.devmatch.backend.domain.analysis.event.AnalysisJobCreatedEvent;
+import com.devmatch.backend.domain.analysis.repository.AnalysisJobRepository;
+import com.devmatch.backend.domain.application.entity.Application;
+import com.devmatch.backend.domain.application.service.ApplicationService;
+import com.devmatch.backend.global.async.BoundedExecutor;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+public class AnalysisJobService {
+
+  private static final List<AnalysisJobStatus> ACTIVE_STATUSES = List.of(
+      AnalysisJobStatus.PENDING,
+      AnalysisJobStatus.RUNNING
+  );
+
+  private final AnalysisJobRepository analysisJobRepository;
+  private final AnalysisService analysisService;
+  private final ApplicationService applicationService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate transactionTemplate;
+  private final BoundedExecutor analysisExecutor;
+  private final Duration staleAfter;
+
+  // 이 서버의 워커 큐에 넣었거나 실행 중인 작업 (복구 시 같은 작업을 두 번 넣지 않도록)
+  private final Set<Long> localJobIds = ConcurrentHashMap.newKeySet();
+  // 이 서버가 차지해 실행 중인 작업 (하트비트 대상)
+  private final Set<Long> runningJobIds = ConcurrentHashMap.newKeySet();
+
+  public AnalysisJobService(
+      AnalysisJobRepository analysisJobRepository,
+      AnalysisService analysisService,
+      ApplicationService applicationService,
+      ApplicationEventPublisher eventPublisher,
+      TransactionTemplate transactionTemplate,
+      BoundedExecutor analysisExecutor,
+      @Value("${custom.analysis.job.staleAfter:1m}") Duration staleAfter
+  ) {
+    this.analysisJobRepository = analysisJobRepository;
+    this.analysisService = analysisService;
+    this.applicationService = applicationService;
+    this.eventPublisher = eventPublisher;
+    this.transactionTemplate = transactionTemplate;
+    this.analysisExecutor = analysisExecutor;
+    this.staleAfter = staleAfter;
+  }
+
+  // 같은 지원서에 대기/실행 중인 작업이 있으면 새로 만들지 않고 그 작업을 돌려준다.
+  // 지원서 행을 잠가 같은 지원서의 동시 요청을 줄 세우므로 확인과 등록 사이에 다른 요청이 끼지 못한다
+  @Transactional
+  public AnalysisJob enqueue(Long applicationId) {
+    Application application = applicationService.lockApplication(applicationId);
+
+    if (application.getAnalysisResult() != null) {
+      throw new IllegalArgumentException(
+          "현재 지원서(지원서 %d번)에 분석 결과(분석 결과 %d번)가 이미 존재합니다"
+              .formatted(applicationId, application.getAnalysisResult().getId())
+      );
+    }
+
+    return analysisJobRepository.findFirstByApplicationIdAndStatusIn(applicationId, ACTIVE_STATUSES)
+        .orElseGet(() -> {
+          AnalysisJob job = analysisJobRepository.save(new AnalysisJob(applicationId));
+          eventPublisher.publishEvent(new AnalysisJobCreatedEvent(job.getId()));
+          return job;
+        });
+  }
+
+  @Transactional(readOnly = true)
+  public AnalysisJob getJob(Long jobId) {
+    return analysisJobRepository.findById(jobId)
+        .orElseThrow(() -> new NoSuchElementException("분석 작업을 찾을 수 없습니다. jobId: " + jobId));
+  }
+
+  // 작업 행이 커밋된 뒤에만 워커에 넘겨야 워커가 작업을 조회할 수 있다
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onJobCreated(AnalysisJobCreatedEvent event) {
+    dispatch(event.jobId());
+  }
+
+  // 서버 시작 시, 그리고 주기적으로 주인 잃은 작업을 다시 큐에 넣는다.
+  // 오래 대기 중인 작업과 하트비트가 staleAfter 넘게 끊긴 실행 중 작업만 대상이고, 실제 실행은 claim 에 성공한 서버만 한다
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(
+      initialDelayString = "${custom.analysis.job.recoveryInterval:1m}",
+      fixedDelayString = "${custom.analysis.job.recoveryInterval:1m}"
+  )
+  public void recoverUnfinishedJobs() {
+    List<Long> jobIds = transactionTemplate.execute(status ->
+        analysisJobRepository.findRecoverableIds(staleBefore(LocalDateTime.now()),
+            AnalysisJobStatus.PENDING, AnalysisJobStatus.RUNNING));
+
+    if (jobIds == null || jobIds.isEmpty()) {
+      return;
+    }
+
+    log.info("주인 잃은 분석 작업 {}건을 다시 실행합니다", jobIds.size());
+    jobIds.forEach(this::dispatch);
+  }
+
+  // 실행 중인 작업의 하트비트를 갱신해 다른 서버가 이어받지 않게 한다
+  @Scheduled(fixedDelayString = "${custom.analysis.job.heartbeatInterval:10s}")
+  public void heartbeat() {
+    if (runningJobIds.isEmpty()) {
+      return;
+    }
+
+    transactionTemplate.executeWithoutResult(status -> analysisJobRepository.heartbeat(
+        List.copyOf(runningJobIds), LocalDateTime.now(), AnalysisJobStatus.RUNNING));
+  }
+
+  private void dispatch(Long jobId) {
+    if (!localJobIds.add(jobId)) {
+      return;
+    }
+
+    analysisExecutor.execute(() -> {
+      try {
+        run(jobId);
+      } finally {
+        localJobIds.remove(jobId);
+      }
+    });
+  }
+
+  // 워커 스레드에서 실행된다. 상태 변경만 짧은 트랜잭션으로 처리하고 LLM 호출은 트랜잭션 밖에서 한다
+  void run(Long jobId) {
+    Long applicationId = transactionTemplate.execute(status -> {
+      LocalDateTime now = LocalDateTime.now();
+      int claimed = analysisJobRepository.claim(jobId, now, staleBefore(now),
+          AnalysisJobStatus.PENDING, AnalysisJobStatus.RUNNING);
+
+      // 이미 끝났거나 다른 서버가 실행 중인 작업
+      if (claimed == 0) {
+        return null;
+      }
+
+      return analysisJobRepository.findById(jobId).map(AnalysisJob::getApplicationId).orElse(null);
+    });
+
+    if (applicationId == null) {
+      return;
+    }
+
+    runningJobIds.add(jobId);
+    try {
+      AnalysisResult result = analysisService.createAnalysisResult(applicationId);
+      updateJob(jobId, job -> job.complete(result.getId()));
+    } catch (Exception e) {
+      log.warn("분석 작업 실패 - jobId: {}, applicationId: {}", jobId, applicationId, e);
+      updateJob(jobId, job -> job.fail(e.getMessage()));
+    } finally {
+      runningJobIds.remove(jobId);
+    }
+  }
+
+  private LocalDateTime staleBefore(LocalDateTime now) {
+    return now.minus(staleAfter);
+  }
+
+  // 하트비트가 끊긴 사이 다른 서버가 이어받아 먼저 끝냈다면 그 결과를 덮어쓰지 않는다
+  private void updateJob(Long jobId, Consumer<AnalysisJob> change) {
+    transactionTemplate.executeWithoutResult(status ->
+        analysisJobRepository.findById(jobId)
+            .filter(job -> !job.isFinished())
+            .ifPresent(change)
+    );
+  }
+}
@@ -0,0 +1,229 @@
+package com.devmatch.backend.domain.analysis.service;
+
+import com.devmatch.backend.domain.analysis.dto.CompatibilityAnalysis;
+import com.devmatch.backend.domain.analysis.dto.CompatibilityPromptInput;
+import com.devmatch.backend.domain.analysis.dto.CompatibilityPromptInput.SkillLine;
+import com.devmatch.backend.domain.project.entity.Tech;
+import com.devmatch.backend.standard.util.Ut;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+
+// LLM 프롬프트 생성과 응답 파싱. 엔티티/트랜잭션에 의존하지 않는 순수 함수로 둔다
+@Slf4j
+public class AnalysisPrompts {
+
+  // 프롬프트 문구나 파싱 규칙이 바뀌면 올려서 이전 캐시를 무효화한다
+  private static final String COMPATIBILITY_PROMPT_VERSION = "v1";
+
+  private static final String HEADER = "당신은 친화적이고 관대한 IT 프로젝트 전문 분석가입니다. 팀 프로젝트의 협업 가치를 중시하며, 지원자의 잠재력을 긍정적으로 평가해주세요.\n\n";
+
+  private static final BigDecimal MIN_SCORE = BigDecimal.ZERO;
+  private static final BigDecimal MAX_SCORE = new BigDecimal("100");
+  private static final BigDecimal LOW_SCORE_THRESHOLD = new BigDecimal("25");
+  private static final BigDecimal ADJUSTED_MIN_SCORE = new BigDecimal("45.00");
+
+  public static String compatibility(CompatibilityPromptInput input) {
+    StringBuilder prompt = new StringBuilder();
+    prompt.append(HEADER);
+
+    appendProjectInfo(prompt, input);
+
+    prompt.append("지원자 기술 역량:\n");
+    for (SkillLine skill : input.skills()) {
+      prompt.append("- ").append(skill.techName())
+          .append(": ").append(skill.score()).append("/10점\n");
+    }
+
+    appendScoringGuide(prompt);
+
+    prompt.append("🎯 응답 형식 (긍정적 평가로):\n");
+    prompt.append("[점수]|[긍정적 이유]\n\n");
+    prompt.append("📋 규칙:\n");
+    prompt.append("1. 점수는 40.00-100.00 사이 (팀 프로젝트 특성상 대부분 40점 이상)\n");
+    prompt.append("2. | 문자로 점수와 이유를 구분\n");
+    prompt.append("3. 이유는 긍정적이고 구체적으로 (기여할 수 있는 부분 강조)\n");
+    prompt.append("4. 다른 텍스트 절대 포함 금지\n\n");
+    prompt.append("✨ 예시:\n");
+    prompt.append("- 78.50|Java/Spring Boot 전문가로 백엔드 개발을 주도할 수 있으며, 팀원과 협업하여 프론트엔드도 학습 가능\n");
+    prompt.append("- 72.00|React 숙련자로 프론트엔드 담당 가능, 백엔드 API 연동 경험으로 팀 협업에 유리\n");
+    prompt.append("- 58.00|기본기가 탄탄하여 특정 분야 담당하며 다른 기술도 빠르게 습득 가능\n\n");
+    prompt.append("응답:");
+
+    return prompt.toString();
+  }
+
+  // 프롬프트를 결정하는 입력만 정규화해 해시한다 (기술 스택/기술 점수의 순서와 대소문자는 무시)
+  public static String compatibilityCacheKey(CompatibilityPromptInput input) {
+    String techStack = input.techStack() == null ? "" : Arrays.stream(input.techStack().split(","))
+        .map(Tech::normalize)
+        .filter(tech -> !tech.isEmpty())
+        .sorted()
+        .collect(Collectors.joining(","));
+
+    String skills = input.skills().stream()
+        .sorted(Comparator.comparing((SkillLine skill) -> Tech.normalize(skill.techName()))
+            .thenComparingInt(SkillLine::score))
+        .map(skill -> Tech.normalize(skill.techName()) + ":" + skill.score())
+        .collect(Collectors.joining(","));
+
+    String normalized = String.join("\n",
+        COMPATIBILITY_PROMPT_VERSION,
+        input.projectDescription() == null ? "" : input.projectDescription().strip(),
+        String.valueOf(input.teamSize()),
+        String.valueOf(input.durationWeeks()),
+        techStack,
+        skills
+    );
+
+    return Ut.hash.sha256Hex(normalized);
+  }
+
+  // 여러 지원자를 한 프롬프트에 담는다. 응답은 지원자마다 "[지원서번호]|[점수]|[이유]" 한 줄
+  public static String batchCompatibility(List<CompatibilityPromptInput> inputs) {
+    StringBuilder prompt = new StringBuilder();
+    prompt.append(HEADER);
+
+    appendProjectInfo(prompt, inputs.getFirst());
+
+    prompt.append("지원자 목록:\n");
+    for (CompatibilityPromptInput input : inputs) {
+      prompt.append("[지원서 ").append(input.applicationId()).append("]\n");
+      for (SkillLine skill : input.skills()) {
+        prompt.append("- ").append(skill.techName())
+            .append(": ").append(skill.score()).append("/10점\n");
+      }
+    }
+
+    appendScoringGuide(prompt);
+
+    prompt.append("🎯 응답 형식 (지원자마다 한 줄, 긍정적 평가로):\n");
+    prompt.append("[지원서번호]|[점수]|[긍정적 이유]\n\n");
+    prompt.append("📋 규칙:\n");
+    prompt.append("1. 지원자 목록의 모든 지원서에 대해 정확히 한 줄씩 응답\n");
+    prompt.append("2. 지원서번호는 숫자만 (대괄호 제외)\n");
+    prompt.append("3. 점수는 40.00-100.00 사이 (팀 프로젝트 특성상 대부분 40점 이상)\n");
+    prompt.append("4. | 문자로 지원서번호, 점수, 이유를 구분\n");
+    prompt.append("5. 다른 텍스트 절대 포함 금지\n\n");
+    prompt.append("✨ 예시:\n");
+    prompt.append("12|78.50|Java/Spring Boot 전문가로 백엔드 개발을 주도할 수 있음\n");
+    prompt.append("15|72.00|React 숙련자로 프론트엔드 담당 가능\n\n");
+    prompt.append("응답:");
+
+    return prompt.toString();
+  }
+
+  private static void appendProjectInfo(StringBuilder prompt, CompatibilityPromptInput input) {
+    prompt.append("프로젝트 정보:\n");
+    prompt.append("- 프로젝트: ").append(input.projectDescription()).append("\n");
+    prompt.append("- 팀 규모: ").append(input.teamSize()).append("명 (역할 분담 가능)\n");
+    prompt.append("- 프로젝트 기간: ").append(input.durationWeeks()).append("주 (학습 시간 충분)\n");
+    prompt.append("- 필요 기술: ").append(input.techStack()).append("\n\n");
+  }
+
+  private static void appendScoringGuide(StringBuilder prompt) {
+    prompt.append("\n✨ 긍정적 평가 기준:\n");
+    prompt.append("1. 🎯 전문 분야: 한 분야에 7점 이상이면 해당 분야 전문가로 인정\n");
+    prompt.append("2. 🤝 팀워크: 프론트엔드 또는 백엔드 중 하나만 잘해도 충분히 기여 가능\n");
+    prompt.append("3. 📚 성장성: 기본 점수(3-4점)도 팀 협업으로 빠른 성장 가능\n");
+    prompt.append("4. 🔧 상호보완: 팀원들의 기술이 서로 보완되어 시너지 효과\n");
+    prompt.append("5. 💡 학습력: 실제 프로젝트를 통한 실무 경험으로 급속 성장\n\n");
+
+    prompt.append("🎉 관대한 점수 가이드라인 (팀 프로젝트 특성 반영):\n");
+    prompt.append("85-100: 핵심 기술 전문가 - 팀을 리드하며 다른 팀원들을 가르칠 수 있음\n");
+    prompt.append("70-84: 특정 분야 숙련자 - 자신의 전문 분야를 담당하며 안정적으로 기여\n");
+    prompt.append("55-69: 기여 가능한 팀원 - 일부 기술에 능숙하여 특정 역할 담당 + 다른 분야 학습\n");
+    prompt.append("40-54: 성장형 팀원 - 기본기가 있어 팀원들과 협업하며 빠르게 성장 가능\n");
+    prompt.append("25-39: 학습 의지형 - 현재는 기초적이지만 프로젝트를 통해 실력 향상 기대\n");
+    prompt.append("0-24: 현재로서는 참여 어려움 (매우 드문 경우)\n\n");
+
+    prompt.append("💝 특별 고려사항:\n");
+    prompt.append("- 프론트엔드 전문가(React/Vue 7점+): 백엔드를 모르더라도 75점 이상\n");
+    prompt.append("- 백엔드 전문가(Java/Spring 7점+): 프론트엔드를 모르더라도 75점 이상\n");
+    prompt.append("- 풀스택 지향(양쪽 5점+): 다재다능함으로 80점 이상\n");
+    prompt.append("- 성장 의지 보이는 초보자도 최소 45점 이상 부여\n\n");
+  }
+
+  public static CompatibilityAnalysis parseCompatibility(String aiResponse) {
+    String[] parts = aiResponse.split("\\|");
+
+    if (parts.length < 2) {
+      log.debug("AI 응답 파싱 실패 - parts 길이: {}", parts.length);
+      throw new IllegalArgumentException("AI 응답 형식이 올바르지 않습니다. 응답: " + aiResponse);
+    }
+
+    return toCompatibilityAnalysis(parts[0], parts[1], aiResponse);
+  }
+
+  // 형식이 맞지 않는 줄이나 요청하지 않은 지원서번호는 버린다. 빠진 지원서는 호출한 쪽에서 개별 분석한다.
+  // 점수/이유가 깨진 줄마다 onMalformedLine 을 호출해 호출한 쪽이 파싱 실패를 집계할 수 있게 한다
+  public static Map<Long, CompatibilityAnalysis> parseBatchCompatibility(
+      String aiResponse,
+      Collection<Long> applicationIds,
+      Runnable onMalformedLine
+  ) {
+    Map<Long, CompatibilityAnalysis> analyses = new LinkedHashMap<>();
+
+    for (String line : aiResponse.split("\\R")) {
+      String[] parts = line.split("\\|", 3);
+      if (parts.length < 3) {
+        continue;
+      }
+
+      String digits = parts[0].replaceAll("[^0-9]", "");
+      if (digits.isEmpty()) {
+        continue;
+      }
+
+      Long applicationId = Long.valueOf(digits);
+      if (!applicationIds.contains(applicationId) || analyses.containsKey(applicationId)) {
+        continue;
+      }
+
+      try {
+        analyses.put(applicationId, toCompatibilityAnalysis(parts[1], parts[2], line));
+      } catch (IllegalArgumentException e) {
+        onMalformedLine.run();
+        log.warn("AI 일괄 응답 줄 파싱 실패 - applicationId: {}, 원인: {}", applicationId, e.getMessage());
+      }
+    }
+
+    return analyses;
+  }
+
+  private static CompatibilityAnalysis toCompatibilityAnalysis(
+      String scoreText,
+      String reasonText,
+      String aiResponse
+  ) {
+    BigDecimal score;
+    try {
+      score = new BigDecimal(scoreText.trim());
+
+      if (score.compareTo(MIN_SCORE) < 0 || score.compareTo(MAX_SCORE) > 0) {
+        throw new IllegalArgumentException("점수는 0에서 100 사이여야 합니다. 받은 점수: " + score);
+      }
+
+      // 관대한 평가 권장 - 너무 낮은 점수일 경우 최소 점수로 조정
+      if (score.compareTo(LOW_SCORE_THRESHOLD) < 0) {
+        log.debug("AI가 너무 낮은 점수({})를 부여해 최소 점수로 조정합니다", score);
+        score = ADJUSTED_MIN_SCORE; // 최소 45점으로 조정
+      }
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("점수 형식이 올바르지 않습니다. 응답: " + scoreText.trim(), e);
+    }
+
+    String reason = reasonText.trim();
+    if (reason.isEmpty()) {
+      throw new IllegalArgumentException("이유가 비어있습니다. 응답: " + aiResponse);
+    }
+
+    return new CompatibilityAnalysis(score, reason);
+  }
+}
@@ -1,5 +1,8 @@
 package com.devmatch.backend.domain.analysis.service;
 
+import com.devmatch.backend.domain.analysis.dto.CompatibilityAnalysis;
+import com.devmatch.backend.domain.analysis.dto.CompatibilityPromptInput;
+import com.devmatch.backend.domain.analysis.dto.SkillMatchRankingResponse;
 import com.devmatch.backend.domain.analysis.entity.AnalysisResult;
 import com.devmatch.backend.domain.analysis.repository.AnalysisRepository;
 import com.devmatch.backend.domain.application.entity.Application;
@@ -8,23 +11,40 @@ import com.devmatch.backend.domain.application.enums.ApplicationStatus;
 import com.devmatch.backend.domain.application.service.ApplicationService;
 import com.devmatch.backend.domain.project.entity.Project;
 import com.devmatch.backend.domain.project.service.ProjectService;
+import com.devmatch.backend.global.ai.LlmClient;
+import com.devmatch.backend.global.ai.LlmUnavailableException;
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.RequiredArgsConstructor;
-import org.springframework.ai.chat.model.ChatModel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.scheduler.Schedulers;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AnalysisService {
 
+  private static final long ROLE_ASSIGNMENT_STREAM_TIMEOUT_MILLIS = 3 * 60 * 1000L;
+
   private final AnalysisRepository analysisRepository;
   private final ApplicationService applicationService;
   private final ProjectService projectService;
+  private final TransactionTemplate transactionTemplate;
+  private final CompatibilityCache compatibilityCache;
 
-  private final ChatModel chatModel;
+  private final LlmClient llmClient;
 
   @Transactional(readOnly = true)
   public AnalysisResult getAnalysisResult(Long applicationId) {
@@ -34,167 +54,217 @@ public class AnalysisService {
         ));
   }
 
-  @Transactional
+  // LLM 호출 동안 DB 커넥션을 잡고 있지 않도록 조회 -> LLM 호출 -> 저장을 각각 나눠 실행한다
   public AnalysisResult createAnalysisResult(Long applicationId) {
-    Application application = applicationService.getApplicationByApplicationId(applicationId);
-
-    Project project = application.getProject();
-    List<SkillScore> userSkills = application.getSkillScore();
-
-    StringBuilder prompt = new StringBuilder();
-    prompt.append("당신은 친화적이고 관대한 IT 프로젝트 전문 분석가입니다. 팀 프로젝트의 협업 가치를 중시하며, 지원자의 잠재력을 긍정적으로 평가해주세요.\n\n");
-    
-    prompt.append("프로젝트 정보:\n");
-    prompt.append("- 프로젝트: ").append(project.getDescription()).append("\n");
-    prompt.append("- 팀 규모: ").append(project.getTeamSize()).append("명 (역할 분담 가능)\n");
-    prompt.append("- 프로젝트 기간: ").append(project.getDurationWeeks()).append("주 (학습 시간 충분)\n");
-    prompt.append("- 필요 기술: ").append(project.getTechStack()).append("\n\n");
-    
-    prompt.append("지원자 기술 역량:\n");
-    for (SkillScore skill : userSkills) {
-      prompt.append("- ").append(skill.getTechName())
-          .append(": ").append(skill.getScore()).append("/10점\n");
-    }
-    
-    prompt.append("\n✨ 긍정적 평가 기준:\n");
-    prompt.append("1. 🎯 전문 분야: 한 분야에 7점 이상이면 해당 분야 전문가로 인정\n");
-    prompt.append("2. 🤝 팀워크: 프론트엔드 또는 백엔드 중 하나만 잘해도 충분히 기여 가능\n");
-    prompt.append("3. 📚 성장성: 기본 점수(3-4점)도 팀 협업으로 빠른 성장 가능\n");
-    prompt.append("4. 🔧 상호보완: 팀원들의 기술이 서로 보완되어 시너지 효과\n");
-    prompt.append("5. 💡 학습력: 실제 프로젝트를 통한 실무 경험으로 급속 성장\n\n");
-    
-    prompt.append("🎉 관대한 점수 가이드라인 (팀 프로젝트 특성 반영):\n");
-    prompt.append("85-100: 핵심 기술 전문가 - 팀을 리드하며 다른 팀원들을 가르칠 수 있음\n");
-    prompt.append("70-84: 특정 분야 숙련자 - 자신의 전문 분야를 담당하며 안정적으로 기여\n");
-    prompt.append("55-69: 기여 가능한 팀원 - 일부 기술에 능숙하여 특정 역할 담당 + 다른 분야 학습\n");
-    prompt.append("40-54: 성장형 팀원 - 기본기가 있어 팀원들과 협업하며 빠르게 성장 가능\n");
-    prompt.append("25-39: 학습 의지형 - 현재는 기초적이지만 프로젝트를 통해 실력 향상 기대\n");
-    prompt.append("0-24: 현재로서는 참여 어려움 (매우 드문 경우)\n\n");
-    
-    prompt.append("💝 특별 고려사항:\n");
-    prompt.append("- 프론트엔드 전문가(React/Vue 7점+): 백엔드를 모르더라도 75점 이상\n");
-    prompt.append("- 백엔드 전문가(Java/Spring 7점+): 프론트엔드를 모르더라도 75점 이상\n");
-    prompt.append("- 풀스택 지향(양쪽 5점+): 다재다능함으로 80점 이상\n");
-    prompt.append("- 성장 의지 보이는 초보자도 최소 45점 이상 부여\n\n");
-
-    prompt.append("🎯 응답 형식 (긍정적 평가로):\n");
-    prompt.append("[점수]|[긍정적 이유]\n\n");
-    prompt.append("📋 규칙:\n");
-    prompt.append("1. 점수는 40.00-100.00 사이 (팀 프로젝트 특성상 대부분 40점 이상)\n");
-    prompt.append("2. | 문자로 점수와 이유를 구분\n");
-    prompt.append("3. 이유는 긍정적이고 구체적으로 (기여할 수 있는 부분 강조)\n");
-    prompt.append("4. 다른 텍스트 절대 포함 금지\n\n");
-    prompt.append("✨ 예시:\n");
-    prompt.append("- 78.50|Java/Spring Boot 전문가로 백엔드 개발을 주도할 수 있으며, 팀원과 협업하여 프론트엔드도 학습 가능\n");
-    prompt.append("- 72.00|React 숙련자로 프론트엔드 담당 가능, 백엔드 API 연동 경험으로 팀 협업에 유리\n");
-    prompt.append("- 58.00|기본기가 탄탄하여 특정 분야 담당하며 다른 기술도 빠르게 습득 가능\n\n");
-    prompt.append("응답:");
-
-    String aiResponse = chatModel.call(prompt.toString());
-    
-    // 응답 디버깅
-    System.out.println("AI 원본 응답: " + aiResponse);
-
-    String[] parts = aiResponse.split("\\|");
-
-    if (parts.length < 2) {
-      System.err.println("AI 응답 파싱 실패 - parts 길이: " + parts.length);
-      System.err.println("전체 프롬프트: " + prompt.toString());
-      throw new IllegalArgumentException("AI 응답 형식이 올바르지 않습니다. 응답: " + aiResponse);
-    }
+    CompatibilityPromptInput promptInput = getCompatibilityPromptInput(applicationId);
+    CompatibilityAnalysis analysis = analyzeCompatibility(promptInput);
 
-    BigDecimal score;
-    try {
-      score = new BigDecimal(parts[0].trim());
+    return saveAnalysisResult(applicationId, analysis);
+  }
 
-      if (score.compareTo(BigDecimal.ZERO) < 0 || score.compareTo(new BigDecimal("100")) > 0) {
-        throw new IllegalArgumentException("점수는 0에서 100 사이여야 합니다. 받은 점수: " + score);
-      }
-      
-      // 관대한 평가 권장 - 너무 낮은 점수일 경우 최소 점수로 조정
-      if (score.compareTo(new BigDecimal("25")) < 0) {
-        System.out.println("⚠️ AI가 너무 낮은 점수(" + score + ")를 부여했습니다. 팀 프로젝트 특성을 고려하여 최소 점수로 조정합니다.");
-        score = new BigDecimal("45.00"); // 최소 45점으로 조정
+  public CompatibilityPromptInput getCompatibilityPromptInput(Long applicationId) {
+    return transactionTemplate.execute(status -> {
+      Application application = applicationService.getApplicationByApplicationId(applicationId);
+
+      // 이미 분석된 지원서라면 LLM을 호출하기 전에 실패시킨다
+      if (application.getAnalysisResult() != null) {
+        throw new IllegalArgumentException(
+            "현재 지원서(지원서 %d번)에 분석 결과(분석 결과 %d번)가 이미 존재합니다"
+                .formatted(applicationId, application.getAnalysisResult().getId())
+        );
       }
-    } catch (NumberFormatException e) {
-      throw new IllegalArgumentException("점수 형식이 올바르지 않습니다. 응답: " + parts[0].trim(), e);
-    }
 
-    String reason = parts[1].trim();
-    if (reason.isEmpty()) {
-      throw new IllegalArgumentException("이유가 비어있습니다. 응답: " + aiResponse);
-    }
+      return CompatibilityPromptInput.from(application);
+    });
+  }
+
+  // 트랜잭션 밖에서 호출해야 한다. 프롬프트 입력이 같으면(temperature 0) 캐시된 결과를 재사용한다
+  public CompatibilityAnalysis analyzeCompatibility(CompatibilityPromptInput promptInput) {
+    String cacheKey = AnalysisPrompts.compatibilityCacheKey(promptInput);
+
+    return compatibilityCache.get(cacheKey)
+        .orElseGet(() -> {
+          CompatibilityAnalysis analysis = callCompatibility(promptInput);
+          compatibilityCache.put(cacheKey, analysis);
+          return analysis;
+        });
+  }
+
+  private CompatibilityAnalysis callCompatibility(CompatibilityPromptInput promptInput) {
+    String prompt = AnalysisPrompts.compatibility(promptInput);
+
+    // 형식이 어긋난 응답은 LlmClient 가 다시 호출한다
+    return llmClient.call(prompt, aiResponse -> {
+      log.debug("AI 원본 응답: {}", aiResponse);
+
+      return AnalysisPrompts.parseCompatibility(aiResponse);
+    });
+  }
+
+  public AnalysisResult saveAnalysisResult(Long applicationId, CompatibilityAnalysis analysis) {
+    return transactionTemplate.execute(status -> {
+      Application application = applicationService.getApplicationByApplicationId(applicationId);
 
-    AnalysisResult result = AnalysisResult.builder()
-        .application(application)
-        .compatibilityScore(score)
-        .compatibilityReason(reason)
-        .build();
+      AnalysisResult result = AnalysisResult.builder()
+          .application(application)
+          .compatibilityScore(analysis.score())
+          .compatibilityReason(analysis.reason())
+          .build();
 
-    applicationService.saveAnalysisResult(result.getApplication().getId(), result);
+      applicationService.saveAnalysisResult(applicationId, result);
 
-    return analysisRepository.save(result);
+      return analysisRepository.save(result);
+    });
   }
 
+  // LLM 을 부르지 않고 기술 일치 점수 순으로 지원서를 정렬한다 (점수 높은 순, 같으면 먼저 지원한 순).
+  // 점수 도입 전에 작성된 지원서는 저장하지 않고 응답에만 계산해 쓴다 (조회가 지원서 버전을 올리지 않도록)
   @Transactional(readOnly = true)
+  public List<SkillMatchRankingResponse> getSkillMatchRanking(Long projectId) {
+    projectService.getProject(projectId);
+
+    return applicationService.findAllWithAnalysisResultByProjectId(projectId).stream()
+        .map(application -> new SkillMatchRankingResponse(application, skillMatchScore(application)))
+        .sorted(Comparator.comparing(
+                SkillMatchRankingResponse::skillMatchScore, Comparator.reverseOrder())
+            .thenComparing(SkillMatchRankingResponse::applicationId))
+        .toList();
+  }
+
+  private static BigDecimal skillMatchScore(Application application) {
+    return application.getSkillMatchScore() != null
+        ? application.getSkillMatchScore()
+        : SkillMatchScorer.score(CompatibilityPromptInput.from(application));
+  }
+
+  // 결과 전체를 받은 뒤 한 번에 응답한다
   public String createTeamRoleAssignment(Long projectId) {
+    String prompt = getTeamRoleAssignmentPrompt(projectId);
+
+    return llmClient.call(prompt);
+  }
 
-    Project project = projectService.getProject(projectId);
+  /**
+   * 토큰이 도착하는 대로 SSE 로 전달하고("token" 이벤트), 완료되면 전체 결과를 Project.content 에 저장한 뒤
+   * "done" 이벤트로 보낸다.
+   * 클라이언트 연결이 끊기거나 emitter 가 타임아웃되면 결과를 받을 곳이 없으므로 상류 스트림을 끊어
+   * LLM 호출 허가를 바로 반납한다 (이때는 저장하지 않으며, 다시 요청하면 된다).
+   * 콜백은 블로킹 작업(SSE 전송, DB 저장)을 하므로 HTTP 클라이언트의 이벤트 루프가 아닌 boundedElastic 에서 실행한다.
+   */
+  public SseEmitter streamTeamRoleAssignment(Long projectId) {
+    String prompt = getTeamRoleAssignmentPrompt(projectId);
 
-    List<Application> approvedApplications = applicationService.findByProjectIdAndStatus(
-        projectId,
-        ApplicationStatus.APPROVED
-    );
+    SseEmitter emitter = new SseEmitter(ROLE_ASSIGNMENT_STREAM_TIMEOUT_MILLIS);
+    AtomicBoolean clientConnected = new AtomicBoolean(true);
+    // 구독이 만들어지기 전에 연결이 끊겨도 update 시점에 바로 끊긴다
+    Disposable.Swap subscription = Disposables.swap();
+    Runnable disconnect = () -> {
+      clientConnected.set(false);
+      subscription.dispose();
+    };
+    emitter.onCompletion(disconnect);
+    emitter.onTimeout(disconnect);
+    emitter.onError(e -> disconnect.run());
 
-    if (approvedApplications.size() != project.getTeamSize()) {
-      throw new IllegalArgumentException(
-          "프로젝트 필요 팀원 수만큼 승인된 지원자가 모이지 않았습니다. " +
-              "프로젝트 팀원 수: " + project.getTeamSize() +
-              ", 승인된 지원자 수: " + approvedApplications.size()
-      );
-    }
+    StringBuilder roleAssignment = new StringBuilder();
 
-    StringBuilder prompt = new StringBuilder();
-
-    // 프로젝트 컨텍스트 분석
-    prompt.append("🎯 프로젝트 분석 및 팀 역할 배분\n\n");
-    prompt.append("📋 프로젝트 정보:\n");
-    prompt.append("- 프로젝트: ").append(project.getDescription()).append("\n");
-    prompt.append("- 팀 규모: ").append(project.getTeamSize()).append("명\n");
-    prompt.append("- 프로젝트 기간: ").append(project.getDurationWeeks()).append("주\n\n");
-
-    // 각 팀원의 기술 스택 점수 상세 분석
-    prompt.append("👥 팀원 기술 역량 분석:\n");
-    for (int i = 0; i < approvedApplications.size(); i++) {
-      Application application = approvedApplications.get(i);
-      prompt.append("팀원 ").append(i + 1).append(": ").append(application.getUser().getNickName()).append("\n");
-
-      List<SkillScore> skills = application.getSkillScore();
-      for (SkillScore skill : skills) {
-        prompt.append("  • ").append(skill.getTechName())
-            .append(": ").append(skill.getScore()).append("/10점\n");
-      }
-      prompt.append("\n");
+    subscription.update(llmClient.stream(prompt)
+        .publishOn(Schedulers.boundedElastic())
+        .subscribe(
+            token -> {
+              roleAssignment.append(token);
+              send(emitter, clientConnected, "token", Map.of("token", token));
+            },
+            error -> {
+              log.warn("팀 역할 분배 스트리밍 실패 - projectId: {}", projectId, error);
+              String message = error instanceof LlmUnavailableException
+                  ? error.getMessage()
+                  : "AI 역할 분배에 실패했습니다.";
+              send(emitter, clientConnected, "error", Map.of("message", message));
+              emitter.complete();
+            },
+            () -> {
+              String content = roleAssignment.toString().strip();
+              try {
+                projectService.modifyContent(projectId, content);
+                send(emitter, clientConnected, "done", Map.of("content", content));
+              } catch (RuntimeException e) {
+                log.warn("팀 역할 분배 저장 실패 - projectId: {}", projectId, e);
+                send(emitter, clientConnected, "error", Map.of("message", "AI 역할 분배 저장에 실패했습니다."));
+              }
+              emitter.complete();
+            }
+        ));
+
+    return emitter;
+  }
+
+  // 토큰의 앞뒤 공백이 SSE data 필드 규칙에 잘리지 않도록 JSON 으로 감싸 보낸다
+  private void send(SseEmitter emitter, AtomicBoolean clientConnected, String name, Object data) {
+    if (!clientConnected.get()) {
+      return;
     }
 
-    // 🤖 AI 역할 분배 지침 (간결하게)
-    prompt.append("🎯 각 팀원의 최고 점수 기술을 기준으로 역할을 배정하세요.\n\n");
-    
-    prompt.append("🚨 출력 규칙:\n");
-    prompt.append("1. 한국어로만 응답\n");
-    prompt.append("2. 서론/설명 없이 바로 결과만 출력\n");
-    prompt.append("3. 형식: '팀원명 - 역할 | 이유'\n");
-    prompt.append("4. 각 팀원마다 한 줄씩\n\n");
-
-    prompt.append("역할 분배:");
-
-    String aiResponse = chatModel.call(prompt.toString());
-    
-    // 응답 길이 제한 (데이터베이스 VARCHAR(255) 제약 준수)
-    if (aiResponse.length() > 250) {
-      aiResponse = aiResponse.substring(0, 250) + "...";
+    try {
+      emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+    } catch (IOException | IllegalStateException e) {
+      clientConnected.set(false);
     }
-    
-    return aiResponse;
   }
-}
\ No newline at end of file
+
+  // 승인된 팀원 검증과 프롬프트 생성만 트랜잭션 안에서 하고, LLM 호출은 트랜잭션 밖에서 한다
+  private String getTeamRoleAssignmentPrompt(Long projectId) {
+    return transactionTemplate.execute(status -> {
+      Project project = projectService.getProject(projectId);
+
+      List<Application> approvedApplications = applicationService.findByProjectIdAndStatus(
+          projectId,
+          ApplicationStatus.APPROVED
+      );
+
+      if (approvedApplications.size() != project.getTeamSize()) {
+        throw new IllegalArgumentException(
+            "프로젝트 필요 팀원 수만큼 승인된 지원자가 모이지 않았습니다. " +
+                "프로젝트 팀원 수: " + project.getTeamSize() +
+                ", 승인된 지원자 수: " + approvedApplications.size()
+        );
+      }
+
+      StringBuilder prompt = new StringBuilder();
+
+      // 프로젝트 컨텍스트 분석
+      prompt.append("🎯 프로젝트 분석 및 팀 역할 배분\n\n");
+      prompt.append("📋 프로젝트 정보:\n");
+      prompt.append("- 프로젝트: ").append(project.getDescription()).append("\n");
+      prompt.append("- 팀 규모: ").append(project.getTeamSize()).append("명\n");
+      prompt.append("- 프로젝트 기간: ").append(project.getDurationWeeks()).append("주\n\n");
+
+      // 각 팀원의 기술 스택 점수 상세 분석
+      prompt.append("👥 팀원 기술 역량 분석:\n");
+      for (int i = 0; i < approvedApplications.size(); i++) {
+        Application application = approvedApplications.get(i);
+        prompt.append("팀원 ").append(i + 1).append(": ").append(application.getUser().getNickName()).append("\n");
+
+        List<SkillScore> skills = application.getSkillScore();
+        for (SkillScore skill : skills) {
+          prompt.append("  • ").append(skill.getTechName())
+              .append(": ").append(skill.getScore()).append("/10점\n");
+        }
+        prompt.append("\n");
+      }
+
+      // 🤖 AI 역할 분배 지침 (간결하게)
+      prompt.append("🎯 각 팀원의 최고 점수 기술을 기준으로 역할을 배정하세요.\n\n");
+
+      prompt.append("🚨 출력 규칙:\n");
+      prompt.append("1. 한국어로만 응답\n");
+      prompt.append("2. 서론/설명 없이 바로 결과만 출력\n");
+      prompt.append("3. 형식: '팀원명 - 역할 | 이유'\n");
+      prompt.append("4. 각 팀원마다 한 줄씩\n\n");
+
+      prompt.append("역할 분배:");
+
+      return prompt.toString();
+    });
+  }
+}
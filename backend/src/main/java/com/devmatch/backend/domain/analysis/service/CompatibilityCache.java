@@ -0,0 +1,89 @@
+package com.devmatch.backend.domain.analysis.service;
+
+import com.devmatch.backend.domain.analysis.dto.CompatibilityAnalysis;
+import com.devmatch.backend.domain.analysis.entity.AnalysisCacheEntry;
+import com.devmatch.backend.domain.analysis.repository.AnalysisCacheEntryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 정규화한 프롬프트 입력의 해시를 키로 LLM 적합도 분석 결과를 재사용한다.
+ * 1차는 메모리 LRU(TTL), persistent 옵션이 켜져 있으면 2차로 DB 테이블을 조회한다.
+ */
+@Slf4j
+@Component
+public class CompatibilityCache {
+
+  private final Cache<String, CompatibilityAnalysis> memory;
+  private final AnalysisCacheEntryRepository analysisCacheEntryRepository;
+  private final boolean persistent;
+  private final Duration ttl;
+
+  public CompatibilityCache(
+      AnalysisCacheEntryRepository analysisCacheEntryRepository,
+      @Value("${custom.analysis.cache.maxSize:10000}") long maxSize,
+      @Value("${custom.analysis.cache.ttlSeconds:604800}") long ttlSeconds,
+      @Value("${custom.analysis.cache.persistent:false}") boolean persistent
+  ) {
+    this.analysisCacheEntryRepository = analysisCacheEntryRepository;
+    this.persistent = persistent;
+    this.ttl = Duration.ofSeconds(ttlSeconds);
+    this.memory = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttl)
+        .build();
+  }
+
+  public Optional<CompatibilityAnalysis> get(String key) {
+    CompatibilityAnalysis cached = memory.getIfPresent(key);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+
+    if (!persistent) {
+      return Optional.empty();
+    }
+
+    return analysisCacheEntryRepository.findByCacheKey(key)
+        .filter(entry -> entry.getCreatedAt() == null
+            || entry.getCreatedAt().isAfter(LocalDateTime.now().minus(ttl)))
+        .map(entry -> {
+          CompatibilityAnalysis analysis = new CompatibilityAnalysis(
+              entry.getCompatibilityScore(),
+              entry.getCompatibilityReason()
+          );
+          memory.put(key, analysis);
+          return analysis;
+        });
+  }
+
+  public void put(String key, CompatibilityAnalysis analysis) {
+    memory.put(key, analysis);
+
+    if (!persistent) {
+      return;
+    }
+
+    try {
+      if (analysisCacheEntryRepository.findByCacheKey(key).isEmpty()) {
+        analysisCacheEntryRepository.save(
+            new AnalysisCacheEntry(key, analysis.score(), analysis.reason())
+        );
+      }
+    } catch (DataIntegrityViolationException e) {
+      // 같은 키를 동시에 저장한 경우. 먼저 저장된 결과를 그대로 쓴다
+      log.debug("분석 캐시 키 중복 저장 무시: {}", key);
+    }
+  }
+
+  public void invalidateAll() {
+    memory.invalidateAll();
+  }
+}
@@ -0,0 +1,66 @@
+package com.devmatch.backend.domain.analysis.service;
+
+import com.devmatch.backend.domain.analysis.dto.CompatibilityPromptInput;
+import com.devmatch.backend.domain.analysis.dto.CompatibilityPromptInput.SkillLine;
+import com.devmatch.backend.domain.project.entity.Tech;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LLM 없이 계산하는 지원자-프로젝트 기술 일치 점수 (0.00 ~ 100.00).
+ * 프로젝트 요구 기술마다 지원자 점수(0~10)를 0~1 로 바꾼 벡터를 만들고 세 지표를 가중합한다.
+ * - 가중 커버리지(60%): 요구 기술 점수의 평균
+ * - 최고 숙련도(25%): 요구 기술 중 가장 높은 점수 (한 분야 전문가 인정)
+ * - 폭(15%): 요구 기술 중 5점 이상인 기술의 비율
+ * 같은 입력이면 항상 같은 점수가 나온다.
+ */
+public class SkillMatchScorer {
+
+  private static final double MAX_SKILL_SCORE = 10.0;
+  private static final double PROFICIENT_SKILL = 0.5;
+
+  private static final double COVERAGE_WEIGHT = 0.60;
+  private static final double MAX_SKILL_WEIGHT = 0.25;
+  private static final double BREADTH_WEIGHT = 0.15;
+
+  public static BigDecimal score(CompatibilityPromptInput input) {
+    List<String> requiredTechs = input.techStack() == null ? List.of() : Arrays.stream(input.techStack().split(","))
+        .map(Tech::normalize)
+        .filter(tech -> !tech.isEmpty())
+        .distinct()
+        .toList();
+
+    if (requiredTechs.isEmpty()) {
+      return BigDecimal.ZERO.setScale(2);
+    }
+
+    // 같은 기술을 여러 번 적었다면 높은 점수를 쓴다
+    Map<String, Double> skills = new HashMap<>();
+    for (SkillLine skill : input.skills()) {
+      double normalized = Math.clamp(skill.score() / MAX_SKILL_SCORE, 0.0, 1.0);
+      skills.merge(Tech.normalize(skill.techName()), normalized, Math::max);
+    }
+
+    double sum = 0;
+    double max = 0;
+    int proficient = 0;
+    for (String tech : requiredTechs) {
+      double skill = skills.getOrDefault(tech, 0.0);
+      sum += skill;
+      max = Math.max(max, skill);
+      if (skill >= PROFICIENT_SKILL) {
+        proficient++;
+      }
+    }
+
+    double coverage = sum / requiredTechs.size();
+    double breadth = (double) proficient / requiredTechs.size();
+    double score = 100 * (COVERAGE_WEIGHT * coverage + MAX_SKILL_WEIGHT * max + BREADTH_WEIGHT * breadth);
+
+    return BigDecimal.valueOf(score).setScale(2, RoundingMode.HALF_UP);
+  }
+}
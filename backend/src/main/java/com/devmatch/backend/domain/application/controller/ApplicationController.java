@@ -4,8 +4,11 @@ import com.devmatch.backend.domain.application.dto.request.ApplicationStatusUpda
 import com.devmatch.backend.domain.application.dto.response.ApplicationDetailResponseDto;
 import com.devmatch.backend.domain.application.service.ApplicationService;
 import com.devmatch.backend.global.ApiResponse;
+import com.devmatch.backend.global.web.ResourceVersion;
 import jakarta.validation.Valid;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -15,6 +18,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/applications")
@@ -26,19 +30,28 @@ public class ApplicationController {
   /**
    * 지원서 상세 조회 API
    *
+   * 수정 시각을 먼저 조회해 클라이언트가 가진 버전과 같으면 지원서를 읽지 않고 304 로 응답한다.
+   *
    * @param id 지원서 ID
    * @return 지원서 상세 정보
    */
   @GetMapping("/{id}")
   public ResponseEntity<ApiResponse<ApplicationDetailResponseDto>> getApplicationDetail(
-      @PathVariable Long id
+      @PathVariable Long id,
+      WebRequest request
   ) {
+    Optional<ResourceVersion> version = applicationService.getApplicationVersion(id);
+    if (version.isPresent() && version.get().checkNotModified(request)) {
+      return null;
+    }
+
     ApplicationDetailResponseDto applicationDetailResponseDto =
         applicationService.getApplicationDetail(id);
 
-    // 성공 응답
+    // 성공 응답 (지원자 정보가 담겨 있어 공유 캐시에는 저장하지 않는다)
     return ResponseEntity
         .status(HttpStatus.OK)
+        .cacheControl(CacheControl.noCache().cachePrivate())
         .body(
             new ApiResponse<>(
                 "%s 번 지원서의 상세 정보 조회를 성공했습니다."
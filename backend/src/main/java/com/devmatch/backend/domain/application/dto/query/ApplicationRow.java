@@ -0,0 +1,14 @@
+package com.devmatch.backend.domain.application.dto.query;
+
+import com.devmatch.backend.domain.application.enums.ApplicationStatus;
+import java.time.LocalDateTime;
+
+// 지원서 목록 조회용 프로젝션 (엔티티 그래프를 로딩하지 않고 필요한 컬럼만 조회)
+public record ApplicationRow(
+    Long applicationId,
+    String nickname,
+    ApplicationStatus status,
+    LocalDateTime appliedAt
+) {
+
+}
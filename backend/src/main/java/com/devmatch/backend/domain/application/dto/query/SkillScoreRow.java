@@ -0,0 +1,10 @@
+package com.devmatch.backend.domain.application.dto.query;
+
+// 지원서 목록 조회 시 IN 쿼리 한 번으로 가져오는 기술 점수 프로젝션
+public record SkillScoreRow(
+    Long applicationId,
+    String techName,
+    Integer score
+) {
+
+}
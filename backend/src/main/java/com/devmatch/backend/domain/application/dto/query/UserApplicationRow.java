@@ -0,0 +1,19 @@
+package com.devmatch.backend.domain.application.dto.query;
+
+import com.devmatch.backend.domain.application.enums.ApplicationStatus;
+import com.devmatch.backend.domain.project.entity.ProjectStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 내 지원서 목록용 프로젝션. 분석 전인 지원서는 compatibilityScore 가 null
+public record UserApplicationRow(
+    Long applicationId,
+    Long projectId,
+    String projectTitle,
+    ProjectStatus projectStatus,
+    ApplicationStatus status,
+    LocalDateTime appliedAt,
+    BigDecimal compatibilityScore
+) {
+
+}
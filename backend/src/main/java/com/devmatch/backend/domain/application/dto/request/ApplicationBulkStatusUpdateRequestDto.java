@@ -0,0 +1,25 @@
+package com.devmatch.backend.domain.application.dto.request;
+
+import com.devmatch.backend.domain.application.enums.ApplicationStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+// 한 프로젝트의 여러 지원서 상태를 한 번에 바꾸는 요청
+public record ApplicationBulkStatusUpdateRequestDto(
+    @NotEmpty
+    @Size(max = 100)
+    List<@Valid @NotNull Item> applications
+) {
+
+  public record Item(
+      @NotNull
+      Long applicationId,
+
+      @NotNull
+      ApplicationStatus status
+  ) {
+  }
+}
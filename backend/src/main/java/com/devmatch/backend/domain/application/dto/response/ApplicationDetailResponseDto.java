@@ -1,10 +1,14 @@
 package com.devmatch.backend.domain.application.dto.response;
 
+import com.devmatch.backend.domain.application.dto.query.ApplicationRow;
+import com.devmatch.backend.domain.application.dto.query.SkillScoreRow;
 import com.devmatch.backend.domain.application.entity.Application;
 import com.devmatch.backend.domain.application.entity.SkillScore;
 import com.devmatch.backend.domain.application.enums.ApplicationStatus;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 public record ApplicationDetailResponseDto(
     Long applicationId,       // 지원서 ID
@@ -29,4 +33,35 @@ public record ApplicationDetailResponseDto(
             .toList()
     );
   }
-}
\ No newline at end of file
+
+  public ApplicationDetailResponseDto(ApplicationRow row, List<SkillScoreRow> skillScores) {
+    this(
+        row.applicationId(),
+        row.nickname(),
+        row.status(),
+        row.appliedAt(),
+        skillScores.stream()
+            .map(SkillScoreRow::techName)
+            .toList(),
+        skillScores.stream()
+            .map(SkillScoreRow::score)
+            .toList()
+    );
+  }
+
+  // 지원서 프로젝션과 IN 쿼리로 한 번에 조회한 기술 점수를 지원서 ID 기준으로 묶어 응답 DTO 목록을 만든다
+  public static List<ApplicationDetailResponseDto> listOf(
+      List<ApplicationRow> rows,
+      List<SkillScoreRow> skillScores
+  ) {
+    Map<Long, List<SkillScoreRow>> skillScoresByApplicationId = skillScores.stream()
+        .collect(Collectors.groupingBy(SkillScoreRow::applicationId));
+
+    return rows.stream()
+        .map(row -> new ApplicationDetailResponseDto(
+            row,
+            skillScoresByApplicationId.getOrDefault(row.applicationId(), List.of())
+        ))
+        .toList();
+  }
+}
@@ -18,14 +18,20 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
@@ -37,7 +43,9 @@ public class Application {
 
   // 각 지원서를 구분하는 유일한 번호
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  // IDENTITY 는 insert 마다 키를 받아와야 해서 JDBC 배치가 꺼진다. 시퀀스를 50개씩 미리 받아(pooled) 배치로 insert 한다
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "applicationIdGenerator")
+  @SequenceGenerator(name = "applicationIdGenerator", sequenceName = "applications_seq", allocationSize = 50)
   @Column(name = "id")
   private Long id;
 
@@ -60,7 +68,12 @@ public class Application {
   @CreatedDate
   private LocalDateTime appliedAt;
 
+  // 마지막 수정 일시 (Last-Modified 응답 헤더, ETag)
+  @LastModifiedDate
+  private LocalDateTime updatedAt;
+
   // 지원자의 기술별 점수 저장
+  @BatchSize(size = 100)
   @OneToMany(mappedBy = "application", cascade = CascadeType.ALL, orphanRemoval = true)
   private List<SkillScore> skillScore = new ArrayList<>();
 
@@ -69,6 +82,16 @@ public class Application {
   @JoinColumn(name = "analysis_result_id")
   private AnalysisResult analysisResult;
 
+  // LLM 없이 계산한 기술 일치 점수 (SkillMatchScorer). 지원서 정렬에 쓰고, 적합도 분석(AnalysisResult)은 필요할 때만 요청한다
+  @Column(name = "skill_match_score", precision = 5, scale = 2)
+  private BigDecimal skillMatchScore;
+
+  // 같은 지원서를 동시에 승인/거절하면 나중에 커밋하는 쪽이 실패한다 (팀원 수 이중 반영 방지)
+  @Version
+  @ColumnDefault("0")
+  @Column(nullable = false)
+  private Long version;
+
   @Builder
   public Application(User user, Project project) {
     this.user = user;
@@ -83,6 +106,10 @@ public class Application {
     this.status = status;
   }
 
+  public void changeSkillMatchScore(BigDecimal skillMatchScore) {
+    this.skillMatchScore = skillMatchScore;
+  }
+
   public void setAnalysisResult(AnalysisResult analysisResult) {
     if (this.analysisResult != null) {
       throw new IllegalArgumentException(
@@ -8,6 +8,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,7 +22,9 @@ public class SkillScore {
 
   // 각 기술점수 기록을 구분하는 유일한 번호
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  // 지원서 하나에 여러 개가 함께 저장되므로 배치 insert 가 되도록 Application 과 같이 pooled 시퀀스를 쓴다
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "skillScoreIdGenerator")
+  @SequenceGenerator(name = "skillScoreIdGenerator", sequenceName = "skill_scores_seq", allocationSize = 50)
   @Column(name = "id")
   private Long id;
 
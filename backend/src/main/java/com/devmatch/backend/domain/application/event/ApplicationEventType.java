@@ -0,0 +1,7 @@
+package com.devmatch.backend.domain.application.event;
+
+public enum ApplicationEventType {
+  CREATED,        // 지원서 작성
+  STATUS_CHANGED, // 승인/거절 등 상태 변경
+  DELETED         // 지원서 삭제
+}
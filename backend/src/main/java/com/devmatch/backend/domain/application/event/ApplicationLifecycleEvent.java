@@ -0,0 +1,30 @@
+package com.devmatch.backend.domain.application.event;
+
+import com.devmatch.backend.domain.application.entity.Application;
+import com.devmatch.backend.domain.application.enums.ApplicationStatus;
+
+// 아웃박스에 기록되는 지원서 이벤트 내용. 작성 이벤트의 previousStatus, 삭제 이벤트의 status 는 null
+public record ApplicationLifecycleEvent(
+    Long applicationId,
+    Long projectId,
+    Long userId,
+    ApplicationStatus previousStatus,
+    ApplicationStatus status
+) {
+
+  public static final String AGGREGATE_TYPE = "Application";
+
+  public static ApplicationLifecycleEvent of(
+      Application application,
+      ApplicationStatus previousStatus,
+      ApplicationStatus status
+  ) {
+    return new ApplicationLifecycleEvent(
+        application.getId(),
+        application.getProject().getId(),
+        application.getUser().getId(),
+        previousStatus,
+        status
+    );
+  }
+}
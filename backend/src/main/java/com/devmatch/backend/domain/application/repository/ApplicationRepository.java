@@ -1,9 +1,18 @@
 package com.devmatch.backend.domain.application.repository;
 
+import com.devmatch.backend.domain.application.dto.query.ApplicationRow;
+import com.devmatch.backend.domain.application.dto.query.UserApplicationRow;
 import com.devmatch.backend.domain.application.entity.Application;
 import com.devmatch.backend.domain.application.enums.ApplicationStatus;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
 
@@ -13,4 +22,58 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
 
   List<Application> findByProjectIdAndStatus(Long projectId, ApplicationStatus status);
 
-}
\ No newline at end of file
+  List<Application> findAllByProjectIdAndAnalysisResultIsNullOrderByIdAsc(Long projectId);
+
+  List<Application> findAllByProjectIdAndIdIn(Long projectId, Collection<Long> ids);
+
+  // 같은 지원서에 대한 요청(분석 작업 등록 등)을 줄 세운다
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select a from Application a where a.id = :applicationId")
+  Optional<Application> findForUpdate(@Param("applicationId") Long applicationId);
+
+  // 수정 시각 컬럼 추가 전에 작성된 지원서는 지원 일시를 쓴다
+  @Query("select coalesce(a.updatedAt, a.appliedAt) from Application a where a.id = :applicationId")
+  Optional<LocalDateTime> findLastModifiedById(@Param("applicationId") Long applicationId);
+
+  @Query("select a.project.id from Application a where a.user.id = :userId")
+  List<Long> findProjectIdsByUserId(@Param("userId") Long userId);
+
+  @Query("""
+      select a from Application a
+      join fetch a.user
+      left join fetch a.analysisResult
+      where a.project.id = :projectId
+      """)
+  List<Application> findAllWithUserAndAnalysisResultByProjectId(@Param("projectId") Long projectId);
+
+  @Query("""
+      select new com.devmatch.backend.domain.application.dto.query.ApplicationRow(
+        a.id, u.nickname, a.status, a.appliedAt)
+      from Application a
+      join a.user u
+      where a.project.id = :projectId
+      order by a.id
+      """)
+  List<ApplicationRow> findRowsByProjectId(@Param("projectId") Long projectId);
+
+  @Query("""
+      select new com.devmatch.backend.domain.application.dto.query.ApplicationRow(
+        a.id, u.nickname, a.status, a.appliedAt)
+      from Application a
+      join a.user u
+      where u.id = :userId
+      order by a.id
+      """)
+  List<ApplicationRow> findRowsByUserId(@Param("userId") Long userId);
+
+  @Query("""
+      select new com.devmatch.backend.domain.application.dto.query.UserApplicationRow(
+        a.id, p.id, p.title, p.status, a.status, a.appliedAt, r.compatibilityScore)
+      from Application a
+      join a.project p
+      left join a.analysisResult r
+      where a.user.id = :userId
+      order by a.appliedAt desc, a.id desc
+      """)
+  List<UserApplicationRow> findUserApplicationRowsByUserId(@Param("userId") Long userId);
+}
@@ -1,8 +1,33 @@
 package com.devmatch.backend.domain.application.repository;
 
+import com.devmatch.backend.domain.application.dto.query.SkillScoreRow;
 import com.devmatch.backend.domain.application.entity.SkillScore;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface SkillScoreRepository extends JpaRepository<SkillScore, Long> {
 
+  @Query("""
+      select new com.devmatch.backend.domain.application.dto.query.SkillScoreRow(
+        s.application.id, s.techName, s.score)
+      from SkillScore s
+      where s.application.id in :applicationIds
+      order by s.id
+      """)
+  List<SkillScoreRow> findRowsByApplicationIdIn(
+      @Param("applicationIds") Collection<Long> applicationIds
+  );
+
+  // 사용자가 지금까지 작성한 모든 지원서의 기술 점수 (오래된 지원서부터)
+  @Query("""
+      select new com.devmatch.backend.domain.application.dto.query.SkillScoreRow(
+        s.application.id, s.techName, s.score)
+      from SkillScore s
+      where s.application.user.id = :userId
+      order by s.application.id, s.id
+      """)
+  List<SkillScoreRow> findRowsByUserId(@Param("userId") Long userId);
 }
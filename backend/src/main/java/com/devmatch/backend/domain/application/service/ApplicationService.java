@@ -1,31 +1,63 @@
 package com.devmatch.backend.domain.application.service;
 
+import com.devmatch.backend.domain.analysis.dto.CompatibilityPromptInput;
 import com.devmatch.backend.domain.analysis.entity.AnalysisResult;
+import com.devmatch.backend.domain.analysis.service.SkillMatchScorer;
+import com.devmatch.backend.domain.application.dto.query.ApplicationRow;
+import com.devmatch.backend.domain.application.dto.query.SkillScoreRow;
+import com.devmatch.backend.domain.application.dto.query.UserApplicationRow;
+import com.devmatch.backend.domain.application.dto.request.ApplicationBulkStatusUpdateRequestDto;
 import com.devmatch.backend.domain.application.dto.request.ApplicationStatusUpdateRequestDto;
 import com.devmatch.backend.domain.application.dto.response.ApplicationDetailResponseDto;
 import com.devmatch.backend.domain.application.entity.Application;
 import com.devmatch.backend.domain.application.entity.SkillScore;
 import com.devmatch.backend.domain.application.enums.ApplicationStatus;
+import com.devmatch.backend.domain.application.event.ApplicationEventType;
+import com.devmatch.backend.domain.application.event.ApplicationLifecycleEvent;
 import com.devmatch.backend.domain.application.repository.ApplicationRepository;
+import com.devmatch.backend.domain.application.repository.SkillScoreRepository;
 import com.devmatch.backend.domain.project.dto.ProjectApplyRequest;
 import com.devmatch.backend.domain.project.entity.Project;
+import com.devmatch.backend.domain.project.entity.Tech;
 import com.devmatch.backend.domain.project.service.ProjectService;
+import com.devmatch.backend.domain.project.service.ProjectStatsService;
 import com.devmatch.backend.domain.user.entity.User;
+import com.devmatch.backend.global.outbox.OutboxWriter;
 import com.devmatch.backend.global.rq.Rq;
+import com.devmatch.backend.global.web.ResourceVersion;
+import io.micrometer.core.annotation.Timed;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+@Timed("service.method")
 @Service
 @RequiredArgsConstructor
 public class ApplicationService {
 
+  // 같은 지원서를 동시에 수정해 버전 충돌이 났을 때 다시 시도하는 최대 횟수
+  private static final int MAX_STATUS_UPDATE_ATTEMPTS = 3;
+
   private final ApplicationRepository applicationRepository;
+  private final SkillScoreRepository skillScoreRepository;
   private final ProjectService projectService;
+  private final ProjectStatsService projectStatsService;
+  private final TransactionTemplate transactionTemplate;
+  private final OutboxWriter outboxWriter;
   private final Rq rq;
 
   // 지원서 작성 로직
@@ -56,8 +88,16 @@ public class ApplicationService {
 
     // 멘토링 피드백: 세이브를 명시적으로 표현해주는 게 좋음
     application.getSkillScore().addAll(skillScores);
+    application.changeSkillMatchScore(
+        SkillMatchScorer.score(CompatibilityPromptInput.from(application)));
+
+    // 통계는 지원서를 바꾸기 전에 반영한다 (통계 행이 없으면 현재 지원서로 다시 계산하므로)
+    projectStatsService.onApplicationCreated(projectId, application);
+
+    Application saved = applicationRepository.save(application);
+    appendEvent(ApplicationEventType.CREATED, saved, null, saved.getStatus());
 
-    return new ApplicationDetailResponseDto(applicationRepository.save(application));
+    return new ApplicationDetailResponseDto(saved);
   }
 
   // 프로젝트 ID로 해당 프로젝트에 지원한 모든 지원서들을 가져오는 지원서 전체 조회 로직
@@ -65,21 +105,32 @@ public class ApplicationService {
   public List<ApplicationDetailResponseDto> getApplicationsByProjectId(Long projectId) {
     projectService.getProject(projectId);
 
-    List<Application> applicationList = applicationRepository.findAllByProjectId(projectId);
-
-    return applicationList.stream()
-        .map(ApplicationDetailResponseDto::new)
-        .collect(Collectors.toList());
+    return toDetailResponses(applicationRepository.findRowsByProjectId(projectId));
   }
 
   // 사용자 ID로 사용자가 작성한 모든 지원서들을 가져오는 지원서 전체 조회 로직
   @Transactional(readOnly = true)
   public List<ApplicationDetailResponseDto> getApplicationsByUserId(Long userId) {
-    List<Application> applicationList = applicationRepository.findAllByUserId(userId);
+    return toDetailResponses(applicationRepository.findRowsByUserId(userId));
+  }
 
-    return applicationList.stream()
-        .map(ApplicationDetailResponseDto::new)
-        .collect(Collectors.toList());
+  // 프로젝트 제목과 적합도 점수를 조인해 한 번에 조회한다
+  @Transactional(readOnly = true)
+  public List<UserApplicationRow> getUserApplicationRows(Long userId) {
+    return applicationRepository.findUserApplicationRowsByUserId(userId);
+  }
+
+  // 지원서 프로젝션 목록에 기술 점수를 IN 쿼리 한 번으로 붙인다 (지원서 수와 무관하게 쿼리 2번)
+  private List<ApplicationDetailResponseDto> toDetailResponses(List<ApplicationRow> rows) {
+    if (rows.isEmpty()) {
+      return List.of();
+    }
+
+    List<SkillScoreRow> skillScores = skillScoreRepository.findRowsByApplicationIdIn(
+        rows.stream().map(ApplicationRow::applicationId).toList()
+    );
+
+    return ApplicationDetailResponseDto.listOf(rows, skillScores);
   }
 
   // 지원서 상세 조회 로직
@@ -88,16 +139,115 @@ public class ApplicationService {
     return new ApplicationDetailResponseDto(getApplicationByApplicationId(applicationId));
   }
 
+  // 조건부 조회용. 지원서를 읽지 않고 수정 시각만 조회한다
+  @Transactional(readOnly = true)
+  public Optional<ResourceVersion> getApplicationVersion(Long applicationId) {
+    return applicationRepository.findLastModifiedById(applicationId)
+        .map(lastModified -> ResourceVersion.of("application", applicationId, lastModified));
+  }
+
   // 지원서 상태 업데이트 로직
-  @Transactional
+  // 같은 지원서를 동시에 수정해 충돌하면 새로 읽어서 다시 시도한다 (재시도는 트랜잭션 밖에서 해야 한다)
   public void updateApplicationStatus(Long applicationId, ApplicationStatusUpdateRequestDto reqBody) {
+    executeWithRetry(() -> changeApplicationStatus(applicationId, reqBody.status()));
+  }
+
+  // 한 프로젝트의 여러 지원서 상태를 한 트랜잭션에서 바꾼다.
+  // 지원서는 IN 쿼리 한 번으로 읽고, 정원은 승인 수 변화의 합으로 한 번만 검사하며, 변경은 JDBC 배치로 한꺼번에 반영된다
+  public void updateApplicationStatuses(
+      Long projectId,
+      ApplicationBulkStatusUpdateRequestDto reqBody
+  ) {
+    executeWithRetry(() -> changeApplicationStatuses(projectId, reqBody.applications()));
+  }
+
+  private void executeWithRetry(Runnable statusChange) {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        transactionTemplate.executeWithoutResult(status -> statusChange.run());
+        return;
+      } catch (ConcurrencyFailureException e) {
+        if (attempt >= MAX_STATUS_UPDATE_ATTEMPTS) {
+          throw e;
+        }
+      }
+    }
+  }
+
+  private void changeApplicationStatus(Long applicationId, ApplicationStatus newStatus) {
     Application application = getApplicationByApplicationId(applicationId);
+    ApplicationStatus oldStatus = application.getStatus();
 
-    // 지원서의 상태를 업데이트 하면서 프로젝트에도 반영
-    application.getProject().changeCurTeamSize(application.getStatus(), reqBody.status());
+    projectStatsService.onStatusChanged(application.getProject().getId(), oldStatus, newStatus);
 
     // 엔티티가 영속성 컨텍스트 안에 있으면, 트랜잭션 종료 시점에 자동으로 DB에 반영됩니다 (Dirty Checking)
-    application.changeStatus(reqBody.status()); // 상태 업데이트
+    application.changeStatus(newStatus); // 상태 업데이트
+    appendEvent(ApplicationEventType.STATUS_CHANGED, application, oldStatus, newStatus);
+
+    // 지원서의 상태를 업데이트 하면서 프로젝트에도 반영
+    changeCurrentTeamSize(application.getProject().getId(), oldStatus, newStatus);
+  }
+
+  private void changeApplicationStatuses(
+      Long projectId,
+      List<ApplicationBulkStatusUpdateRequestDto.Item> updates
+  ) {
+    Project project = projectService.getProject(projectId);
+
+    Map<Long, ApplicationStatus> newStatuses = new LinkedHashMap<>();
+    for (ApplicationBulkStatusUpdateRequestDto.Item update : updates) {
+      if (newStatuses.put(update.applicationId(), update.status()) != null) {
+        throw new IllegalArgumentException(
+            "같은 지원서가 여러 번 포함되어 있습니다. ID: " + update.applicationId());
+      }
+    }
+
+    List<Application> applications =
+        applicationRepository.findAllByProjectIdAndIdIn(projectId, newStatuses.keySet());
+
+    if (applications.size() != newStatuses.size()) {
+      Set<Long> missingIds = new LinkedHashSet<>(newStatuses.keySet());
+      applications.forEach(application -> missingIds.remove(application.getId()));
+      throw new NoSuchElementException(
+          "프로젝트(%d번)의 지원서를 찾을 수 없습니다. ID: %s".formatted(projectId, missingIds));
+    }
+
+    int teamSizeDelta = 0;
+    for (Application application : applications) {
+      ApplicationStatus oldStatus = application.getStatus();
+      ApplicationStatus newStatus = newStatuses.get(application.getId());
+      teamSizeDelta += approvedCount(newStatus) - approvedCount(oldStatus);
+      projectStatsService.onStatusChanged(projectId, oldStatus, newStatus);
+      application.changeStatus(newStatus);
+      appendEvent(ApplicationEventType.STATUS_CHANGED, application, oldStatus, newStatus);
+    }
+
+    if (project.getCurrentTeamSize() + teamSizeDelta > project.getTeamSize()) {
+      throw new IllegalArgumentException(
+          "승인하려는 지원자가 남은 정원보다 많습니다. 프로젝트 팀원 수: %d, 현재 팀원 수: %d, 승인 후 팀원 수: %d"
+              .formatted(project.getTeamSize(), project.getCurrentTeamSize(),
+                  project.getCurrentTeamSize() + teamSizeDelta));
+    }
+
+    // 조건부 UPDATE 전에 지원서 변경이 배치로 flush 된다 (정원은 UPDATE 조건에서 한 번 더 확인한다)
+    projectService.changeCurrentTeamSize(projectId, teamSizeDelta);
+  }
+
+  private static int approvedCount(ApplicationStatus status) {
+    return status == ApplicationStatus.APPROVED ? 1 : 0;
+  }
+
+  // 승인 여부가 바뀔 때만 프로젝트 팀원 수를 조건부 UPDATE 로 바꾼다 (읽고-쓰기 사이의 경쟁 방지)
+  private void changeCurrentTeamSize(
+      Long projectId,
+      ApplicationStatus oldStatus,
+      ApplicationStatus newStatus
+  ) {
+    if (oldStatus != ApplicationStatus.APPROVED && newStatus == ApplicationStatus.APPROVED) {
+      projectService.increaseCurrentTeamSize(projectId);
+    } else if (oldStatus == ApplicationStatus.APPROVED && newStatus != ApplicationStatus.APPROVED) {
+      projectService.decreaseCurrentTeamSize(projectId);
+    }
   }
 
   // 지원서와 프로젝트간의 적합도 분석 결과를 저장하는 로직
@@ -108,6 +258,17 @@ public class ApplicationService {
     // 멘토링 피드백: 종속 관계에 따라 구현을 어떤식으로 할지 고민.
     // 두 서비스의 상위 서비스를 만들어서 관장하는 방식으로
     // 상위 서비스의 이름은 보통 어플리케이션서비스라고 지음
+    attachAnalysisResult(application, analysisResult);
+  }
+
+  // 이미 조회한 지원서에 분석 결과를 붙이고 프로젝트 적합도 통계에 반영한다
+  @Transactional
+  public void attachAnalysisResult(Application application, AnalysisResult analysisResult) {
+    if (application.getAnalysisResult() == null) {
+      projectStatsService.onAnalysisSaved(application.getProject().getId(),
+          analysisResult.getCompatibilityScore());
+    }
+
     application.setAnalysisResult(analysisResult);
   }
 
@@ -116,19 +277,74 @@ public class ApplicationService {
   public void deleteApplication(Long applicationId) {
     Application application = getApplicationByApplicationId(applicationId);
 
-    application.getProject().changeCurTeamSize(application.getStatus(), null);
+    projectStatsService.onApplicationDeleted(application.getProject().getId(), application);
+    changeCurrentTeamSize(application.getProject().getId(), application.getStatus(), null);
+    appendEvent(ApplicationEventType.DELETED, application, application.getStatus(), null);
 
     applicationRepository.delete(application); // DB 에서 삭제
   }
 
+  // 변경과 같은 트랜잭션에서 아웃박스에 이벤트를 남긴다 (릴레이가 커밋된 이벤트만 순서대로 발행한다)
+  private void appendEvent(
+      ApplicationEventType type,
+      Application application,
+      ApplicationStatus previousStatus,
+      ApplicationStatus status
+  ) {
+    outboxWriter.append(
+        ApplicationLifecycleEvent.AGGREGATE_TYPE,
+        application.getId(),
+        type.name(),
+        ApplicationLifecycleEvent.of(application, previousStatus, status)
+    );
+  }
+
   // 지원서 ID로 지원서를 가져오는 함수
   public Application getApplicationByApplicationId(Long applicationId) {
     return applicationRepository.findById(applicationId)
         .orElseThrow(() -> new NoSuchElementException("지원서를 찾을 수 없습니다. ID: " + applicationId));
   }
 
+  // 지원서 행을 잠그고 가져온다. 호출한 트랜잭션이 끝날 때까지 같은 지원서를 잠그려는 요청은 기다린다
+  @Transactional(propagation = Propagation.MANDATORY)
+  public Application lockApplication(Long applicationId) {
+    return applicationRepository.findForUpdate(applicationId)
+        .orElseThrow(() -> new NoSuchElementException("지원서를 찾을 수 없습니다. ID: " + applicationId));
+  }
+
   // 프로젝트 ID와 상태로 지원서를 조회하는 함수
   public List<Application> findByProjectIdAndStatus(Long projectId, ApplicationStatus status) {
     return applicationRepository.findByProjectIdAndStatus(projectId, status);
   }
-}
\ No newline at end of file
+
+  // 아직 분석 결과가 없는 프로젝트의 지원서를 조회하는 함수
+  public List<Application> findAllWithoutAnalysisResult(Long projectId) {
+    return applicationRepository.findAllByProjectIdAndAnalysisResultIsNullOrderByIdAsc(projectId);
+  }
+
+  // 프로젝트의 지원서를 지원자/분석 결과와 함께 조회하는 함수 (기술 일치 순위용)
+  public List<Application> findAllWithAnalysisResultByProjectId(Long projectId) {
+    return applicationRepository.findAllWithUserAndAnalysisResultByProjectId(projectId);
+  }
+
+  // 사용자가 지원했던 모든 지원서의 기술 점수를 모아 기술별 숙련도(0~1)를 만든다. 같은 기술은 가장 최근 지원서의 점수를 쓴다
+  @Transactional(readOnly = true)
+  public Map<String, Double> getSkillProfile(Long userId) {
+    Map<String, Double> skillProfile = new HashMap<>();
+    skillScoreRepository.findRowsByUserId(userId).forEach(row -> skillProfile.put(
+        Tech.normalize(row.techName()), Math.clamp(row.score() / 10.0, 0.0, 1.0)));
+
+    return skillProfile;
+  }
+
+  // 사용자가 이미 지원한 프로젝트 ID 목록
+  @Transactional(readOnly = true)
+  public Set<Long> getAppliedProjectIds(Long userId) {
+    return new HashSet<>(applicationRepository.findProjectIdsByUserId(userId));
+  }
+
+  // 지원서 ID 목록으로 지원서를 한 번에 조회하는 함수
+  public List<Application> findAllByIds(Collection<Long> applicationIds) {
+    return applicationRepository.findAllById(applicationIds);
+  }
+}
@@ -1,5 +1,6 @@
 package com.devmatch.backend.domain.auth.controller;
 
+import com.devmatch.backend.domain.user.service.UserService;
 import com.devmatch.backend.global.RsData;
 import com.devmatch.backend.global.rq.Rq;
 import lombok.RequiredArgsConstructor;
@@ -13,10 +14,13 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
 
   private final Rq rq;
+  private final UserService userService;
 
   //로그아웃은 소셜이랑 무관
   @DeleteMapping("/logout")
   public RsData<Void> logout() {
+    userService.logout(rq.getApiKey());
+
     rq.deleteCookie("apiKey");
     rq.deleteCookie("accessToken");
 
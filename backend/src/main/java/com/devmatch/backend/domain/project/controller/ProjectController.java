@@ -2,6 +2,7 @@ package com.devmatch.backend.domain.project.controller;
 
 import static org.springframework.http.HttpStatus.CREATED;
 
+import com.devmatch.backend.domain.application.dto.request.ApplicationBulkStatusUpdateRequestDto;
 import com.devmatch.backend.domain.application.dto.response.ApplicationDetailResponseDto;
 import com.devmatch.backend.domain.application.service.ApplicationService;
 import com.devmatch.backend.domain.project.dto.*;
@@ -11,8 +12,10 @@ import com.devmatch.backend.global.rq.Rq;
 import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RequiredArgsConstructor
 @RestController
@@ -33,15 +36,36 @@ public class ProjectController {
   }
 
   @GetMapping
-  public ResponseEntity<ApiResponse<List<ProjectDetailResponse>>> getAll() {
-    return ResponseEntity.ok()
-        .body(new ApiResponse<>("프로젝트 전체 조회 성공", projectService.getProjects()));
+  public ResponseEntity<ApiResponse<ProjectPageResponse>> getAll(
+      @Valid @ModelAttribute ProjectSearchRequest projectSearchRequest
+  ) {
+    // ETag 는 WebConfig 의 본문 해시 필터가 붙인다
+    return ResponseEntity.ok().cacheControl(CacheControl.noCache())
+        .body(new ApiResponse<>("프로젝트 전체 조회 성공",
+            projectService.getProjects(projectSearchRequest)));
+  }
+
+  @GetMapping("/search")
+  public ResponseEntity<ApiResponse<ProjectSearchResponse>> search(
+      @Valid @ModelAttribute ProjectTextSearchRequest projectTextSearchRequest
+  ) {
+    return ResponseEntity.ok().body(new ApiResponse<>("프로젝트 검색 성공",
+        projectService.searchProjects(projectTextSearchRequest)));
   }
 
+  // ETag 는 본문과 같은 조회(캐시 항목)에서 얻은 버전으로 만든다. 클라이언트가 가진 것과 같으면 본문 없이 304
   @GetMapping("/{id}")
-  public ResponseEntity<ApiResponse<ProjectDetailResponse>> get(@PathVariable Long id) {
-    return ResponseEntity.ok()
-        .body(new ApiResponse<>("프로젝트 단일 조회 성공", projectService.getProjectDetail(id)));
+  public ResponseEntity<ApiResponse<ProjectDetailResponse>> get(
+      @PathVariable Long id,
+      WebRequest request
+  ) {
+    VersionedProjectDetail detail = projectService.getVersionedProjectDetail(id);
+    if (detail.version().checkNotModified(request)) {
+      return null;
+    }
+
+    return ResponseEntity.ok().cacheControl(CacheControl.noCache())
+        .body(new ApiResponse<>("프로젝트 단일 조회 성공", detail.response()));
   }
 
   @PatchMapping("/{id}/status")
@@ -76,6 +100,14 @@ public class ProjectController {
         applicationService.getApplicationsByProjectId(id)));
   }
 
+  @GetMapping("/{id}/applications/stats")
+  public ResponseEntity<ApiResponse<ProjectApplicationStatsResponse>> getApplicationStats(
+      @PathVariable Long id
+  ) {
+    return ResponseEntity.ok().body(new ApiResponse<>("프로젝트 지원서 통계 조회 성공",
+        projectService.getApplicationStats(id)));
+  }
+
   @PostMapping("/{id}/applications")
   public ResponseEntity<ApiResponse<ApplicationDetailResponseDto>> apply(
       @PathVariable Long id,
@@ -84,4 +116,13 @@ public class ProjectController {
     return ResponseEntity.ok().body(new ApiResponse<>("지원서 작성 성공",
         applicationService.createApplication(id, projectApplyRequest)));
   }
+
+  @PatchMapping("/{id}/applications/status")
+  public ResponseEntity<ApiResponse<String>> updateApplicationStatuses(
+      @PathVariable Long id,
+      @Valid @RequestBody ApplicationBulkStatusUpdateRequestDto reqBody
+  ) {
+    applicationService.updateApplicationStatuses(id, reqBody);
+    return ResponseEntity.ok().body(new ApiResponse<>("지원서 상태 일괄 수정 성공"));
+  }
 }
@@ -0,0 +1,48 @@
+package com.devmatch.backend.domain.project.dto;
+
+import com.devmatch.backend.domain.project.entity.ProjectApplicationStats;
+import com.devmatch.backend.domain.project.entity.ProjectTechSkillStats;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 프로젝트 지원서 통계. 분석된 지원서가 없으면 averageCompatibilityScore 는 null
+public record ProjectApplicationStatsResponse(
+    Long projectId,
+    long totalCount,
+    long pendingCount,
+    long approvedCount,
+    long rejectedCount,
+    BigDecimal averageCompatibilityScore,
+    List<TechSkillAverage> techSkillAverages,
+    LocalDateTime updatedAt
+) {
+
+  public record TechSkillAverage(
+      String techName,
+      BigDecimal averageScore,
+      long applicantCount
+  ) {
+
+    public static TechSkillAverage from(ProjectTechSkillStats stats) {
+      return new TechSkillAverage(stats.getTechName(), stats.getAverageScore(),
+          stats.getScoreCount());
+    }
+  }
+
+  public static ProjectApplicationStatsResponse of(
+      ProjectApplicationStats stats,
+      List<ProjectTechSkillStats> techSkillStats
+  ) {
+    return new ProjectApplicationStatsResponse(
+        stats.getProjectId(),
+        stats.getTotalCount(),
+        stats.getPendingCount(),
+        stats.getApprovedCount(),
+        stats.getRejectedCount(),
+        stats.getAverageCompatibilityScore(),
+        techSkillStats.stream().map(TechSkillAverage::from).toList(),
+        stats.getUpdatedAt()
+    );
+  }
+}
@@ -0,0 +1,38 @@
+package com.devmatch.backend.domain.project.dto;
+
+import com.devmatch.backend.domain.project.entity.Project;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 프로젝트 목록 키셋 페이지네이션 커서 (createdAt desc, id desc 정렬 기준의 마지막 행)
+public record ProjectCursor(LocalDateTime createdAt, Long id) {
+
+  private static final String DELIMITER = "_";
+
+  public static ProjectCursor from(Project project) {
+    return new ProjectCursor(project.getCreatedAt(), project.getId());
+  }
+
+  public static ProjectCursor decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] bits = decoded.split(DELIMITER, 2);
+
+      return new ProjectCursor(LocalDateTime.parse(bits[0]), Long.parseLong(bits[1]));
+    } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+      throw new IllegalArgumentException("커서 형식이 올바르지 않습니다: " + cursor);
+    }
+  }
+
+  public String encode() {
+    String raw = createdAt + DELIMITER + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
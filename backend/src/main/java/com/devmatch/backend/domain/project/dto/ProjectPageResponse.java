@@ -0,0 +1,11 @@
+package com.devmatch.backend.domain.project.dto;
+
+import java.util.List;
+
+public record ProjectPageResponse(
+    List<ProjectDetailResponse> projects,
+    String nextCursor,
+    boolean hasNext
+) {
+
+}
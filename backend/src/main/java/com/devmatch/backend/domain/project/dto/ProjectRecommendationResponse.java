@@ -0,0 +1,11 @@
+package com.devmatch.backend.domain.project.dto;
+
+import java.math.BigDecimal;
+
+// 추천 프로젝트. matchScore 는 내 기술 숙련도와 프로젝트 요구 기술의 일치 정도 (높을수록 잘 맞음)
+public record ProjectRecommendationResponse(
+    ProjectDetailResponse project,
+    BigDecimal matchScore
+) {
+
+}
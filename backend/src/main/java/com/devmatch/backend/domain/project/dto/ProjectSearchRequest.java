@@ -0,0 +1,47 @@
+package com.devmatch.backend.domain.project.dto;
+
+import com.devmatch.backend.domain.project.entity.ProjectStatus;
+import com.devmatch.backend.domain.project.entity.Tech;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.util.List;
+
+public record ProjectSearchRequest(
+    String cursor,
+    @Min(1) @Max(100) Integer size,
+    ProjectStatus status,
+    List<String> techs,
+    TechMatchType techMatch,
+    @Min(1) Integer minDurationWeeks,
+    @Min(1) Integer maxDurationWeeks
+) {
+
+  private static final int DEFAULT_PAGE_SIZE = 20;
+
+  public int pageSize() {
+    return size != null ? size : DEFAULT_PAGE_SIZE;
+  }
+
+  public List<String> normalizedTechs() {
+    if (techs == null) {
+      return List.of();
+    }
+
+    return techs.stream()
+        .filter(tech -> !tech.isBlank())
+        .map(Tech::normalize)
+        .distinct()
+        .toList();
+  }
+
+  // 조건을 만족하려면 프로젝트가 요구해야 하는 필터 기술의 최소 개수 (0이면 기술 필터 없음)
+  public int requiredTechCount() {
+    int techCount = normalizedTechs().size();
+
+    if (techCount == 0) {
+      return 0;
+    }
+
+    return techMatch == TechMatchType.ALL ? techCount : 1;
+  }
+}
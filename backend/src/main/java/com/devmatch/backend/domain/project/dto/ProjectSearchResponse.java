@@ -0,0 +1,11 @@
+package com.devmatch.backend.domain.project.dto;
+
+import java.util.List;
+
+public record ProjectSearchResponse(
+    List<ProjectDetailResponse> projects,
+    int page,
+    boolean hasNext
+) {
+
+}
@@ -0,0 +1,24 @@
+package com.devmatch.backend.domain.project.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+
+// 관련도 순 결과라 키셋 커서 대신 페이지 번호로 넘긴다.
+// page 상한을 두어 offset(page * size)이 넘치거나 색인이 지나치게 깊이 건너뛰지 않게 한다
+public record ProjectTextSearchRequest(
+    @NotBlank String q,
+    @Min(0) @Max(1000) Integer page,
+    @Min(1) @Max(100) Integer size
+) {
+
+  private static final int DEFAULT_PAGE_SIZE = 20;
+
+  public int pageNumber() {
+    return page != null ? page : 0;
+  }
+
+  public int pageSize() {
+    return size != null ? size : DEFAULT_PAGE_SIZE;
+  }
+}
@@ -0,0 +1,7 @@
+package com.devmatch.backend.domain.project.dto;
+
+// 기술 스택 필터 조건. ANY: 하나라도 요구하는 프로젝트, ALL: 모두 요구하는 프로젝트
+public enum TechMatchType {
+  ANY,
+  ALL
+}
@@ -0,0 +1,12 @@
+package com.devmatch.backend.domain.project.dto;
+
+import com.devmatch.backend.global.web.ResourceVersion;
+
+// 프로젝트 상세와 그 상세를 읽은 행의 버전. 같은 조회에서 함께 만들어 캐시에도 한 쌍으로 넣으므로
+// ETag 가 항상 실제로 내려가는 본문을 가리킨다
+public record VersionedProjectDetail(
+    ProjectDetailResponse response,
+    ResourceVersion version
+) {
+
+}
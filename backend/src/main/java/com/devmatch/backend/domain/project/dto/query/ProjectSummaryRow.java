@@ -0,0 +1,18 @@
+package com.devmatch.backend.domain.project.dto.query;
+
+import com.devmatch.backend.domain.project.entity.ProjectStatus;
+import java.time.LocalDateTime;
+
+// 내 프로젝트 목록용 프로젝션. 지원자 수는 GROUP BY 로 함께 집계한다
+public record ProjectSummaryRow(
+    Long projectId,
+    String title,
+    ProjectStatus status,
+    Integer teamSize,
+    Integer currentTeamSize,
+    LocalDateTime createdAt,
+    Long applicantCount,
+    Long pendingCount
+) {
+
+}
@@ -0,0 +1,11 @@
+package com.devmatch.backend.domain.project.dto.query;
+
+import java.math.BigDecimal;
+
+// 지원서 통계를 처음부터 다시 계산할 때 쓰는 적합도 점수 합계
+public record ScoreSumRow(
+    BigDecimal scoreSum,
+    Long scoreCount
+) {
+
+}
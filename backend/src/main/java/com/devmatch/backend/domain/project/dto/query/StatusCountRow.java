@@ -0,0 +1,11 @@
+package com.devmatch.backend.domain.project.dto.query;
+
+import com.devmatch.backend.domain.application.enums.ApplicationStatus;
+
+// 지원서 통계를 처음부터 다시 계산할 때 쓰는 상태별 지원서 수
+public record StatusCountRow(
+    ApplicationStatus status,
+    Long count
+) {
+
+}
@@ -0,0 +1,10 @@
+package com.devmatch.backend.domain.project.dto.query;
+
+// 지원서 통계를 처음부터 다시 계산할 때 쓰는 기술별 점수 합계 (기술명은 지원자가 입력한 표기 그대로)
+public record TechScoreSumRow(
+    String techName,
+    Long scoreSum,
+    Long scoreCount
+) {
+
+}
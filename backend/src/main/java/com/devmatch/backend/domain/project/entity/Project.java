@@ -3,20 +3,26 @@ package com.devmatch.backend.domain.project.entity;
 import static jakarta.persistence.FetchType.LAZY;
 
 import com.devmatch.backend.domain.application.entity.Application;
-import com.devmatch.backend.domain.application.enums.ApplicationStatus;
 import com.devmatch.backend.domain.user.entity.User;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 
 @Getter
 @NoArgsConstructor
 @Entity
 @Table(
     name = "projects",
-    indexes = {@Index(name = "idx_creator_id", columnList = "creator_id")}
+    indexes = {
+        @Index(name = "idx_creator_id", columnList = "creator_id"),
+        @Index(name = "idx_created_at_id", columnList = "created_at, id")
+    }
 )
 public class Project {
 
@@ -31,20 +37,37 @@ public class Project {
   private Integer teamSize;
   private Integer currentTeamSize;
 
-  @ManyToOne
+  @ManyToOne(fetch = LAZY)
   @JoinColumn(name = "creator_id")
   private User creator;
 
   @Enumerated(EnumType.STRING)
   private ProjectStatus status;
 
+  // AI 팀 역할 분배 결과 등 길이 제한이 없는 본문
+  @Column(columnDefinition = "TEXT")
   private String content;
   private Integer durationWeeks;
   private LocalDateTime createdAt;
 
+  // 마지막 수정 시각 (Last-Modified 응답 헤더). 조건부 UPDATE 는 쿼리에서 직접 갱신한다
+  private LocalDateTime updatedAt;
+
   @OneToMany(mappedBy = "project", fetch = LAZY, orphanRemoval = true)
   private List<Application> applications;
 
+  // 동시 수정 감지용. 팀원 수는 ProjectRepository 의 조건부 UPDATE 로만 바꾸며 이 값도 함께 올린다
+  @Version
+  @ColumnDefault("0")
+  @Column(nullable = false)
+  private Long version;
+
+  // 요구 기술 목록 (기술 사전과 정규화된 연관). 목록 조회 시 프로젝트 여러 건의 기술을 한 번에 로딩한다
+  @BatchSize(size = 100)
+  @OrderBy("id")
+  @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
+  private List<ProjectTech> projectTechs = new ArrayList<>();
+
   public Project(
       String title,
       String description,
@@ -62,7 +85,14 @@ public class Project {
     this.currentTeamSize = 0;
     this.content = "";
     this.durationWeeks = durationWeeks;
-    this.createdAt = LocalDateTime.now();
+    // 키셋 커서가 DB 저장 정밀도(마이크로초)와 동일한 값을 갖도록 맞춘다
+    this.createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    this.updatedAt = this.createdAt;
+  }
+
+  @PreUpdate
+  void touch() {
+    this.updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
   }
 
   public void changeStatus(ProjectStatus newStatus) {
@@ -74,25 +104,18 @@ public class Project {
     this.status = newStatus;
   }
 
-  public void changeCurTeamSize(ApplicationStatus oldStatus, ApplicationStatus newStatus) {
-    if (oldStatus != ApplicationStatus.APPROVED && newStatus == ApplicationStatus.APPROVED) {
-      if (this.currentTeamSize.equals(this.teamSize)) {
-        throw new IllegalArgumentException("정원이 가득 차서 지원서를 더 이상 승인할 수 없습니다");
-      }
-
-      this.currentTeamSize++;
-    } else if (oldStatus == ApplicationStatus.APPROVED && newStatus != ApplicationStatus.APPROVED) {
-      this.currentTeamSize--;
-    }
+  public void changeContent(String content) {
+    this.content = content;
+  }
 
-    if (this.currentTeamSize.equals(this.teamSize)) {
-      this.status = ProjectStatus.COMPLETED;
-    } else {
-      this.status = ProjectStatus.RECRUITING;
-    }
+  public void changeTechs(List<Tech> techs) {
+    this.projectTechs.clear();
+    techs.forEach(tech -> this.projectTechs.add(new ProjectTech(this, tech)));
   }
 
-  public void changeContent(String content) {
-    this.content = content;
+  public List<String> getTechNames() {
+    return projectTechs.stream()
+        .map(projectTech -> projectTech.getTech().getName())
+        .toList();
   }
 }
@@ -0,0 +1,110 @@
+package com.devmatch.backend.domain.project.entity;
+
+import com.devmatch.backend.domain.application.enums.ApplicationStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+// 프로젝트별 지원서 통계. 지원서를 작성/상태 변경/삭제/분석할 때마다 같은 트랜잭션에서 증감한다
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "project_application_stats")
+@EntityListeners(AuditingEntityListener.class)
+public class ProjectApplicationStats implements Persistable<Long> {
+
+  @Id
+  @Column(name = "project_id")
+  private Long projectId;
+
+  @Column(name = "pending_count", nullable = false)
+  private long pendingCount;
+
+  @Column(name = "approved_count", nullable = false)
+  private long approvedCount;
+
+  @Column(name = "rejected_count", nullable = false)
+  private long rejectedCount;
+
+  // 적합도 분석 점수 합계와 분석된 지원서 수 (평균 = 합계 / 수)
+  @Column(name = "compatibility_score_sum", nullable = false, precision = 14, scale = 2)
+  private BigDecimal compatibilityScoreSum = BigDecimal.ZERO;
+
+  @Column(name = "compatibility_score_count", nullable = false)
+  private long compatibilityScoreCount;
+
+  @LastModifiedDate
+  @Column(name = "updated_at")
+  private LocalDateTime updatedAt;
+
+  // ID 를 직접 지정하므로 save 가 merge(조회 후 덮어쓰기)가 아닌 persist 가 되도록 새 엔티티 여부를 따로 둔다.
+  // 동시에 같은 행을 만들면 덮어쓰지 않고 키 중복으로 실패한다
+  @Transient
+  @Getter(AccessLevel.NONE)
+  private boolean persisted;
+
+  public ProjectApplicationStats(Long projectId) {
+    this.projectId = projectId;
+  }
+
+  @Override
+  public Long getId() {
+    return projectId;
+  }
+
+  @Override
+  public boolean isNew() {
+    return !persisted;
+  }
+
+  @PostLoad
+  @PostPersist
+  void markPersisted() {
+    persisted = true;
+  }
+
+  // status 인 지원서 수를 delta 만큼 바꾼다. status 가 null 이면(작성 전/삭제 후) 바꾸지 않는다
+  public void changeStatusCount(ApplicationStatus status, long delta) {
+    if (status == null) {
+      return;
+    }
+
+    switch (status) {
+      case PENDING -> pendingCount += delta;
+      case APPROVED -> approvedCount += delta;
+      case REJECTED -> rejectedCount += delta;
+    }
+  }
+
+  // 분석 결과 추가는 (점수, 1), 분석된 지원서 삭제는 (-점수, -1)
+  public void changeCompatibilityScore(BigDecimal scoreDelta, long countDelta) {
+    compatibilityScoreSum = compatibilityScoreSum.add(scoreDelta);
+    compatibilityScoreCount += countDelta;
+  }
+
+  public long getTotalCount() {
+    return pendingCount + approvedCount + rejectedCount;
+  }
+
+  // 분석된 지원서가 없으면 null
+  public BigDecimal getAverageCompatibilityScore() {
+    return compatibilityScoreCount == 0
+        ? null
+        : compatibilityScoreSum.divide(BigDecimal.valueOf(compatibilityScoreCount), 2,
+            RoundingMode.HALF_UP);
+  }
+}
@@ -0,0 +1,46 @@
+package com.devmatch.backend.domain.project.entity;
+
+import static jakarta.persistence.FetchType.LAZY;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 프로젝트-기술 연관 테이블. (tech_id, project_id) 인덱스로 기술 → 프로젝트 역방향 조회를 한다
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(
+    name = "project_techs",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_project_tech", columnNames = {"project_id", "tech_id"})
+    },
+    indexes = {@Index(name = "idx_tech_id_project_id", columnList = "tech_id, project_id")}
+)
+public class ProjectTech {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @ManyToOne(fetch = LAZY)
+  @JoinColumn(name = "project_id", nullable = false)
+  private Project project;
+
+  @ManyToOne(fetch = LAZY)
+  @JoinColumn(name = "tech_id", nullable = false)
+  private Tech tech;
+
+  public ProjectTech(Project project, Tech tech) {
+    this.project = project;
+    this.tech = tech;
+  }
+}
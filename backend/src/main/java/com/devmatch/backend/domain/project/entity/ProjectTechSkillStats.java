@@ -0,0 +1,71 @@
+package com.devmatch.backend.domain.project.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 프로젝트 지원자들이 기술별로 직접 매긴 점수의 합계 (ProjectApplicationStats 와 함께 갱신된다)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "project_tech_skill_stats",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_project_tech_skill_stats",
+        columnNames = {"project_id", "normalized_name"}
+    )
+)
+public class ProjectTechSkillStats {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "project_id", nullable = false)
+  private Long projectId;
+
+  // 같은 기술의 다른 표기(대소문자 등)를 한 줄로 모으는 키
+  @Column(name = "normalized_name", nullable = false)
+  private String normalizedName;
+
+  // 응답에 보여줄 이름 (처음 들어온 표기)
+  @Column(name = "tech_name", nullable = false)
+  private String techName;
+
+  @Column(name = "score_sum", nullable = false)
+  private long scoreSum;
+
+  @Column(name = "score_count", nullable = false)
+  private long scoreCount;
+
+  public ProjectTechSkillStats(Long projectId, String techName) {
+    this.projectId = projectId;
+    this.normalizedName = Tech.normalize(techName);
+    this.techName = techName.trim();
+  }
+
+  public void add(long scoreSum, long scoreCount) {
+    this.scoreSum += scoreSum;
+    this.scoreCount += scoreCount;
+  }
+
+  public boolean isEmpty() {
+    return scoreCount <= 0;
+  }
+
+  public BigDecimal getAverageScore() {
+    return scoreCount == 0
+        ? BigDecimal.ZERO
+        : BigDecimal.valueOf(scoreSum).divide(BigDecimal.valueOf(scoreCount), 2,
+            RoundingMode.HALF_UP);
+  }
+}
@@ -0,0 +1,41 @@
+package com.devmatch.backend.domain.project.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.Locale;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+
+// 기술 사전. 대소문자/공백만 다른 기술명은 같은 기술로 취급한다 (예: "react", " React")
+@Getter
+@NoArgsConstructor
+@Entity
+@BatchSize(size = 100)
+@Table(name = "techs")
+public class Tech {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  // 처음 등록된 표기를 대표 이름으로 사용한다
+  @Column(nullable = false)
+  private String name;
+
+  @Column(nullable = false, unique = true)
+  private String normalizedName;
+
+  public Tech(String name) {
+    this.name = name.trim();
+    this.normalizedName = normalize(name);
+  }
+
+  public static String normalize(String name) {
+    return name.trim().toLowerCase(Locale.ROOT);
+  }
+}
@@ -2,7 +2,6 @@ package com.devmatch.backend.domain.project.mapper;
 
 import com.devmatch.backend.domain.project.dto.ProjectDetailResponse;
 import com.devmatch.backend.domain.project.entity.Project;
-import java.util.Arrays;
 
 public class ProjectMapper {
 
@@ -11,7 +10,7 @@ public class ProjectMapper {
         project.getId(),
         project.getTitle(),
         project.getDescription(),
-        Arrays.stream(project.getTechStack().split(", ")).toList(),
+        project.getTechNames(),
         project.getTeamSize(),
         project.getCurrentTeamSize(),
         project.getCreator().getNickName(),
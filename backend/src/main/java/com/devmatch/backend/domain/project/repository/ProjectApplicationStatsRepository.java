@@ -0,0 +1,56 @@
+package com.devmatch.backend.domain.project.repository;
+
+import com.devmatch.backend.domain.project.dto.query.ScoreSumRow;
+import com.devmatch.backend.domain.project.dto.query.StatusCountRow;
+import com.devmatch.backend.domain.project.dto.query.TechScoreSumRow;
+import com.devmatch.backend.domain.project.entity.ProjectApplicationStats;
+import jakarta.persistence.LockModeType;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ProjectApplicationStatsRepository
+    extends JpaRepository<ProjectApplicationStats, Long> {
+
+  // 같은 프로젝트의 통계 갱신을 줄 세운다 (기술별 합계 행 추가도 이 잠금 안에서만 한다)
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select s from ProjectApplicationStats s where s.projectId = :projectId")
+  Optional<ProjectApplicationStats> findForUpdate(@Param("projectId") Long projectId);
+
+  @Query("""
+      select p.id from Project p
+      where not exists (select 1 from ProjectApplicationStats s where s.projectId = p.id)
+      order by p.id
+      """)
+  List<Long> findProjectIdsWithoutStats();
+
+  // 아래는 통계 행이 없을 때 지원서에서 다시 계산하는 쿼리
+  @Query("""
+      select new com.devmatch.backend.domain.project.dto.query.StatusCountRow(a.status, count(a))
+      from Application a
+      where a.project.id = :projectId
+      group by a.status
+      """)
+  List<StatusCountRow> countApplicationsByStatus(@Param("projectId") Long projectId);
+
+  @Query("""
+      select new com.devmatch.backend.domain.project.dto.query.TechScoreSumRow(
+        s.techName, sum(s.score), count(s))
+      from SkillScore s
+      where s.application.project.id = :projectId
+      group by s.techName
+      """)
+  List<TechScoreSumRow> sumSkillScoresByTech(@Param("projectId") Long projectId);
+
+  @Query("""
+      select new com.devmatch.backend.domain.project.dto.query.ScoreSumRow(
+        sum(r.compatibilityScore), count(r))
+      from Application a
+      join a.analysisResult r
+      where a.project.id = :projectId
+      """)
+  ScoreSumRow sumCompatibilityScores(@Param("projectId") Long projectId);
+}
@@ -1,10 +1,147 @@
 package com.devmatch.backend.domain.project.repository;
 
+import com.devmatch.backend.domain.application.enums.ApplicationStatus;
+import com.devmatch.backend.domain.project.dto.query.ProjectSummaryRow;
 import com.devmatch.backend.domain.project.entity.Project;
+import com.devmatch.backend.domain.project.entity.ProjectStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
+  @EntityGraph(attributePaths = "creator")
   List<Project> findAllByCreatorId(Long creatorId);
-}
\ No newline at end of file
+
+  @EntityGraph(attributePaths = "creator")
+  Optional<Project> findWithCreatorById(Long id);
+
+  @EntityGraph(attributePaths = "creator")
+  List<Project> findAllWithCreatorByIdIn(Collection<Long> ids);
+
+  @Query("select p.status from Project p where p.id = :projectId")
+  Optional<ProjectStatus> findStatusById(@Param("projectId") Long projectId);
+
+  // 사용자가 만든 프로젝트와 지원자 수를 한 번에 집계한다 (프로젝트 수와 무관하게 쿼리 1번)
+  @Query("""
+      select new com.devmatch.backend.domain.project.dto.query.ProjectSummaryRow(
+        p.id, p.title, p.status, p.teamSize, p.currentTeamSize, p.createdAt,
+        count(a), sum(case when a.status = :pending then 1L else 0L end))
+      from Project p
+      left join p.applications a
+      where p.creator.id = :creatorId
+      group by p.id, p.title, p.status, p.teamSize, p.currentTeamSize, p.createdAt
+      order by p.createdAt desc, p.id desc
+      """)
+  List<ProjectSummaryRow> findSummaryRowsByCreatorId(
+      @Param("creatorId") Long creatorId,
+      @Param("pending") ApplicationStatus pending
+  );
+
+  // 기술 사전 인덱스로 주어진 기술 중 requiredTechCount개 이상을 요구하는 프로젝트를 찾는다 (1: ANY, 전체 개수: ALL)
+  @Query("""
+      select pt.project.id from ProjectTech pt
+      join pt.tech t
+      where t.normalizedName in :techs
+      group by pt.project.id
+      having count(pt.id) >= :requiredTechCount
+      """)
+  List<Long> findProjectIdsByTechs(
+      @Param("techs") Collection<String> techs,
+      @Param("requiredTechCount") long requiredTechCount
+  );
+
+  @Query("""
+      select p from Project p
+      where not exists (select 1 from ProjectTech pt where pt.project = p)
+      """)
+  List<Project> findAllWithoutTechs();
+
+  // (createdAt, id) 키셋 기준으로 커서 이후의 프로젝트를 조회한다. 커서가 없으면 첫 페이지를 조회한다.
+  @Query("""
+      select p from Project p
+      join fetch p.creator
+      where (:status is null or p.status = :status)
+        and (:requiredTechCount = 0 or p.id in (
+          select pt.project.id from ProjectTech pt
+          join pt.tech t
+          where t.normalizedName in :techs
+          group by pt.project.id
+          having count(pt.id) >= :requiredTechCount))
+        and (:minDurationWeeks is null or p.durationWeeks >= :minDurationWeeks)
+        and (:maxDurationWeeks is null or p.durationWeeks <= :maxDurationWeeks)
+        and (:cursorCreatedAt is null
+          or p.createdAt < :cursorCreatedAt
+          or (p.createdAt = :cursorCreatedAt and p.id < :cursorId))
+      order by p.createdAt desc, p.id desc
+      """)
+  List<Project> findPageByKeyset(
+      @Param("status") ProjectStatus status,
+      @Param("techs") Collection<String> techs,
+      @Param("requiredTechCount") long requiredTechCount,
+      @Param("minDurationWeeks") Integer minDurationWeeks,
+      @Param("maxDurationWeeks") Integer maxDurationWeeks,
+      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+      @Param("cursorId") Long cursorId,
+      Pageable pageable
+  );
+
+  // 정원이 남아 있을 때만 팀원 수를 1 늘린다 (행 잠금 한 번으로 끝나는 조건부 UPDATE). 반영된 행 수를 반환한다.
+  // 상태 계산이 갱신 전 값을 보도록 status 를 먼저 둔다
+  @Modifying(flushAutomatically = true)
+  @Query("""
+      update Project p
+      set p.status = case when p.currentTeamSize + 1 >= p.teamSize then :completed else :recruiting end,
+          p.currentTeamSize = p.currentTeamSize + 1,
+          p.version = p.version + 1,
+          p.updatedAt = local datetime
+      where p.id = :projectId
+        and p.currentTeamSize < p.teamSize
+      """)
+  int increaseCurrentTeamSize(
+      @Param("projectId") Long projectId,
+      @Param("completed") ProjectStatus completed,
+      @Param("recruiting") ProjectStatus recruiting
+  );
+
+  // 팀원이 한 명 이상일 때만 1 줄이고 모집 중으로 되돌린다. 반영된 행 수를 반환한다
+  @Modifying(flushAutomatically = true)
+  @Query("""
+      update Project p
+      set p.status = :recruiting,
+          p.currentTeamSize = p.currentTeamSize - 1,
+          p.version = p.version + 1,
+          p.updatedAt = local datetime
+      where p.id = :projectId
+        and p.currentTeamSize > 0
+      """)
+  int decreaseCurrentTeamSize(
+      @Param("projectId") Long projectId,
+      @Param("recruiting") ProjectStatus recruiting
+  );
+
+  // 팀원 수를 delta 만큼 바꾼다 (여러 지원서를 한 번에 승인/취소할 때). 결과가 0 이상 정원 이하일 때만 반영하고, 반영된 행 수를 반환한다
+  @Modifying(flushAutomatically = true)
+  @Query("""
+      update Project p
+      set p.status = case when p.currentTeamSize + :delta >= p.teamSize then :completed else :recruiting end,
+          p.currentTeamSize = p.currentTeamSize + :delta,
+          p.version = p.version + 1,
+          p.updatedAt = local datetime
+      where p.id = :projectId
+        and p.currentTeamSize + :delta between 0 and p.teamSize
+      """)
+  int changeCurrentTeamSize(
+      @Param("projectId") Long projectId,
+      @Param("delta") int delta,
+      @Param("completed") ProjectStatus completed,
+      @Param("recruiting") ProjectStatus recruiting
+  );
+}
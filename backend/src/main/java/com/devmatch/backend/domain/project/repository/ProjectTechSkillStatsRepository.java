@@ -0,0 +1,17 @@
+package com.devmatch.backend.domain.project.repository;
+
+import com.devmatch.backend.domain.project.entity.ProjectTechSkillStats;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ProjectTechSkillStatsRepository extends JpaRepository<ProjectTechSkillStats, Long> {
+
+  List<ProjectTechSkillStats> findAllByProjectIdOrderByNormalizedNameAsc(Long projectId);
+
+  @Modifying
+  @Query("delete from ProjectTechSkillStats s where s.projectId = :projectId")
+  void deleteAllByProjectId(@Param("projectId") Long projectId);
+}
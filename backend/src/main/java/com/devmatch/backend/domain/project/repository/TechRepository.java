@@ -0,0 +1,27 @@
+package com.devmatch.backend.domain.project.repository;
+
+import com.devmatch.backend.domain.project.entity.Tech;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TechRepository extends JpaRepository<Tech, Long> {
+
+  List<Tech> findAllByNormalizedNameIn(Collection<String> normalizedNames);
+
+  // 다른 요청이 같은 기술을 먼저 등록했으면 키 중복 예외 없이 건너뛴다 (그 요청이 끝날 때까지 기다린 뒤).
+  // 호출한 트랜잭션 안에서 실행되므로 커넥션을 하나 더 잡지 않는다
+  @Modifying
+  @Query(
+      nativeQuery = true,
+      value = """
+          insert into techs (name, normalized_name)
+          values (:name, :normalizedName)
+          on conflict do nothing
+          """
+  )
+  int insertIfAbsent(@Param("name") String name, @Param("normalizedName") String normalizedName);
+}
@@ -0,0 +1,187 @@
+package com.devmatch.backend.domain.project.search;
+
+import com.devmatch.backend.domain.project.entity.Project;
+import com.devmatch.backend.domain.project.repository.ProjectRepository;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 서버 메모리 역색인 (H2/개발용). 검색어 -> (프로젝트 ID -> 필드 가중 빈도) 를 보관하고 BM25 로 순위를 매긴다.
+ * 검색어는 색인된 단어의 접두어로도 일치한다 ("스프링" -> "스프링을"). 서버 시작 시 DB 에서 전체를 다시 만든다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "custom.project.search.engine", havingValue = "memory", matchIfMissing = true)
+public class InMemoryProjectSearchIndex implements ProjectSearchIndex {
+
+  private static final double TITLE_WEIGHT = 3.0;
+  private static final double TECH_STACK_WEIGHT = 2.0;
+  private static final double DESCRIPTION_WEIGHT = 1.0;
+
+  private static final double K1 = 1.2;
+  private static final double B = 0.75;
+
+  private static final int REBUILD_PAGE_SIZE = 500;
+
+  private final ProjectRepository projectRepository;
+  private final TransactionTemplate transactionTemplate;
+
+  // 읽기(검색)가 대부분이고 쓰기(생성/삭제)는 드물다
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final NavigableMap<String, Map<Long, Double>> postings = new TreeMap<>();
+  private final Map<Long, Map<String, Double>> documents = new HashMap<>();
+  private final Map<Long, Double> documentLengths = new HashMap<>();
+  private double totalLength;
+
+  public InMemoryProjectSearchIndex(
+      ProjectRepository projectRepository,
+      TransactionTemplate transactionTemplate
+  ) {
+    this.projectRepository = projectRepository;
+    this.transactionTemplate = transactionTemplate;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    int pageNumber = 0;
+    Page<Project> page;
+    do {
+      PageRequest pageRequest = PageRequest.of(pageNumber++, REBUILD_PAGE_SIZE, Sort.by("id"));
+      page = transactionTemplate.execute(status -> projectRepository.findAll(pageRequest));
+      page.forEach(project -> index(ProjectSearchDocument.from(project)));
+    } while (page.hasNext());
+
+    log.info("프로젝트 검색 색인 생성 완료 - {}건", documents.size());
+  }
+
+  @Override
+  public void index(ProjectSearchDocument document) {
+    Map<String, Double> terms = new HashMap<>();
+    addTerms(terms, document.title(), TITLE_WEIGHT);
+    addTerms(terms, document.techStack(), TECH_STACK_WEIGHT);
+    addTerms(terms, document.description(), DESCRIPTION_WEIGHT);
+
+    lock.writeLock().lock();
+    try {
+      removeLocked(document.projectId());
+
+      double length = terms.values().stream().mapToDouble(Double::doubleValue).sum();
+      terms.forEach((term, frequency) -> postings
+          .computeIfAbsent(term, key -> new HashMap<>())
+          .put(document.projectId(), frequency));
+      documents.put(document.projectId(), terms);
+      documentLengths.put(document.projectId(), length);
+      totalLength += length;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void remove(Long projectId) {
+    lock.writeLock().lock();
+    try {
+      removeLocked(projectId);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public List<Long> search(String query, int offset, int limit) {
+    List<String> queryTerms = SearchTokenizer.queryTerms(query);
+    if (queryTerms.isEmpty() || limit <= 0) {
+      return List.of();
+    }
+
+    lock.readLock().lock();
+    try {
+      int documentCount = documents.size();
+      if (documentCount == 0) {
+        return List.of();
+      }
+      double averageLength = totalLength / documentCount;
+
+      Map<Long, Double> scores = null;
+      for (String queryTerm : queryTerms) {
+        Map<Long, Double> termScores = scoreTerm(queryTerm, documentCount, averageLength);
+
+        // 모든 검색어를 포함하는 프로젝트만 남긴다
+        if (scores == null) {
+          scores = termScores;
+        } else {
+          scores.keySet().retainAll(termScores.keySet());
+          scores.replaceAll((projectId, score) -> score + termScores.get(projectId));
+        }
+
+        if (scores.isEmpty()) {
+          return List.of();
+        }
+      }
+
+      return scores.entrySet().stream()
+          .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+              .thenComparing(Map.Entry.<Long, Double>comparingByKey(Comparator.reverseOrder())))
+          .skip(offset)
+          .limit(limit)
+          .map(Map.Entry::getKey)
+          .toList();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  // 검색어로 시작하는 모든 색인 단어의 빈도를 합쳐 하나의 단어처럼 BM25 점수를 낸다
+  private Map<Long, Double> scoreTerm(String queryTerm, int documentCount, double averageLength) {
+    Map<Long, Double> frequencies = new HashMap<>();
+    postings.subMap(queryTerm, true, queryTerm + Character.MAX_VALUE, false)
+        .values()
+        .forEach(posting -> posting.forEach(
+            (projectId, frequency) -> frequencies.merge(projectId, frequency, Double::sum)));
+
+    double documentFrequency = frequencies.size();
+    double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+
+    Map<Long, Double> scores = new HashMap<>();
+    frequencies.forEach((projectId, frequency) -> {
+      double lengthNorm = 1 - B + B * documentLengths.get(projectId) / averageLength;
+      scores.put(projectId, idf * frequency * (K1 + 1) / (frequency + K1 * lengthNorm));
+    });
+    return scores;
+  }
+
+  private void removeLocked(Long projectId) {
+    Map<String, Double> terms = documents.remove(projectId);
+    if (terms == null) {
+      return;
+    }
+
+    terms.keySet().forEach(term -> {
+      Map<Long, Double> posting = postings.get(term);
+      posting.remove(projectId);
+      if (posting.isEmpty()) {
+        postings.remove(term);
+      }
+    });
+    totalLength -= documentLengths.remove(projectId);
+  }
+
+  private static void addTerms(Map<String, Double> terms, String text, double weight) {
+    SearchTokenizer.tokenize(text).forEach(term -> terms.merge(term, weight, Double::sum));
+  }
+}
@@ -0,0 +1,73 @@
+package com.devmatch.backend.domain.project.search;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * PostgreSQL 전문 검색. 가중치를 준 tsvector 식(제목 A, 기술 스택 B, 설명 C)에 GIN 인덱스를 걸고
+ * ts_rank 로 순위를 매긴다. 인덱스는 DB 가 행 변경과 함께 갱신하므로 index/remove 에서 할 일이 없다.
+ * 한국어 형태소 사전이 없어 'simple' 설정에 접두어 일치(:*)를 쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "custom.project.search.engine", havingValue = "postgres")
+public class PostgresProjectSearchIndex implements ProjectSearchIndex {
+
+  // WHERE 절과 인덱스 식이 글자 그대로 같아야 GIN 인덱스를 탄다
+  private static final String DOCUMENT = """
+      (setweight(to_tsvector('simple', coalesce(title, '')), 'A')
+        || setweight(to_tsvector('simple', coalesce(tech_stack, '')), 'B')
+        || setweight(to_tsvector('simple', coalesce(description, '')), 'C'))""";
+
+  private static final String CREATE_INDEX =
+      "create index if not exists idx_projects_search on projects using gin (" + DOCUMENT + ")";
+
+  private static final String SEARCH = """
+      select id from projects
+      where %1$s @@ to_tsquery('simple', ?)
+      order by ts_rank(%1$s, to_tsquery('simple', ?)) desc, id desc
+      offset ? limit ?
+      """.formatted(DOCUMENT);
+
+  private final JdbcTemplate jdbcTemplate;
+
+  // ddl-auto 는 식 인덱스를 만들지 않으므로 시작 시 만든다
+  @EventListener(ApplicationReadyEvent.class)
+  public void createIndex() {
+    jdbcTemplate.execute(CREATE_INDEX);
+  }
+
+  @Override
+  public void index(ProjectSearchDocument document) {
+  }
+
+  @Override
+  public void remove(Long projectId) {
+  }
+
+  @Override
+  public List<Long> search(String query, int offset, int limit) {
+    String tsQuery = toTsQuery(query);
+    if (tsQuery.isEmpty() || limit <= 0) {
+      return List.of();
+    }
+
+    return jdbcTemplate.queryForList(SEARCH, Long.class, tsQuery, tsQuery, offset, limit);
+  }
+
+  // tsquery 연산자로 해석될 수 있는 문자를 빼고, 각 검색어를 접두어 일치로 AND 한다
+  private static String toTsQuery(String query) {
+    return SearchTokenizer.queryTerms(query).stream()
+        .map(term -> term.replaceAll("[^\\p{L}\\p{N}]", ""))
+        .filter(term -> !term.isEmpty())
+        .distinct()
+        .map(term -> term + ":*")
+        .collect(Collectors.joining(" & "));
+  }
+}
@@ -0,0 +1,21 @@
+package com.devmatch.backend.domain.project.search;
+
+import com.devmatch.backend.domain.project.entity.Project;
+
+// 검색 색인에 넣는 프로젝트 필드
+public record ProjectSearchDocument(
+    Long projectId,
+    String title,
+    String description,
+    String techStack
+) {
+
+  public static ProjectSearchDocument from(Project project) {
+    return new ProjectSearchDocument(
+        project.getId(),
+        project.getTitle(),
+        project.getDescription(),
+        project.getTechStack()
+    );
+  }
+}
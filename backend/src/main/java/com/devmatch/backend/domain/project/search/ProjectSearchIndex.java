@@ -0,0 +1,20 @@
+package com.devmatch.backend.domain.project.search;
+
+import java.util.List;
+
+/**
+ * 프로젝트 제목/설명/기술 스택 전문 검색 색인.
+ * 운영(PostgreSQL)은 tsvector GIN 인덱스를, 그 밖의 환경(H2/개발)은 서버 메모리 역색인을 쓴다
+ * (custom.project.search.engine: postgres | memory).
+ */
+public interface ProjectSearchIndex {
+
+  // 프로젝트가 생성되거나 검색 대상 필드가 바뀌었을 때 (커밋 이후 호출)
+  void index(ProjectSearchDocument document);
+
+  // 프로젝트가 삭제되었을 때 (커밋 이후 호출)
+  void remove(Long projectId);
+
+  // 모든 검색어를 포함하는 프로젝트 ID 를 관련도 순으로 offset 부터 최대 limit 개 반환한다
+  List<Long> search(String query, int offset, int limit);
+}
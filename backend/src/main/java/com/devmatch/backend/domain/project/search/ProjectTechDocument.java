@@ -0,0 +1,26 @@
+package com.devmatch.backend.domain.project.search;
+
+import com.devmatch.backend.domain.project.entity.Project;
+import com.devmatch.backend.domain.project.entity.ProjectStatus;
+import java.util.List;
+
+// 추천 색인에 넣는 프로젝트 정보 (요구 기술은 기술 사전의 정규화된 이름)
+public record ProjectTechDocument(
+    Long projectId,
+    Long creatorId,
+    ProjectStatus status,
+    List<String> techs
+) {
+
+  public static ProjectTechDocument from(Project project) {
+    return new ProjectTechDocument(
+        project.getId(),
+        project.getCreator().getId(),
+        project.getStatus(),
+        project.getProjectTechs().stream()
+            .map(projectTech -> projectTech.getTech().getNormalizedName())
+            .distinct()
+            .toList()
+    );
+  }
+}
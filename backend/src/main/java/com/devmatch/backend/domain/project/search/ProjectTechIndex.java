@@ -0,0 +1,163 @@
+package com.devmatch.backend.domain.project.search;
+
+import com.devmatch.backend.domain.project.entity.Project;
+import com.devmatch.backend.domain.project.entity.ProjectStatus;
+import com.devmatch.backend.domain.project.repository.ProjectRepository;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 기술 -> 프로젝트 역색인 (추천용). 사용자 기술 프로필에 있는 기술의 프로젝트만 훑어서 점수를 내므로
+ * 전체 프로젝트 수가 아니라 해당 기술을 요구하는 프로젝트 수에 비례해 동작한다.
+ * 서버 시작 시 DB 에서 전체를 만들고, 이후에는 ProjectService 가 커밋 이후에 갱신한다.
+ */
+@Slf4j
+@Component
+public class ProjectTechIndex {
+
+  private static final int REBUILD_PAGE_SIZE = 500;
+
+  // 점수 높은 순, 같으면 최신(ID 큰) 프로젝트 먼저
+  private static final Comparator<ScoredProject> RANKING = Comparator
+      .comparingDouble(ScoredProject::score)
+      .thenComparing(ScoredProject::projectId)
+      .reversed();
+
+  private final ProjectRepository projectRepository;
+  private final TransactionTemplate transactionTemplate;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<String, Set<Long>> projectIdsByTech = new HashMap<>();
+  private final Map<Long, ProjectTechDocument> documents = new HashMap<>();
+
+  public ProjectTechIndex(
+      ProjectRepository projectRepository,
+      TransactionTemplate transactionTemplate
+  ) {
+    this.projectRepository = projectRepository;
+    this.transactionTemplate = transactionTemplate;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    int pageNumber = 0;
+    boolean hasNext;
+    do {
+      PageRequest pageRequest = PageRequest.of(pageNumber++, REBUILD_PAGE_SIZE, Sort.by("id"));
+      hasNext = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+        Page<Project> page = projectRepository.findAll(pageRequest);
+        page.forEach(project -> index(ProjectTechDocument.from(project)));
+        return page.hasNext();
+      }));
+    } while (hasNext);
+
+    log.info("프로젝트 기술 색인 생성 완료 - {}건", documents.size());
+  }
+
+  public void index(ProjectTechDocument document) {
+    lock.writeLock().lock();
+    try {
+      removeLocked(document.projectId());
+
+      documents.put(document.projectId(), document);
+      document.techs().forEach(tech -> projectIdsByTech
+          .computeIfAbsent(tech, key -> new HashSet<>())
+          .add(document.projectId()));
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void updateStatus(Long projectId, ProjectStatus status) {
+    lock.writeLock().lock();
+    try {
+      documents.computeIfPresent(projectId, (id, document) -> new ProjectTechDocument(
+          id, document.creatorId(), status, document.techs()));
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(Long projectId) {
+    lock.writeLock().lock();
+    try {
+      removeLocked(projectId);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 모집 중인 프로젝트를 사용자 기술 프로필(정규화된 기술명 -> 0~1 숙련도)과 비교해 상위 limit 개를 반환한다.
+   * 점수는 요구 기술별 숙련도 합을 sqrt(요구 기술 수)로 나눈 값 (요구 기술이 많을수록 한 기술의 비중이 줄어든다).
+   */
+  public List<ScoredProject> recommend(
+      Map<String, Double> skillProfile,
+      Long userId,
+      Collection<Long> excludedProjectIds,
+      int limit
+  ) {
+    if (skillProfile.isEmpty() || limit <= 0) {
+      return List.of();
+    }
+
+    lock.readLock().lock();
+    try {
+      Map<Long, Double> skillSums = new HashMap<>();
+      skillProfile.forEach((tech, skill) -> projectIdsByTech.getOrDefault(tech, Set.of())
+          .forEach(projectId -> skillSums.merge(projectId, skill, Double::sum)));
+
+      // 가장 낮은 점수가 맨 앞에 오는 크기 limit 의 힙으로 상위 limit 개만 유지한다
+      PriorityQueue<ScoredProject> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+      skillSums.forEach((projectId, skillSum) -> {
+        ProjectTechDocument document = documents.get(projectId);
+        if (document.status() != ProjectStatus.RECRUITING
+            || Objects.equals(document.creatorId(), userId)
+            || excludedProjectIds.contains(projectId)) {
+          return;
+        }
+
+        top.offer(new ScoredProject(projectId, skillSum / Math.sqrt(document.techs().size())));
+        if (top.size() > limit) {
+          top.poll();
+        }
+      });
+
+      return top.stream().sorted(RANKING).toList();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void removeLocked(Long projectId) {
+    ProjectTechDocument document = documents.remove(projectId);
+    if (document == null) {
+      return;
+    }
+
+    document.techs().forEach(tech -> {
+      Set<Long> projectIds = projectIdsByTech.get(tech);
+      projectIds.remove(projectId);
+      if (projectIds.isEmpty()) {
+        projectIdsByTech.remove(tech);
+      }
+    });
+  }
+}
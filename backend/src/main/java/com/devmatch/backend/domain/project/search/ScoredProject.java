@@ -0,0 +1,8 @@
+package com.devmatch.backend.domain.project.search;
+
+public record ScoredProject(
+    Long projectId,
+    double score
+) {
+
+}
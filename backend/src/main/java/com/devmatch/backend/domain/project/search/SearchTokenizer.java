@@ -0,0 +1,28 @@
+package com.devmatch.backend.domain.project.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+// 문자/숫자와 기술명에 쓰이는 + # 만 남기고 나눈다 (C++, C# 을 C 와 구분하기 위함)
+public class SearchTokenizer {
+
+  private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}+#]+");
+
+  public static List<String> tokenize(String text) {
+    if (text == null || text.isBlank()) {
+      return List.of();
+    }
+
+    return Arrays.stream(SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+        .filter(token -> !token.isEmpty())
+        .toList();
+  }
+
+  public static List<String> queryTerms(String query) {
+    return tokenize(query).stream()
+        .distinct()
+        .toList();
+  }
+}
@@ -0,0 +1,64 @@
+package com.devmatch.backend.domain.project.service;
+
+import com.devmatch.backend.domain.project.dto.VersionedProjectDetail;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 서버 로컬 프로젝트 상세 캐시. 크기와 TTL 로 제한하고, 적중/미적중은
+ * cache.gets{cache="projectDetail"} 메트릭으로 확인한다.
+ */
+@Component
+public class CaffeineProjectDetailCache implements ProjectDetailCache {
+
+  private final Cache<Long, VersionedProjectDetail> responses;
+
+  public CaffeineProjectDetailCache(
+      MeterRegistry meterRegistry,
+      @Value("${custom.project.cache.maxSize:10000}") long maxSize,
+      @Value("${custom.project.cache.ttlSeconds:60}") long ttlSeconds
+  ) {
+    this.responses = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .recordStats()
+        .build();
+
+    CaffeineCacheMetrics.monitor(meterRegistry, responses, "projectDetail");
+  }
+
+  @Override
+  public Optional<VersionedProjectDetail> get(Long projectId) {
+    return Optional.ofNullable(responses.getIfPresent(projectId));
+  }
+
+  @Override
+  public void put(Long projectId, VersionedProjectDetail detail) {
+    responses.put(projectId, detail);
+  }
+
+  // 커밋 전에 다른 요청이 옛 값을 다시 캐시할 수 있으므로 트랜잭션이 끝난 뒤 한 번 더 지운다.
+  // 그 뒤에도 옛 행을 읽은 요청이 늦게 넣을 수는 있지만, 옛 본문과 옛 버전이 한 쌍이라
+  // ETag 가 본문과 어긋나지 않고 TTL 이 지나면 새 버전으로 바뀐다
+  @Override
+  public void evict(Long projectId) {
+    responses.invalidate(projectId);
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          responses.invalidate(projectId);
+        }
+      });
+    }
+  }
+}
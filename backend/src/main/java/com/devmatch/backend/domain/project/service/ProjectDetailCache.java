@@ -0,0 +1,19 @@
+package com.devmatch.backend.domain.project.service;
+
+import com.devmatch.backend.domain.project.dto.VersionedProjectDetail;
+import java.util.Optional;
+
+/**
+ * 프로젝트 ID -> 프로젝트 상세 응답 캐시. 응답과 그 응답을 읽은 버전(ETag)을 한 쌍으로 저장한다.
+ * 기본 구현은 서버 로컬 캐시(CaffeineProjectDetailCache)이고, 서버가 여러 대라면
+ * 무효화가 모든 서버에 전파되는 분산 캐시 구현으로 교체한다.
+ */
+public interface ProjectDetailCache {
+
+  Optional<VersionedProjectDetail> get(Long projectId);
+
+  void put(Long projectId, VersionedProjectDetail detail);
+
+  // 트랜잭션 안에서 호출되면 커밋(롤백) 이후에도 한 번 더 지워야 한다
+  void evict(Long projectId);
+}
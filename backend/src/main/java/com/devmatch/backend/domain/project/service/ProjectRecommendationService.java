@@ -0,0 +1,65 @@
+package com.devmatch.backend.domain.project.service;
+
+import com.devmatch.backend.domain.application.service.ApplicationService;
+import com.devmatch.backend.domain.project.dto.ProjectDetailResponse;
+import com.devmatch.backend.domain.project.dto.ProjectRecommendationResponse;
+import com.devmatch.backend.domain.project.entity.ProjectStatus;
+import com.devmatch.backend.domain.project.search.ProjectTechIndex;
+import com.devmatch.backend.domain.project.search.ScoredProject;
+import io.micrometer.core.annotation.Timed;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+// 지원서에 남긴 기술 점수로 모집 중인 프로젝트를 추천한다. 점수 계산은 기술 색인에서, 응답 조립만 DB 에서 한다
+@Timed("service.method")
+@RequiredArgsConstructor
+@Service
+public class ProjectRecommendationService {
+
+  private static final int MAX_RECOMMENDATION_SIZE = 50;
+  // 색인과 DB 사이에 모집이 끝난 프로젝트를 걸러내도 size 개가 남도록 색인에서 넉넉히 가져온다
+  private static final int OVERFETCH_FACTOR = 2;
+
+  private final ApplicationService applicationService;
+  private final ProjectService projectService;
+  private final ProjectTechIndex projectTechIndex;
+
+  // 이미 지원한 프로젝트와 내가 만든 프로젝트는 추천하지 않는다
+  public List<ProjectRecommendationResponse> recommendProjects(Long userId, int size) {
+    Map<String, Double> skillProfile = applicationService.getSkillProfile(userId);
+    if (skillProfile.isEmpty()) {
+      return List.of();
+    }
+
+    int limit = Math.clamp(size, 1, MAX_RECOMMENDATION_SIZE);
+    List<ScoredProject> scoredProjects = projectTechIndex.recommend(
+        skillProfile,
+        userId,
+        applicationService.getAppliedProjectIds(userId),
+        limit * OVERFETCH_FACTOR
+    );
+
+    Map<Long, ProjectDetailResponse> projects = projectService.getProjectDetails(
+            scoredProjects.stream().map(ScoredProject::projectId).toList())
+        .stream()
+        .collect(Collectors.toMap(ProjectDetailResponse::id, Function.identity()));
+
+    // 색인 갱신은 커밋 이후라 그 사이 모집이 끝난 프로젝트가 섞일 수 있어 DB 상태로 한 번 더 거른다
+    return scoredProjects.stream()
+        .filter(scored -> projects.containsKey(scored.projectId()))
+        .filter(scored -> ProjectStatus.RECRUITING.name()
+            .equals(projects.get(scored.projectId()).status()))
+        .limit(limit)
+        .map(scored -> new ProjectRecommendationResponse(
+            projects.get(scored.projectId()),
+            BigDecimal.valueOf(scored.score()).setScale(2, RoundingMode.HALF_UP)
+        ))
+        .toList();
+  }
+}
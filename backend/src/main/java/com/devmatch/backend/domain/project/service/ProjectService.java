@@ -1,32 +1,82 @@
 package com.devmatch.backend.domain.project.service;
 
+import com.devmatch.backend.domain.application.enums.ApplicationStatus;
+import com.devmatch.backend.domain.application.event.ApplicationEventType;
+import com.devmatch.backend.domain.application.event.ApplicationLifecycleEvent;
+import com.devmatch.backend.domain.application.repository.ApplicationRepository;
+import com.devmatch.backend.domain.project.dto.ProjectApplicationStatsResponse;
 import com.devmatch.backend.domain.project.dto.ProjectCreateRequest;
+import com.devmatch.backend.domain.project.dto.ProjectCursor;
 import com.devmatch.backend.domain.project.dto.ProjectDetailResponse;
+import com.devmatch.backend.domain.project.dto.ProjectPageResponse;
+import com.devmatch.backend.domain.project.dto.ProjectSearchRequest;
+import com.devmatch.backend.domain.project.dto.ProjectSearchResponse;
+import com.devmatch.backend.domain.project.dto.ProjectTextSearchRequest;
+import com.devmatch.backend.domain.project.dto.VersionedProjectDetail;
+import com.devmatch.backend.domain.project.dto.query.ProjectSummaryRow;
 import com.devmatch.backend.domain.project.entity.Project;
 import com.devmatch.backend.domain.project.entity.ProjectStatus;
 import com.devmatch.backend.domain.project.mapper.ProjectMapper;
 import com.devmatch.backend.domain.project.repository.ProjectRepository;
+import com.devmatch.backend.domain.project.search.ProjectSearchDocument;
+import com.devmatch.backend.domain.project.search.ProjectSearchIndex;
+import com.devmatch.backend.domain.project.search.ProjectTechDocument;
+import com.devmatch.backend.domain.project.search.ProjectTechIndex;
 import com.devmatch.backend.domain.user.service.UserService;
+import com.devmatch.backend.global.outbox.OutboxWriter;
+import com.devmatch.backend.global.web.ResourceVersion;
+import io.micrometer.core.annotation.Timed;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+@Timed("service.method")
 @RequiredArgsConstructor
 @Service
 public class ProjectService {
 
+  static final Pattern TECH_STACK_PATTERN =
+      Pattern.compile("^([\\w .+#-]+)(, [\\w .+#-]+)*$");
+  private static final String TECH_STACK_DELIMITER = ", ";
+
+  // IN 절이 비지 않도록 채우는 값. 기술 필터가 없을 때(requiredTechCount == 0)는 조건에 쓰이지 않는다
+  private static final List<String> NO_TECH_FILTER = List.of("");
+
   private final UserService userService;
 
+  private final TechService techService;
+
   private final ProjectRepository projectRepository;
 
+  private final ProjectDetailCache projectDetailCache;
+
+  private final ProjectSearchIndex projectSearchIndex;
+
+  private final ProjectTechIndex projectTechIndex;
+
+  private final ProjectStatsService projectStatsService;
+
+  private final ApplicationRepository applicationRepository;
+
+  private final OutboxWriter outboxWriter;
+
   @Transactional
   public ProjectDetailResponse createProject(
       Long userId,
       ProjectCreateRequest projectCreateRequest
   ) {
-    if (!projectCreateRequest.techStack().matches("^([\\w .+#-]+)(, [\\w .+#-]+)*$")) {
+    if (!TECH_STACK_PATTERN.matcher(projectCreateRequest.techStack()).matches()) {
       throw new IllegalArgumentException("기술 스택 기재 형식이 올바르지 않습니다. \", \"로 구분해주세요");
     }
 
@@ -38,14 +88,78 @@ public class ProjectService {
         userService.getUser(userId),
         projectCreateRequest.durationWeeks()
     );
+    project.changeTechs(techService.resolveAll(
+        Arrays.asList(projectCreateRequest.techStack().split(TECH_STACK_DELIMITER))));
+
+    Project savedProject = projectRepository.save(project);
+    projectStatsService.create(savedProject.getId());
+    ProjectSearchDocument searchDocument = ProjectSearchDocument.from(savedProject);
+    ProjectTechDocument techDocument = ProjectTechDocument.from(savedProject);
+    afterCommit(() -> {
+      projectSearchIndex.index(searchDocument);
+      projectTechIndex.index(techDocument);
+    });
 
-    return ProjectMapper.toProjectDetailResponse(projectRepository.save(project));
+    return ProjectMapper.toProjectDetailResponse(savedProject);
   }
 
   @Transactional(readOnly = true)
-  public List<ProjectDetailResponse> getProjects() {
-    return projectRepository.findAll()
-        .stream()
+  public ProjectPageResponse getProjects(ProjectSearchRequest projectSearchRequest) {
+    int size = projectSearchRequest.pageSize();
+    ProjectCursor cursor = ProjectCursor.decode(projectSearchRequest.cursor());
+    List<String> techs = projectSearchRequest.normalizedTechs();
+
+    // 다음 페이지 존재 여부를 알기 위해 한 건을 더 조회한다
+    List<Project> projects = projectRepository.findPageByKeyset(
+        projectSearchRequest.status(),
+        techs.isEmpty() ? NO_TECH_FILTER : techs,
+        projectSearchRequest.requiredTechCount(),
+        projectSearchRequest.minDurationWeeks(),
+        projectSearchRequest.maxDurationWeeks(),
+        cursor != null ? cursor.createdAt() : null,
+        cursor != null ? cursor.id() : null,
+        PageRequest.of(0, size + 1)
+    );
+
+    boolean hasNext = projects.size() > size;
+    List<Project> page = hasNext ? projects.subList(0, size) : projects;
+    String nextCursor = hasNext ? ProjectCursor.from(page.getLast()).encode() : null;
+
+    return new ProjectPageResponse(
+        page.stream().map(ProjectMapper::toProjectDetailResponse).toList(),
+        nextCursor,
+        hasNext
+    );
+  }
+
+  // 검색 색인에서 관련도 순으로 ID 를 받아, 그 순서대로 프로젝트를 한 번에 조회한다
+  @Transactional(readOnly = true)
+  public ProjectSearchResponse searchProjects(ProjectTextSearchRequest projectTextSearchRequest) {
+    int page = projectTextSearchRequest.pageNumber();
+    int size = projectTextSearchRequest.pageSize();
+
+    // 다음 페이지 존재 여부를 알기 위해 한 건을 더 조회한다
+    List<Long> projectIds = projectSearchIndex.search(
+        projectTextSearchRequest.q(),
+        page * size,
+        size + 1
+    );
+
+    boolean hasNext = projectIds.size() > size;
+    List<Long> pageIds = hasNext ? projectIds.subList(0, size) : projectIds;
+
+    return new ProjectSearchResponse(getProjectDetails(pageIds), page, hasNext);
+  }
+
+  // 색인이 정한 순서대로 프로젝트를 한 번에 조회한다. 색인과 DB 사이에 막 삭제된 프로젝트는 건너뛴다
+  @Transactional(readOnly = true)
+  public List<ProjectDetailResponse> getProjectDetails(List<Long> projectIds) {
+    Map<Long, Project> projects = projectRepository.findAllWithCreatorByIdIn(projectIds).stream()
+        .collect(Collectors.toMap(Project::getId, Function.identity()));
+
+    return projectIds.stream()
+        .map(projects::get)
+        .filter(Objects::nonNull)
         .map(ProjectMapper::toProjectDetailResponse)
         .toList();
   }
@@ -58,15 +172,41 @@ public class ProjectService {
         .toList();
   }
 
+  @Transactional(readOnly = true)
+  public List<ProjectSummaryRow> getProjectSummariesByUserId(Long userId) {
+    return projectRepository.findSummaryRowsByCreatorId(userId, ApplicationStatus.PENDING);
+  }
+
   @Transactional(readOnly = true)
   public ProjectDetailResponse getProjectDetail(Long projectId) {
-    return ProjectMapper.toProjectDetailResponse(getProject(projectId));
+    return getVersionedProjectDetail(projectId).response();
+  }
+
+  // 변경이 드물어 캐시에서 먼저 찾는다. 프로젝트를 바꾸는 곳에서는 반드시 projectDetailCache.evict 를 호출한다.
+  // 버전은 본문과 같은 행에서 읽어 함께 캐시하므로 ETag 가 본문보다 새롭거나 오래될 수 없다
+  // (팀원 수 조건부 UPDATE 도 버전을 올린다)
+  @Transactional(readOnly = true)
+  public VersionedProjectDetail getVersionedProjectDetail(Long projectId) {
+    return projectDetailCache.get(projectId).orElseGet(() -> {
+      Project project = projectRepository.findWithCreatorById(projectId)
+          .orElseThrow(() -> new NoSuchElementException("조회하려는 프로젝트가 없습니다"));
+
+      VersionedProjectDetail detail = new VersionedProjectDetail(
+          ProjectMapper.toProjectDetailResponse(project),
+          ResourceVersion.of("project", projectId, project.getVersion(), project.getUpdatedAt())
+      );
+      projectDetailCache.put(projectId, detail);
+
+      return detail;
+    });
   }
 
   @Transactional
   public ProjectDetailResponse modifyStatus(Long projectId, ProjectStatus status) {
     Project project = getProject(projectId);
     project.changeStatus(status);
+    projectDetailCache.evict(projectId);
+    afterCommit(() -> projectTechIndex.updateStatus(projectId, status));
 
     return ProjectMapper.toProjectDetailResponse(project);
   }
@@ -75,18 +215,101 @@ public class ProjectService {
   public ProjectDetailResponse modifyContent(Long projectId, String content) {
     Project project = getProject(projectId);
     project.changeContent(content);
+    projectDetailCache.evict(projectId);
 
     return ProjectMapper.toProjectDetailResponse(project);
   }
 
+  // 지원서 승인으로 팀원이 늘어난다. 정원 검사와 증가를 조건부 UPDATE 하나로 처리해 동시 승인에도 정원을 넘지 않는다
+  @Transactional
+  public void increaseCurrentTeamSize(Long projectId) {
+    if (projectRepository.increaseCurrentTeamSize(projectId, ProjectStatus.COMPLETED,
+        ProjectStatus.RECRUITING) == 0) {
+      throw new IllegalArgumentException("정원이 가득 차서 지원서를 더 이상 승인할 수 없습니다");
+    }
+
+    projectDetailCache.evict(projectId);
+    refreshIndexedStatus(projectId);
+  }
+
+  // 승인된 지원서가 취소/삭제되어 팀원이 줄어든다
+  @Transactional
+  public void decreaseCurrentTeamSize(Long projectId) {
+    projectRepository.decreaseCurrentTeamSize(projectId, ProjectStatus.RECRUITING);
+    projectDetailCache.evict(projectId);
+    refreshIndexedStatus(projectId);
+  }
+
+  // 여러 지원서의 승인 여부가 한꺼번에 바뀔 때 팀원 수를 합계만큼 한 번에 바꾼다
+  @Transactional
+  public void changeCurrentTeamSize(Long projectId, int delta) {
+    if (delta == 0) {
+      return;
+    }
+
+    if (projectRepository.changeCurrentTeamSize(projectId, delta, ProjectStatus.COMPLETED,
+        ProjectStatus.RECRUITING) == 0) {
+      throw new IllegalArgumentException("정원이 가득 차서 지원서를 더 이상 승인할 수 없습니다");
+    }
+
+    projectDetailCache.evict(projectId);
+    refreshIndexedStatus(projectId);
+  }
+
+  // 조건부 UPDATE 는 영속성 컨텍스트를 거치지 않으므로 바뀐 상태를 DB 에서 다시 읽어 추천 색인에 반영한다
+  private void refreshIndexedStatus(Long projectId) {
+    projectRepository.findStatusById(projectId).ifPresent(
+        status -> afterCommit(() -> projectTechIndex.updateStatus(projectId, status)));
+  }
+
+  // 지원서를 훑지 않고 미리 집계해 둔 통계 행만 읽는다
+  @Transactional(readOnly = true)
+  public ProjectApplicationStatsResponse getApplicationStats(Long projectId) {
+    getProject(projectId);
+    return projectStatsService.getStats(projectId);
+  }
+
   @Transactional
   public void deleteProject(Long projectId) {
     getProject(projectId);
+    appendApplicationDeletedEvents(projectId);
+    projectStatsService.delete(projectId);
     projectRepository.deleteById(projectId);
+    projectDetailCache.evict(projectId);
+    afterCommit(() -> {
+      projectSearchIndex.remove(projectId);
+      projectTechIndex.remove(projectId);
+    });
+  }
+
+  // 프로젝트와 함께 지워지는 지원서도 개별 삭제와 똑같이 DELETED 이벤트를 같은 트랜잭션에 남긴다
+  private void appendApplicationDeletedEvents(Long projectId) {
+    applicationRepository.findAllByProjectId(projectId).forEach(application ->
+        outboxWriter.append(
+            ApplicationLifecycleEvent.AGGREGATE_TYPE,
+            application.getId(),
+            ApplicationEventType.DELETED.name(),
+            ApplicationLifecycleEvent.of(application, application.getStatus(), null)
+        ));
   }
 
   public Project getProject(Long projectId) {
     return projectRepository.findById(projectId)
         .orElseThrow(() -> new NoSuchElementException("조회하려는 프로젝트가 없습니다"));
   }
+
+  // 롤백된 변경이 검색/추천 색인에 남지 않도록 커밋 이후에 반영한다
+  private void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
 }
@@ -0,0 +1,180 @@
+package com.devmatch.backend.domain.project.service;
+
+import com.devmatch.backend.domain.application.entity.Application;
+import com.devmatch.backend.domain.application.entity.SkillScore;
+import com.devmatch.backend.domain.application.enums.ApplicationStatus;
+import com.devmatch.backend.domain.project.dto.ProjectApplicationStatsResponse;
+import com.devmatch.backend.domain.project.dto.query.ScoreSumRow;
+import com.devmatch.backend.domain.project.entity.ProjectApplicationStats;
+import com.devmatch.backend.domain.project.entity.ProjectTechSkillStats;
+import com.devmatch.backend.domain.project.entity.Tech;
+import com.devmatch.backend.domain.project.repository.ProjectApplicationStatsRepository;
+import com.devmatch.backend.domain.project.repository.ProjectTechSkillStatsRepository;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 프로젝트별 지원서 통계(상태별 수, 기술별 자기 평가 평균, 적합도 평균)를 지원서 변경과 같은 트랜잭션에서 증감한다.
+ * 조회는 지원서를 훑지 않고 통계 행만 읽는다.
+ * on* 메서드는 지원서를 바꾸기 전에 호출해야 한다. 통계 행이 없으면 그 시점의 지원서로 다시 계산하기 때문이다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectStatsService {
+
+  private final ProjectApplicationStatsRepository statsRepository;
+  private final ProjectTechSkillStatsRepository techSkillStatsRepository;
+  private final TransactionTemplate transactionTemplate;
+
+  @Transactional(readOnly = true)
+  public ProjectApplicationStatsResponse getStats(Long projectId) {
+    ProjectApplicationStats stats = statsRepository.findById(projectId)
+        .orElseGet(() -> {
+          createIfAbsent(projectId);
+          return statsRepository.findById(projectId).orElseThrow();
+        });
+
+    return ProjectApplicationStatsResponse.of(stats,
+        techSkillStatsRepository.findAllByProjectIdOrderByNormalizedNameAsc(projectId));
+  }
+
+  // 첫 지원서들이 동시에 들어와도 통계 행을 만드는 경쟁이 없도록 프로젝트를 만들 때 함께 만든다
+  @Transactional
+  public void create(Long projectId) {
+    statsRepository.save(new ProjectApplicationStats(projectId));
+  }
+
+  @Transactional
+  public void delete(Long projectId) {
+    techSkillStatsRepository.deleteAllByProjectId(projectId);
+    statsRepository.deleteById(projectId);
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void onApplicationCreated(Long projectId, Application application) {
+    lock(projectId).changeStatusCount(application.getStatus(), 1);
+    changeSkillScores(projectId, application.getSkillScore(), 1);
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void onStatusChanged(
+      Long projectId,
+      ApplicationStatus oldStatus,
+      ApplicationStatus newStatus
+  ) {
+    ProjectApplicationStats stats = lock(projectId);
+    stats.changeStatusCount(oldStatus, -1);
+    stats.changeStatusCount(newStatus, 1);
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void onAnalysisSaved(Long projectId, BigDecimal compatibilityScore) {
+    lock(projectId).changeCompatibilityScore(compatibilityScore, 1);
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void onApplicationDeleted(Long projectId, Application application) {
+    ProjectApplicationStats stats = lock(projectId);
+    stats.changeStatusCount(application.getStatus(), -1);
+    if (application.getAnalysisResult() != null) {
+      stats.changeCompatibilityScore(
+          application.getAnalysisResult().getCompatibilityScore().negate(), -1);
+    }
+    changeSkillScores(projectId, application.getSkillScore(), -1);
+  }
+
+  // 통계 도입 전에 만들어진 프로젝트의 통계 행을 만든다
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfill() {
+    List<Long> projectIds = transactionTemplate.execute(
+        status -> statsRepository.findProjectIdsWithoutStats());
+
+    if (projectIds == null || projectIds.isEmpty()) {
+      return;
+    }
+
+    projectIds.forEach(this::createIfAbsent);
+    log.info("프로젝트 지원서 통계 {}건 생성", projectIds.size());
+  }
+
+  // 통계 행을 잠가 같은 프로젝트의 갱신을 줄 세운다
+  private ProjectApplicationStats lock(Long projectId) {
+    return statsRepository.findForUpdate(projectId).orElseGet(() -> {
+      createIfAbsent(projectId);
+      return statsRepository.findForUpdate(projectId).orElseThrow();
+    });
+  }
+
+  // 통계 행이 없으면(통계 도입 전 프로젝트) 별도 트랜잭션에서 커밋된 지원서로 다시 계산해 만든다.
+  // 동시에 다른 요청이 먼저 만들었으면 키 중복으로 실패하고, 그 행을 그대로 쓴다
+  private void createIfAbsent(Long projectId) {
+    TransactionTemplate newTransaction =
+        new TransactionTemplate(transactionTemplate.getTransactionManager());
+    newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+    try {
+      newTransaction.executeWithoutResult(status -> rebuild(projectId));
+    } catch (DataIntegrityViolationException e) {
+      log.debug("프로젝트 지원서 통계가 이미 생성됨 - projectId: {}", projectId);
+    }
+  }
+
+  private void changeSkillScores(Long projectId, List<SkillScore> skillScores, int sign) {
+    if (skillScores.isEmpty()) {
+      return;
+    }
+
+    Map<String, ProjectTechSkillStats> techSkillStats = techSkillStatsRepository
+        .findAllByProjectIdOrderByNormalizedNameAsc(projectId).stream()
+        .collect(Collectors.toMap(ProjectTechSkillStats::getNormalizedName, Function.identity()));
+
+    for (SkillScore skillScore : skillScores) {
+      techSkillStats.computeIfAbsent(Tech.normalize(skillScore.getTechName()),
+              key -> techSkillStatsRepository.save(
+                  new ProjectTechSkillStats(projectId, skillScore.getTechName())))
+          .add((long) sign * skillScore.getScore(), sign);
+    }
+
+    techSkillStats.values().stream()
+        .filter(ProjectTechSkillStats::isEmpty)
+        .forEach(techSkillStatsRepository::delete);
+  }
+
+  private void rebuild(Long projectId) {
+    ProjectApplicationStats stats = new ProjectApplicationStats(projectId);
+
+    statsRepository.countApplicationsByStatus(projectId)
+        .forEach(row -> stats.changeStatusCount(row.status(), row.count()));
+
+    ScoreSumRow compatibility = statsRepository.sumCompatibilityScores(projectId);
+    if (compatibility.scoreCount() > 0) {
+      stats.changeCompatibilityScore(compatibility.scoreSum(), compatibility.scoreCount());
+    }
+
+    Map<String, ProjectTechSkillStats> techSkillStats = new LinkedHashMap<>();
+    statsRepository.sumSkillScoresByTech(projectId).forEach(row -> techSkillStats
+        .computeIfAbsent(Tech.normalize(row.techName()),
+            key -> new ProjectTechSkillStats(projectId, row.techName()))
+        .add(row.scoreSum(), row.scoreCount()));
+
+    techSkillStatsRepository.deleteAllByProjectId(projectId);
+    techSkillStatsRepository.saveAll(techSkillStats.values());
+
+    statsRepository.save(stats);
+  }
+}
@@ -0,0 +1,56 @@
+package com.devmatch.backend.domain.project.service;
+
+import com.devmatch.backend.domain.project.entity.Tech;
+import com.devmatch.backend.domain.project.repository.TechRepository;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+@Service
+public class TechService {
+
+  private final TechRepository techRepository;
+
+  // 기술명 목록을 기술 사전의 엔티티로 바꾼다. 사전에 없는 기술은 새로 등록하고, 중복은 한 번만 남긴다
+  @Transactional
+  public List<Tech> resolveAll(List<String> techNames) {
+    Map<String, String> namesByNormalizedName = new LinkedHashMap<>();
+    techNames.forEach(name -> namesByNormalizedName.putIfAbsent(Tech.normalize(name), name));
+
+    Map<String, Tech> techsByNormalizedName = findAll(namesByNormalizedName);
+
+    if (techsByNormalizedName.size() < namesByNormalizedName.size()) {
+      namesByNormalizedName.forEach((normalizedName, name) -> {
+        if (!techsByNormalizedName.containsKey(normalizedName)) {
+          createIfAbsent(name);
+        }
+      });
+      techsByNormalizedName = findAll(namesByNormalizedName);
+    }
+
+    return namesByNormalizedName.keySet()
+        .stream()
+        .map(techsByNormalizedName::get)
+        .toList();
+  }
+
+  private Map<String, Tech> findAll(Map<String, String> namesByNormalizedName) {
+    return techRepository
+        .findAllByNormalizedNameIn(namesByNormalizedName.keySet())
+        .stream()
+        .collect(Collectors.toMap(Tech::getNormalizedName, Function.identity()));
+  }
+
+  // 사전에 없는 기술은 현재 트랜잭션에서 등록한다.
+  // 동시에 다른 요청이 같은 기술을 먼저 등록했으면 insert 는 건너뛰고, 다시 읽을 때 그 행을 쓴다
+  private void createIfAbsent(String name) {
+    Tech tech = new Tech(name);
+    techRepository.insertIfAbsent(tech.getName(), tech.getNormalizedName());
+  }
+}
@@ -3,15 +3,22 @@ package com.devmatch.backend.domain.user.controller;
 import com.devmatch.backend.domain.application.dto.response.ApplicationDetailResponseDto;
 import com.devmatch.backend.domain.application.service.ApplicationService;
 import com.devmatch.backend.domain.project.dto.ProjectDetailResponse;
+import com.devmatch.backend.domain.project.dto.ProjectRecommendationResponse;
+import com.devmatch.backend.domain.project.service.ProjectRecommendationService;
 import com.devmatch.backend.domain.project.service.ProjectService;
+import com.devmatch.backend.domain.user.dto.UserDashboardResponse;
 import com.devmatch.backend.domain.user.entity.User;
+import com.devmatch.backend.domain.user.service.UserDashboardService;
 import com.devmatch.backend.global.rq.Rq;
+import com.devmatch.backend.standard.util.Ut;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -22,6 +29,8 @@ public class UserController {
   private final Rq rq;
   private final ProjectService projectService;
   private final ApplicationService applicationService;
+  private final ProjectRecommendationService projectRecommendationService;
+  private final UserDashboardService userDashboardService;
 
   @GetMapping("/profile")
   public ResponseEntity<User> getCurrentUser() {
@@ -44,4 +53,26 @@ public class UserController {
     return ResponseEntity.status(HttpStatus.OK)
         .body(applicationService.getApplicationsByUserId(id));
   }
-}
\ No newline at end of file
+
+  // 프로필/내 프로젝트/내 지원서를 한 번에 응답한다. 본문 해시를 ETag 로 보내고,
+  // If-None-Match 가 같으면 본문 없이 304 로 응답한다 (사용자별 응답이라 공유 캐시에는 저장하지 않는다)
+  @GetMapping("/dashboard")
+  public ResponseEntity<UserDashboardResponse> getDashboard() {
+    UserDashboardResponse dashboard = userDashboardService.getDashboard(rq.getActor());
+
+    return ResponseEntity.status(HttpStatus.OK)
+        .eTag(Ut.hash.sha256Hex(Ut.json.toString(dashboard)))
+        .cacheControl(CacheControl.noCache().cachePrivate())
+        .body(dashboard);
+  }
+
+  // 내 지원서의 기술 점수와 잘 맞는 모집 중인 프로젝트 (최대 50개)
+  @GetMapping("/recommendations")
+  public ResponseEntity<List<ProjectRecommendationResponse>> findRecommendedProjects(
+      @RequestParam(defaultValue = "10") int size
+  ) {
+    User actor = rq.getActor();
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(projectRecommendationService.recommendProjects(actor.getId(), size));
+  }
+}
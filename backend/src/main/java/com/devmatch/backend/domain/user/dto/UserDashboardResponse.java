@@ -0,0 +1,76 @@
+package com.devmatch.backend.domain.user.dto;
+
+import com.devmatch.backend.domain.application.dto.query.UserApplicationRow;
+import com.devmatch.backend.domain.application.enums.ApplicationStatus;
+import com.devmatch.backend.domain.project.dto.query.ProjectSummaryRow;
+import com.devmatch.backend.domain.project.entity.ProjectStatus;
+import com.devmatch.backend.domain.user.entity.User;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 마이페이지 한 화면에 필요한 내 정보, 내가 만든 프로젝트, 내 지원서
+public record UserDashboardResponse(
+    Profile profile,
+    List<MyProject> projects,
+    List<MyApplication> applications
+) {
+
+  public record Profile(
+      Long id,
+      String username,
+      String nickname,
+      String profileImgUrl
+  ) {
+
+    public static Profile from(User user) {
+      return new Profile(user.getId(), user.getUsername(), user.getNickName(),
+          user.getProfileImgUrl());
+    }
+  }
+
+  public record MyProject(
+      Long projectId,
+      String title,
+      ProjectStatus status,
+      Integer teamSize,
+      Integer currentTeamSize,
+      LocalDateTime createdAt,
+      long applicantCount,      // 전체 지원자 수
+      long pendingCount         // 심사 대기 중인 지원자 수
+  ) {
+
+    public static MyProject from(ProjectSummaryRow row) {
+      return new MyProject(row.projectId(), row.title(), row.status(), row.teamSize(),
+          row.currentTeamSize(), row.createdAt(), row.applicantCount(), row.pendingCount());
+    }
+  }
+
+  public record MyApplication(
+      Long applicationId,
+      Long projectId,
+      String projectTitle,
+      ProjectStatus projectStatus,
+      ApplicationStatus status,
+      LocalDateTime appliedAt,
+      BigDecimal compatibilityScore // 분석 전이면 null
+  ) {
+
+    public static MyApplication from(UserApplicationRow row) {
+      return new MyApplication(row.applicationId(), row.projectId(), row.projectTitle(),
+          row.projectStatus(), row.status(), row.appliedAt(), row.compatibilityScore());
+    }
+  }
+
+  public static UserDashboardResponse of(
+      User user,
+      List<ProjectSummaryRow> projects,
+      List<UserApplicationRow> applications
+  ) {
+    return new UserDashboardResponse(
+        Profile.from(user),
+        projects.stream().map(MyProject::from).toList(),
+        applications.stream().map(MyApplication::from).toList()
+    );
+  }
+}
@@ -0,0 +1,72 @@
+package com.devmatch.backend.domain.user.service;
+
+import com.devmatch.backend.domain.user.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 액세스 토큰이 없거나 만료되어 apiKey 로 인증할 때 쓰는 apiKey -> 사용자 캐시.
+ * 인증에 필요한 최소 정보(id, username, nickname)만 보관하고, 로그아웃/회원 정보 수정 시 무효화한다.
+ * 적중/미적중은 cache.gets{cache="apiKeyUser"} 메트릭으로 확인한다.
+ */
+@Component
+public class ApiKeyUserCache {
+
+  private final Cache<String, ApiKeyPrincipal> principals;
+
+  public ApiKeyUserCache(
+      MeterRegistry meterRegistry,
+      @Value("${custom.apiKey.cache.maxSize:10000}") long maxSize,
+      @Value("${custom.apiKey.cache.ttlSeconds:300}") long ttlSeconds
+  ) {
+    this.principals = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .recordStats()
+        .build();
+
+    CaffeineCacheMetrics.monitor(meterRegistry, principals, "apiKeyUser");
+  }
+
+  public Optional<User> get(String apiKey) {
+    return Optional.ofNullable(principals.getIfPresent(apiKey))
+        .map(ApiKeyPrincipal::toUser);
+  }
+
+  public void put(String apiKey, User user) {
+    principals.put(apiKey, new ApiKeyPrincipal(user.getId(), user.getUsername(), user.getNickName()));
+  }
+
+  // 트랜잭션 안이라면 커밋 이후에 지워서, 커밋 전 값이 다시 캐시되는 것을 막는다
+  public void invalidate(String apiKey) {
+    if (apiKey == null || apiKey.isBlank()) {
+      return;
+    }
+
+    principals.invalidate(apiKey);
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          principals.invalidate(apiKey);
+        }
+      });
+    }
+  }
+
+  private record ApiKeyPrincipal(Long id, String username, String nickname) {
+
+    User toUser() {
+      return new User(id, username, nickname);
+    }
+  }
+}
@@ -2,6 +2,11 @@ package com.devmatch.backend.domain.user.service;
 
 import com.devmatch.backend.domain.user.entity.User;
 import com.devmatch.backend.standard.util.Ut;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import java.time.Duration;
 import java.util.Map;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -15,6 +20,19 @@ public class AuthTokenService {
   @Value("${custom.accessToken.expirationSeconds}")
   private int accessTokenExpirationSeconds;
 
+  // 검증을 통과한 토큰 -> 페이로드. 토큰의 만료 시각(exp)까지만 보관한다 (maxSize 0 이면 캐시하지 않음)
+  private final Cache<String, VerifiedPayload> verifiedPayloads;
+
+  public AuthTokenService(
+      @Value("${custom.accessToken.verificationCacheMaxSize:10000}") long verificationCacheMaxSize
+  ) {
+    this.verifiedPayloads = verificationCacheMaxSize <= 0 ? null : Caffeine.newBuilder()
+        .maximumSize(verificationCacheMaxSize)
+        .expireAfter(Expiry.creating((String token, VerifiedPayload verified) ->
+            Duration.ofMillis(Math.max(0, verified.expiresAtMillis() - System.currentTimeMillis()))))
+        .build();
+  }
+
   String genAccessToken(User user) {
     long id = user.getId();
     String username = user.getUsername();//롬복
@@ -28,16 +46,35 @@ public class AuthTokenService {
   }
 
   Map<String, Object> payload(String accessToken) {
-    Map<String, Object> parsedPayload = Ut.jwt.payload(jwtSecretKey, accessToken);
+    if (verifiedPayloads != null) {
+      VerifiedPayload cached = verifiedPayloads.getIfPresent(accessToken);
+
+      if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+        return cached.payload();
+      }
+    }
+
+    Claims claims = Ut.jwt.claims(jwtSecretKey, accessToken);
 
-    if (parsedPayload == null) {
+    if (claims == null) {
       return null;
     }
 
-    int id = (int) parsedPayload.get("id");
-    String username = (String) parsedPayload.get("username");
-    String name = (String) parsedPayload.get("name");
+    int id = (int) claims.get("id");
+    String username = (String) claims.get("username");
+    String name = (String) claims.get("name");
+
+    Map<String, Object> payload = Map.of("id", id, "username", username, "name", name);
+
+    if (verifiedPayloads != null && claims.getExpiration() != null) {
+      verifiedPayloads.put(accessToken,
+          new VerifiedPayload(payload, claims.getExpiration().getTime()));
+    }
+
+    return payload;
+  }
+
+  private record VerifiedPayload(Map<String, Object> payload, long expiresAtMillis) {
 
-    return Map.of("id", id, "username", username, "name", name);
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package com.devmatch.backend.domain.user.service;
+
+import com.devmatch.backend.domain.application.service.ApplicationService;
+import com.devmatch.backend.domain.project.service.ProjectService;
+import com.devmatch.backend.domain.user.dto.UserDashboardResponse;
+import com.devmatch.backend.domain.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class UserDashboardService {
+
+  private final ProjectService projectService;
+  private final ApplicationService applicationService;
+
+  // 프로젝트(지원자 수 집계 포함) 1번, 지원서(프로젝트 제목/적합도 점수 포함) 1번.
+  // 프로젝트/지원서 수와 무관하게 쿼리 2번이고, 내 정보는 인증된 사용자에서 바로 꺼낸다
+  @Transactional(readOnly = true)
+  public UserDashboardResponse getDashboard(User user) {
+    return UserDashboardResponse.of(
+        user,
+        projectService.getProjectSummariesByUserId(user.getId()),
+        applicationService.getUserApplicationRows(user.getId())
+    );
+  }
+}
@@ -4,12 +4,14 @@ import com.devmatch.backend.domain.user.entity.User;
 import com.devmatch.backend.domain.user.repository.UserRepository;
 import com.devmatch.backend.exception.ServiceException;
 import com.devmatch.backend.global.RsData;
+import io.micrometer.core.annotation.Timed;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -20,6 +22,7 @@ public class UserService {
   private final AuthTokenService authTokenService;
   private final UserRepository userRepository;
   private final PasswordEncoder passwordEncoder;
+  private final ApiKeyUserCache apiKeyUserCache;
 
 
   //이거는 타인의 id를 통해 타인을 가져올 때만 쓰셔야 합니다.
@@ -64,10 +67,34 @@ public class UserService {
     return userRepository.findByApiKey(apiKey);
   }
 
+  // 인증 필터용. 캐시에서 먼저 찾고, 없을 때만 조회 후 캐시한다 (캐시 적중 시 커넥션을 쓰지 않도록 트랜잭션을 열지 않음)
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public Optional<User> findActorByApiKey(String apiKey) {
+    Optional<User> cached = apiKeyUserCache.get(apiKey);
+    if (cached.isPresent()) {
+      return cached;
+    }
+
+    Optional<User> user = userRepository.findByApiKey(apiKey);
+    user.ifPresent(found -> apiKeyUserCache.put(apiKey, found));
+
+    return user;
+  }
+
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public void logout(String apiKey) {
+    apiKeyUserCache.invalidate(apiKey);
+  }
+
+  // 토큰 발급/검증은 DB를 쓰지 않으므로 트랜잭션(커넥션)을 열지 않는다
+  @Timed(value = "auth.jwt", extraTags = {"operation", "issue"})
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public String genAccessToken(User user) {
     return authTokenService.genAccessToken(user);
   }
 
+  @Timed(value = "auth.jwt", extraTags = {"operation", "verify"})
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public Map<String, Object> payload(String accessToken) {
     return authTokenService.payload(accessToken);
   }
@@ -92,5 +119,6 @@ public class UserService {
 
   private void modify(User user, String nickname, String profileImgUrl) {
     user.modify(nickname, profileImgUrl);
+    apiKeyUserCache.invalidate(user.getApiKey());
   }
 }
\ No newline at end of file
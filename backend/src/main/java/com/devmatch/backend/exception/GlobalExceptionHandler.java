@@ -1,10 +1,14 @@
 package com.devmatch.backend.exception;
 
+import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 
 import com.devmatch.backend.global.ApiResponse;
+import com.devmatch.backend.global.ai.LlmUnavailableException;
 import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
@@ -44,4 +48,16 @@ public class GlobalExceptionHandler {
   public ResponseEntity<ApiResponse<Void>> handle(NoSuchElementException ex) {
     return ResponseEntity.status(NOT_FOUND).body(new ApiResponse<>(ex.getMessage()));
   }
-}
\ No newline at end of file
+
+  // 재시도 후에도 동시 수정 충돌이 해소되지 않은 경우
+  @ExceptionHandler(ConcurrencyFailureException.class)
+  public ResponseEntity<ApiResponse<Void>> handle(ConcurrencyFailureException ex) {
+    return ResponseEntity.status(CONFLICT)
+        .body(new ApiResponse<>("다른 요청과 동시에 수정되었습니다. 잠시 후 다시 시도해주세요."));
+  }
+
+  @ExceptionHandler(LlmUnavailableException.class)
+  public ResponseEntity<ApiResponse<Void>> handle(LlmUnavailableException ex) {
+    return ResponseEntity.status(SERVICE_UNAVAILABLE).body(new ApiResponse<>(ex.getMessage()));
+  }
+}
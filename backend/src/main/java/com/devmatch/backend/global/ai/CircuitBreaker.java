@@ -0,0 +1,104 @@
+package com.devmatch.backend.global.ai;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 연속 실패가 failureThreshold 번 쌓이면 openDuration 동안 호출을 막는다(OPEN).
+ * 시간이 지나면 한 번의 시험 호출만 허용하고(HALF_OPEN), 그 결과로 닫거나 다시 연다.
+ * 가상 스레드에서 호출되므로 synchronized(캐리어 스레드 고정) 대신 ReentrantLock 을 쓴다.
+ */
+public class CircuitBreaker {
+
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final int failureThreshold;
+  private final long openNanos;
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private State state = State.CLOSED;
+  private int consecutiveFailures;
+  private long openedAtNanos;
+  private boolean trialInFlight;
+
+  public CircuitBreaker(int failureThreshold, Duration openDuration) {
+    if (failureThreshold < 1) {
+      throw new IllegalArgumentException("실패 임계값은 1 이상이어야 합니다: " + failureThreshold);
+    }
+    this.failureThreshold = failureThreshold;
+    this.openNanos = openDuration.toNanos();
+  }
+
+  public boolean tryAcquirePermission() {
+    lock.lock();
+    try {
+      if (state == State.OPEN && System.nanoTime() - openedAtNanos >= openNanos) {
+        state = State.HALF_OPEN;
+        trialInFlight = false;
+      }
+
+      return switch (state) {
+        case CLOSED -> true;
+        case OPEN -> false;
+        case HALF_OPEN -> {
+          if (trialInFlight) {
+            yield false;
+          }
+          trialInFlight = true;
+          yield true;
+        }
+      };
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void onSuccess() {
+    lock.lock();
+    try {
+      state = State.CLOSED;
+      consecutiveFailures = 0;
+      trialInFlight = false;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void onFailure() {
+    lock.lock();
+    try {
+      trialInFlight = false;
+
+      if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+        state = State.OPEN;
+        openedAtNanos = System.nanoTime();
+        consecutiveFailures = 0;
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // 허가를 받았지만 호출하지 않은 경우 (결과를 반영하지 않고 시험 호출 자리만 돌려준다)
+  public void releasePermission() {
+    lock.lock();
+    try {
+      trialInFlight = false;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public State getState() {
+    lock.lock();
+    try {
+      return state;
+    } finally {
+      lock.unlock();
+    }
+  }
+}
@@ -0,0 +1,299 @@
+package com.devmatch.backend.global.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * ChatModel 호출을 감싸는 보호 계층.
+ * 서킷 브레이커 -> 토큰 버킷 -> 동시 호출 제한(bulkhead) -> 호출 타임아웃 순으로 적용하고,
+ * 호출 실패나 응답 파싱 실패는 jitter 를 준 지수 백오프로 재시도한다.
+ */
+@Slf4j
+public class LlmClient implements AutoCloseable {
+
+  private final ChatModel chatModel;
+  private final LlmResilienceProperties properties;
+  private final TokenBucket rateLimiter;
+  private final Semaphore bulkhead;
+  private final CircuitBreaker circuitBreaker;
+  private final ExecutorService callExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+  private final Timer latency;
+  private final Counter successes;
+  private final Counter failures;
+  private final Counter timeouts;
+  private final Counter rejections;
+  private final Counter retries;
+  private final Counter parseFailures;
+  private final Counter promptTokens;
+  private final Counter completionTokens;
+
+  public LlmClient(ChatModel chatModel, LlmResilienceProperties properties, MeterRegistry meterRegistry) {
+    this.chatModel = chatModel;
+    this.properties = properties;
+    this.rateLimiter = new TokenBucket(properties.burst(), properties.permitsPerSecond());
+    this.bulkhead = new Semaphore(properties.maxConcurrentCalls());
+    this.circuitBreaker = new CircuitBreaker(properties.failureThreshold(), properties.openDuration());
+
+    this.latency = Timer.builder("llm.call.latency").register(meterRegistry);
+    this.successes = outcomeCounter(meterRegistry, "success");
+    this.failures = outcomeCounter(meterRegistry, "failure");
+    this.timeouts = outcomeCounter(meterRegistry, "timeout");
+    this.rejections = outcomeCounter(meterRegistry, "rejected");
+    this.retries = Counter.builder("llm.retries").register(meterRegistry);
+    this.parseFailures = Counter.builder("llm.parse.failures").register(meterRegistry);
+    this.promptTokens = tokenCounter(meterRegistry, "prompt");
+    this.completionTokens = tokenCounter(meterRegistry, "completion");
+
+    Gauge.builder("llm.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+        .description("0: CLOSED, 1: OPEN, 2: HALF_OPEN")
+        .register(meterRegistry);
+    Gauge.builder("llm.bulkhead.active", bulkhead,
+            semaphore -> properties.maxConcurrentCalls() - semaphore.availablePermits())
+        .register(meterRegistry);
+  }
+
+  public String call(String prompt) {
+    return call(prompt, Function.identity());
+  }
+
+  // parser 가 IllegalArgumentException 을 던지면 형식이 어긋난 응답으로 보고 다시 호출한다
+  public <T> T call(String prompt, Function<String, T> parser) {
+    int maxAttempts = Math.max(1, properties.maxAttempts());
+    RuntimeException lastFailure = null;
+
+    for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+      if (attempt > 1) {
+        retries.increment();
+        sleepWithJitter(attempt);
+      }
+
+      String response;
+      try {
+        response = callOnce(prompt);
+      } catch (LlmUnavailableException e) {
+        throw e;
+      } catch (RuntimeException e) {
+        lastFailure = e;
+        log.warn("LLM 호출 실패 ({}/{}): {}", attempt, maxAttempts, e.getMessage());
+        continue;
+      }
+
+      try {
+        return parser.apply(response);
+      } catch (IllegalArgumentException e) {
+        parseFailures.increment();
+        lastFailure = e;
+        log.warn("LLM 응답 파싱 실패 ({}/{}): {}", attempt, maxAttempts, e.getMessage());
+      }
+    }
+
+    if (lastFailure instanceof IllegalArgumentException) {
+      throw lastFailure;
+    }
+    throw new LlmUnavailableException("AI 서버 호출에 실패했습니다. 잠시 후 다시 시도해주세요.", lastFailure);
+  }
+
+  // 호출한 쪽에서 응답 일부만 파싱에 실패한 경우(일괄 분석의 깨진 줄 등) 파싱 실패로 집계한다
+  public void recordParseFailure() {
+    parseFailures.increment();
+  }
+
+  // 스트리밍은 이미 보낸 토큰을 되돌릴 수 없으므로 재시도하지 않는다. 토큰 사이 간격에 callTimeout 을 적용한다.
+  // 허가 대기(최대 acquireTimeout)가 구독한 요청 스레드를 막지 않도록 boundedElastic 에서 구독한다.
+  // bulkhead 허가는 Flux.using 으로 묶어 완료/실패/취소뿐 아니라 chatModel.stream 이 곧바로 던져도 반납하고,
+  // 그 예외도 오류 신호로 바꿔 서킷 브레이커에 실패로 기록한다
+  public Flux<String> stream(String prompt) {
+    return Flux.using(
+        () -> {
+          acquirePermits();
+          return System.nanoTime();
+        },
+        start -> Flux.defer(() -> chatModel.stream(prompt))
+            .timeout(properties.callTimeout())
+            .doOnComplete(() -> {
+              circuitBreaker.onSuccess();
+              successes.increment();
+            })
+            .doOnError(error -> {
+              circuitBreaker.onFailure();
+              (error instanceof TimeoutException ? timeouts : failures).increment();
+            })
+            .doOnCancel(circuitBreaker::releasePermission),
+        start -> {
+          latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+          bulkhead.release();
+        }
+    ).subscribeOn(Schedulers.boundedElastic());
+  }
+
+  public CircuitBreaker.State getCircuitState() {
+    return circuitBreaker.getState();
+  }
+
+  // bulkhead 허가는 실제 호출이 끝날 때 반납한다. 타임아웃으로 포기한 호출이 아직 제공자와 통신 중이면
+  // 허가를 쥐고 있어야 동시 호출 수가 maxConcurrentCalls 를 넘지 않는다.
+  // 작업이 시작되기 전에 취소되면 작업 대신 호출한 쪽이 반납한다 (started 를 먼저 차지한 쪽이 반납)
+  private String callOnce(String prompt) {
+    acquirePermits();
+
+    long start = System.nanoTime();
+    AtomicBoolean started = new AtomicBoolean();
+    Future<ChatResponse> future;
+    try {
+      future = callExecutor.submit(() -> {
+        if (!started.compareAndSet(false, true)) {
+          return null;
+        }
+        try {
+          return chatModel.call(new Prompt(prompt));
+        } finally {
+          bulkhead.release();
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      bulkhead.release();
+      circuitBreaker.releasePermission();
+      throw new LlmUnavailableException("AI 서버 호출을 시작하지 못했습니다.", e);
+    }
+
+    try {
+      ChatResponse response = future.get(properties.callTimeout().toNanos(), TimeUnit.NANOSECONDS);
+      circuitBreaker.onSuccess();
+      successes.increment();
+      recordUsage(response);
+      return text(response);
+    } catch (TimeoutException e) {
+      cancel(future, started);
+      circuitBreaker.onFailure();
+      timeouts.increment();
+      throw new IllegalStateException("AI 응답 시간이 초과되었습니다: " + properties.callTimeout(), e);
+    } catch (ExecutionException e) {
+      circuitBreaker.onFailure();
+      failures.increment();
+      throw e.getCause() instanceof RuntimeException runtimeException
+          ? runtimeException
+          : new IllegalStateException(e.getCause());
+    } catch (InterruptedException e) {
+      cancel(future, started);
+      circuitBreaker.onFailure();
+      Thread.currentThread().interrupt();
+      throw new LlmUnavailableException("AI 서버 호출이 중단되었습니다.", e);
+    } finally {
+      latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private void cancel(Future<ChatResponse> future, AtomicBoolean started) {
+    future.cancel(true);
+    if (started.compareAndSet(false, true)) {
+      bulkhead.release();
+    }
+  }
+
+  // 제공자가 사용량을 내려주지 않으면 0 으로 온다
+  private void recordUsage(ChatResponse response) {
+    if (response == null || response.getMetadata() == null) {
+      return;
+    }
+
+    Usage usage = response.getMetadata().getUsage();
+    if (usage == null) {
+      return;
+    }
+
+    if (usage.getPromptTokens() != null) {
+      promptTokens.increment(usage.getPromptTokens());
+    }
+    if (usage.getCompletionTokens() != null) {
+      completionTokens.increment(usage.getCompletionTokens());
+    }
+  }
+
+  private static String text(ChatResponse response) {
+    Generation generation = response == null ? null : response.getResult();
+    return generation == null ? "" : generation.getOutput().getText();
+  }
+
+  private void acquirePermits() {
+    if (!circuitBreaker.tryAcquirePermission()) {
+      rejections.increment();
+      throw new LlmUnavailableException("AI 서버 호출이 일시적으로 차단되었습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    if (!rateLimiter.tryAcquire(properties.acquireTimeout())) {
+      rejections.increment();
+      circuitBreaker.releasePermission();
+      throw new LlmUnavailableException("AI 분석 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    if (!acquireBulkhead()) {
+      rejections.increment();
+      circuitBreaker.releasePermission();
+      throw new LlmUnavailableException("AI 분석 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+  }
+
+  private boolean acquireBulkhead() {
+    try {
+      return bulkhead.tryAcquire(properties.acquireTimeout().toNanos(), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  // full jitter: [0, backoff * 2^(attempt-2)) 사이에서 무작위로 기다린다
+  private void sleepWithJitter(int attempt) {
+    long capMillis = properties.backoff().multipliedBy(1L << Math.min(attempt - 2, 10)).toMillis();
+    if (capMillis <= 0) {
+      return;
+    }
+
+    try {
+      Thread.sleep(Duration.ofMillis(ThreadLocalRandom.current().nextLong(capMillis)));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new LlmUnavailableException("AI 서버 호출이 중단되었습니다.", e);
+    }
+  }
+
+  private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+    return Counter.builder("llm.calls")
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+
+  private static Counter tokenCounter(MeterRegistry meterRegistry, String type) {
+    return Counter.builder("llm.tokens")
+        .tag("type", type)
+        .register(meterRegistry);
+  }
+
+  @Override
+  public void close() {
+    callExecutor.close();
+  }
+}
@@ -0,0 +1,21 @@
+package com.devmatch.backend.global.ai;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(LlmResilienceProperties.class)
+public class LlmClientConfig {
+
+  @Bean(destroyMethod = "close")
+  public LlmClient llmClient(
+      ChatModel chatModel,
+      LlmResilienceProperties llmResilienceProperties,
+      MeterRegistry meterRegistry
+  ) {
+    return new LlmClient(chatModel, llmResilienceProperties, meterRegistry);
+  }
+}
@@ -0,0 +1,20 @@
+package com.devmatch.backend.global.ai;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("custom.ai.resilience")
+public record LlmResilienceProperties(
+    @DefaultValue("5") double permitsPerSecond,  // 토큰 버킷 충전 속도
+    @DefaultValue("10") int burst,               // 토큰 버킷 크기
+    @DefaultValue("16") int maxConcurrentCalls,  // 동시에 LLM을 호출할 수 있는 수 (bulkhead)
+    @DefaultValue("2s") Duration acquireTimeout, // 토큰/동시 호출 허가를 기다리는 최대 시간
+    @DefaultValue("30s") Duration callTimeout,   // LLM 호출 1회의 최대 시간
+    @DefaultValue("3") int maxAttempts,          // 실패 시 재시도를 포함한 최대 시도 횟수
+    @DefaultValue("200ms") Duration backoff,     // 재시도 대기 기준 시간 (지수 증가 + jitter)
+    @DefaultValue("5") int failureThreshold,     // 서킷을 여는 연속 실패 수
+    @DefaultValue("30s") Duration openDuration   // 서킷이 열려 있는 시간
+) {
+
+}
@@ -0,0 +1,13 @@
+package com.devmatch.backend.global.ai;
+
+// LLM 호출이 차단(서킷 오픈, 요청 한도 초과)되었거나 재시도 끝에 실패한 경우
+public class LlmUnavailableException extends RuntimeException {
+
+  public LlmUnavailableException(String message) {
+    super(message);
+  }
+
+  public LlmUnavailableException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
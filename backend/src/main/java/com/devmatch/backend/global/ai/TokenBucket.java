@@ -0,0 +1,66 @@
+package com.devmatch.backend.global.ai;
+
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 초당 permitsPerSecond 만큼 채워지고 최대 capacity 까지 쌓이는 토큰 버킷.
+ * 토큰이 없으면 maxWait 안에 토큰이 생길 때만 기다린다.
+ * 가상 스레드가 락을 기다리는 동안 캐리어 스레드를 잡지 않도록 synchronized 대신 ReentrantLock 을 쓴다.
+ */
+public class TokenBucket {
+
+  private final long capacity;
+  private final double tokensPerNano;
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private double tokens;
+  private long lastRefillNanos;
+
+  public TokenBucket(long capacity, double permitsPerSecond) {
+    if (capacity < 1 || permitsPerSecond <= 0) {
+      throw new IllegalArgumentException(
+          "토큰 버킷 설정이 올바르지 않습니다. capacity: %d, permitsPerSecond: %s"
+              .formatted(capacity, permitsPerSecond));
+    }
+    this.capacity = capacity;
+    this.tokensPerNano = permitsPerSecond / 1_000_000_000d;
+    this.tokens = capacity;
+    this.lastRefillNanos = System.nanoTime();
+  }
+
+  public boolean tryAcquire(Duration maxWait) {
+    long deadline = System.nanoTime() + maxWait.toNanos();
+
+    while (true) {
+      long waitNanos;
+      lock.lock();
+      try {
+        refill();
+        if (tokens >= 1) {
+          tokens -= 1;
+          return true;
+        }
+        waitNanos = (long) Math.ceil((1 - tokens) / tokensPerNano);
+      } finally {
+        lock.unlock();
+      }
+
+      if (System.nanoTime() + waitNanos > deadline) {
+        return false;
+      }
+      LockSupport.parkNanos(waitNanos);
+
+      if (Thread.currentThread().isInterrupted()) {
+        return false;
+      }
+    }
+  }
+
+  private void refill() {
+    long now = System.nanoTime();
+    tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+    lastRefillNanos = now;
+  }
+}
@@ -0,0 +1,66 @@
+package com.devmatch.backend.global.app;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.sequence.SequenceSupport;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * IDENTITY 에서 시퀀스로 옮긴 테이블의 시퀀스를 기존 최대 ID 뒤로 맞춘다.
+ * ddl-auto 가 새로 만든 시퀀스는 1부터 시작해 기존 행과 ID 가 겹치기 때문이다.
+ * pooled 최적화는 시퀀스 값을 블록의 끝으로 보므로 (최대 ID + 블록 크기)로 맞춰야 다음 ID 가 최대 ID + 1 이 된다.
+ * 웹 서버가 요청을 받기 전(모든 싱글톤 생성 직후)에 실행된다.
+ *
+ * 시퀀스가 이미 최대 ID 뒤에 있으면(한 번 맞춘 뒤의 모든 기동) 손대지 않는다. 시퀀스를 되돌리거나,
+ * 다른 인스턴스가 받아 둔 블록을 다시 발급하지 않기 위해서다. 현재 값은 nextval 로 읽으므로 블록 하나만큼 ID 가 건너뛴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceAligner implements SmartInitializingSingleton {
+
+  // 엔티티 @SequenceGenerator 의 allocationSize 와 같아야 한다
+  private static final int ALLOCATION_SIZE = 50;
+
+  // 테이블 -> 시퀀스
+  private static final Map<String, String> SEQUENCES = Map.of(
+      "applications", "applications_seq",
+      "skill_scores", "skill_scores_seq"
+  );
+
+  private final JdbcTemplate jdbcTemplate;
+  private final EntityManagerFactory entityManagerFactory;
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    SequenceSupport sequenceSupport = entityManagerFactory
+        .unwrap(SessionFactoryImplementor.class)
+        .getJdbcServices()
+        .getDialect()
+        .getSequenceSupport();
+
+    SEQUENCES.forEach((table, sequence) -> {
+      Long maxId = jdbcTemplate.queryForObject(
+          "select coalesce(max(id), 0) from " + table, Long.class);
+      if (maxId == null || maxId == 0) {
+        return;
+      }
+
+      // 지금 받은 값이 블록의 끝이므로, 다음 블록은 이 값 + 1 부터다
+      Long current = jdbcTemplate.queryForObject(
+          sequenceSupport.getSequenceNextValString(sequence), Long.class);
+      if (current != null && current >= maxId) {
+        return;
+      }
+
+      jdbcTemplate.execute(
+          "alter sequence %s restart with %d".formatted(sequence, maxId + ALLOCATION_SIZE));
+      log.info("ID 시퀀스 정렬 - {}: 현재 값 {}, 최대 ID {}", sequence, current, maxId);
+    });
+  }
+}
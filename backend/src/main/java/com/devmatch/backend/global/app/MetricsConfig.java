@@ -0,0 +1,17 @@
+package com.devmatch.backend.global.app;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 컨트롤러 요청은 http.server.requests, 커넥션 풀은 hikaricp.* 로 자동 수집된다.
+// 서비스/토큰 처리처럼 그 밖의 구간은 @Timed 로 측정한다
+@Configuration
+public class MetricsConfig {
+
+  @Bean
+  TimedAspect timedAspect(MeterRegistry meterRegistry) {
+    return new TimedAspect(meterRegistry);
+  }
+}
@@ -0,0 +1,20 @@
+package com.devmatch.backend.global.app;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+@Configuration
+public class WebConfig {
+
+  // 프로젝트 목록은 어느 프로젝트가 추가/변경돼도 내용이 바뀌어 버전 하나로 대표할 수 없다.
+  // 본문 해시를 ETag 로 붙여, 바뀌지 않았으면 본문 전송이라도 생략한다 (단건 조회는 버전 컬럼으로 처리)
+  @Bean
+  FilterRegistrationBean<ShallowEtagHeaderFilter> projectListEtagFilter() {
+    FilterRegistrationBean<ShallowEtagHeaderFilter> registration =
+        new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+    registration.addUrlPatterns("/projects");
+    return registration;
+  }
+}
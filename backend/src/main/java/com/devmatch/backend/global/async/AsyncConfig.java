@@ -0,0 +1,25 @@
+package com.devmatch.backend.global.async;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AsyncConfig {
+
+  // LLM 분석 작업 전용 워커. 외부 API 호출로 대부분 대기하므로 가상 스레드를 쓰고 동시 호출 수만 제한한다
+  @Bean(destroyMethod = "close")
+  public BoundedExecutor analysisExecutor(
+      @Value("${custom.analysis.worker.maxConcurrency:8}") int maxConcurrency
+  ) {
+    return new BoundedExecutor("analysis-worker-", maxConcurrency);
+  }
+
+  // 일괄 분석에서 지원자 묶음(chunk)별 LLM 호출을 동시에 실행한다
+  @Bean(destroyMethod = "close")
+  public BoundedExecutor analysisBatchExecutor(
+      @Value("${custom.analysis.batch.maxConcurrency:4}") int maxConcurrency
+  ) {
+    return new BoundedExecutor("analysis-batch-", maxConcurrency);
+  }
+}
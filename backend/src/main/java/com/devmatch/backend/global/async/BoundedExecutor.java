@@ -0,0 +1,56 @@
+package com.devmatch.backend.global.async;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 작업마다 가상 스레드를 만들되, 동시에 실행되는 작업 수는 maxConcurrency 로 제한하는 Executor.
+ * 제출하는 쪽(요청 스레드)은 막지 않고, 실행 스레드가 허가를 얻을 때까지 대기한다.
+ */
+public class BoundedExecutor implements Executor, AutoCloseable {
+
+  private final ExecutorService delegate;
+  private final Semaphore permits;
+  private final int maxConcurrency;
+
+  public BoundedExecutor(String threadNamePrefix, int maxConcurrency) {
+    this(Thread.ofVirtual().name(threadNamePrefix, 0).factory(), maxConcurrency);
+  }
+
+  public BoundedExecutor(ThreadFactory threadFactory, int maxConcurrency) {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("동시 실행 수는 1 이상이어야 합니다: " + maxConcurrency);
+    }
+    this.delegate = Executors.newThreadPerTaskExecutor(threadFactory);
+    this.permits = new Semaphore(maxConcurrency);
+    this.maxConcurrency = maxConcurrency;
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    delegate.execute(() -> {
+      permits.acquireUninterruptibly();
+      try {
+        task.run();
+      } finally {
+        permits.release();
+      }
+    });
+  }
+
+  public int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  public int getActiveCount() {
+    return maxConcurrency - permits.availablePermits();
+  }
+
+  @Override
+  public void close() {
+    delegate.close();
+  }
+}
@@ -0,0 +1,75 @@
+package com.devmatch.backend.global.async;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가상 스레드가 캐리어 스레드에 고정(pinning)된 채 오래 대기하면 JFR 이벤트(jdk.VirtualThreadPinned)로 받아
+ * jvm.threads.virtual.pinned 카운터를 올리고 고정을 일으킨 위치를 로그로 남긴다.
+ * synchronized 블록 안에서 I/O 나 락 대기를 하는 코드를 찾는 용도다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final Duration PINNED_THRESHOLD = Duration.ofMillis(20);
+  private static final int LOGGED_FRAMES = 5;
+
+  private final Counter pinnedCount;
+  private final RecordingStream recordingStream = new RecordingStream();
+
+  public VirtualThreadPinningMonitor(MeterRegistry meterRegistry) {
+    this.pinnedCount = Counter.builder("jvm.threads.virtual.pinned")
+        .description("캐리어 스레드에 고정된 채 임계 시간 이상 대기한 가상 스레드 수")
+        .register(meterRegistry);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    recordingStream.enable(PINNED_EVENT).withThreshold(PINNED_THRESHOLD).withStackTrace();
+    recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+    recordingStream.startAsync();
+  }
+
+  private void onPinned(RecordedEvent event) {
+    pinnedCount.increment();
+
+    if (log.isWarnEnabled()) {
+      log.warn("가상 스레드 고정 - {}ms, 위치: {}", event.getDuration().toMillis(), topFrames(event));
+    }
+  }
+
+  private static String topFrames(RecordedEvent event) {
+    if (event.getStackTrace() == null) {
+      return "(스택 없음)";
+    }
+
+    StringBuilder frames = new StringBuilder();
+    for (RecordedFrame frame : event.getStackTrace().getFrames()
+        .subList(0, Math.min(LOGGED_FRAMES, event.getStackTrace().getFrames().size()))) {
+      frames.append("\n  at ")
+          .append(frame.getMethod().getType().getName())
+          .append('.')
+          .append(frame.getMethod().getName())
+          .append(':')
+          .append(frame.getLineNumber());
+    }
+    return frames.toString();
+  }
+
+  @Override
+  public void close() {
+    recordingStream.close();
+  }
+}
@@ -1,7 +1,12 @@
 package com.devmatch.backend.global.initData;
 
+import com.devmatch.backend.domain.project.entity.Project;
+import com.devmatch.backend.domain.project.repository.ProjectRepository;
+import com.devmatch.backend.domain.project.service.TechService;
 import com.devmatch.backend.domain.user.entity.User;
 import com.devmatch.backend.domain.user.service.UserService;
+import java.util.Arrays;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.ApplicationRunner;
@@ -19,11 +24,14 @@ public class BaseInitData {
   private BaseInitData self;
 
   private final UserService userService;
+  private final TechService techService;
+  private final ProjectRepository projectRepository;
 
   @Bean
   ApplicationRunner baseInitDataApplicationRunner() {
     return args -> {
       self.work1();
+      self.work2();
     };
   }
 
@@ -48,4 +56,17 @@ public class BaseInitData {
     User memberUser3 = userService.join("user3", "1234", "유저3");
     memberUser3.modifyApiKey(memberUser3.getUsername());
   }
-}
\ No newline at end of file
+
+  //기술 사전 도입 전에 만들어진 프로젝트의 기술 스택 문자열을 project_techs로 옮긴다
+  @Transactional
+  public void work2() {
+    for (Project project : projectRepository.findAllWithoutTechs()) {
+      List<String> techNames = Arrays.stream(project.getTechStack().split(","))
+          .map(String::trim)
+          .filter(techName -> !techName.isEmpty())
+          .toList();
+
+      project.changeTechs(techService.resolveAll(techNames));
+    }
+  }
+}
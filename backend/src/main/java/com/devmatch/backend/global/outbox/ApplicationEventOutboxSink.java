@@ -0,0 +1,19 @@
+package com.devmatch.backend.global.outbox;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+// 같은 서버 안의 구독자에게 전달한다. @EventListener 로 OutboxMessage 를 받으면 된다
+@Component
+@RequiredArgsConstructor
+public class ApplicationEventOutboxSink implements OutboxSink {
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Override
+  public void publish(List<OutboxMessage> messages) {
+    messages.forEach(eventPublisher::publishEvent);
+  }
+}
@@ -0,0 +1,38 @@
+package com.devmatch.backend.global.outbox;
+
+import com.devmatch.backend.standard.util.Ut;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 외부 메시지 큐 대신 쓰는 로컬 파일 싱크. 이벤트를 한 줄에 하나씩 JSON 으로 덧붙인다
+@Component
+@ConditionalOnProperty(name = "custom.outbox.file.path")
+public class FileOutboxSink implements OutboxSink {
+
+  private final Path path;
+
+  public FileOutboxSink(@Value("${custom.outbox.file.path}") String path) {
+    this.path = Path.of(path);
+  }
+
+  @Override
+  public void publish(List<OutboxMessage> messages) {
+    List<String> lines = messages.stream().map(Ut.json::toString).toList();
+
+    try {
+      if (path.getParent() != null) {
+        Files.createDirectories(path.getParent());
+      }
+      Files.write(path, lines, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    } catch (IOException e) {
+      throw new UncheckedIOException("아웃박스 파일 쓰기 실패: " + path, e);
+    }
+  }
+}
@@ -0,0 +1,11 @@
+package com.devmatch.backend.global.outbox;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 아웃박스 릴레이를 주기적으로 실행한다
+@Configuration
+@EnableScheduling
+public class OutboxConfig {
+
+}
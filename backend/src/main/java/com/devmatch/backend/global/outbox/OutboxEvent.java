@@ -0,0 +1,64 @@
+package com.devmatch.backend.global.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+// 도메인 변경과 같은 트랜잭션에 기록되는 발행 대기 이벤트. 릴레이가 ID 순서대로 싱크에 전달한 뒤 publishedAt 을 채운다
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "outbox_events",
+    indexes = @Index(name = "idx_outbox_event_published_at", columnList = "published_at, id")
+)
+@EntityListeners(AuditingEntityListener.class)
+public class OutboxEvent {
+
+  // 발행 순서. 일괄 승인처럼 한 요청에서 여러 건을 쓸 때도 배치 insert 가 되도록 pooled 시퀀스를 쓴다
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outboxEventIdGenerator")
+  @SequenceGenerator(name = "outboxEventIdGenerator", sequenceName = "outbox_events_seq", allocationSize = 50)
+  private Long id;
+
+  // 이벤트가 속한 집합체 종류와 ID (예: Application, 12)
+  @Column(name = "aggregate_type", nullable = false, length = 50)
+  private String aggregateType;
+
+  @Column(name = "aggregate_id", nullable = false)
+  private Long aggregateId;
+
+  @Column(name = "event_type", nullable = false, length = 50)
+  private String eventType;
+
+  // 이벤트 내용 (JSON)
+  @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+  private String payload;
+
+  @CreatedDate
+  @Column(name = "created_at", updatable = false)
+  private LocalDateTime createdAt;
+
+  // 모든 싱크에 전달된 시각. null 이면 아직 발행 대기 중
+  @Column(name = "published_at")
+  private LocalDateTime publishedAt;
+
+  public OutboxEvent(String aggregateType, Long aggregateId, String eventType, String payload) {
+    this.aggregateType = aggregateType;
+    this.aggregateId = aggregateId;
+    this.eventType = eventType;
+    this.payload = payload;
+  }
+}
@@ -0,0 +1,25 @@
+package com.devmatch.backend.global.outbox;
+
+import java.time.LocalDateTime;
+
+// 싱크에 전달되는 이벤트. 최소 한 번 전달이므로 받는 쪽은 id 로 중복을 걸러야 한다
+public record OutboxMessage(
+    Long id,
+    String aggregateType,
+    Long aggregateId,
+    String eventType,
+    String payload,
+    LocalDateTime createdAt
+) {
+
+  public static OutboxMessage from(OutboxEvent event) {
+    return new OutboxMessage(
+        event.getId(),
+        event.getAggregateType(),
+        event.getAggregateId(),
+        event.getEventType(),
+        event.getPayload(),
+        event.getCreatedAt()
+    );
+  }
+}
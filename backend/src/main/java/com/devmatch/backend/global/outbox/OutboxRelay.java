@@ -0,0 +1,99 @@
+package com.devmatch.backend.global.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 발행 대기 이벤트를 batchSize 개씩 ID 순서대로 읽어 모든 싱크에 전달하고, 전달이 끝난 묶음만 발행 완료로 표시한다.
+ * 싱크가 실패하면 그 묶음부터 다음 주기에 다시 보낸다 (최소 한 번 전달, 순서 유지).
+ * 싱크 호출 동안 DB 커넥션을 잡지 않도록 조회와 완료 표시를 각각 짧은 트랜잭션으로 나눈다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "custom.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final List<OutboxSink> sinks;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+  private final Duration retention;
+
+  private final Counter published;
+  private final Counter failures;
+
+  public OutboxRelay(
+      OutboxEventRepository outboxEventRepository,
+      List<OutboxSink> sinks,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${custom.outbox.relay.batchSize:100}") int batchSize,
+      @Value("${custom.outbox.retention:7d}") Duration retention
+  ) {
+    this.outboxEventRepository = outboxEventRepository;
+    this.sinks = sinks;
+    this.transactionTemplate = transactionTemplate;
+    this.batchSize = batchSize;
+    this.retention = retention;
+    this.published = meterRegistry.counter("outbox.relay", "outcome", "published");
+    this.failures = meterRegistry.counter("outbox.relay", "outcome", "failure");
+  }
+
+  // 스케줄러 스레드 하나에서 이전 실행이 끝난 뒤에만 다시 실행된다
+  @Scheduled(fixedDelayString = "${custom.outbox.relay.interval:1s}")
+  public void relay() {
+    // 묶음이 가득 찼다면 밀린 이벤트가 더 있을 수 있으므로 이어서 보낸다
+    int relayed;
+    do {
+      relayed = relayBatch();
+    } while (relayed == batchSize);
+  }
+
+  // 한 묶음을 전달하고 발행 완료로 표시한 이벤트 수를 반환한다. 실패하면 0
+  int relayBatch() {
+    List<OutboxEvent> events = transactionTemplate.execute(status ->
+        outboxEventRepository.findByPublishedAtIsNullOrderByIdAsc(PageRequest.of(0, batchSize)));
+
+    if (events == null || events.isEmpty()) {
+      return 0;
+    }
+
+    List<OutboxMessage> messages = events.stream().map(OutboxMessage::from).toList();
+    try {
+      sinks.forEach(sink -> sink.publish(messages));
+    } catch (RuntimeException e) {
+      failures.increment();
+      log.warn("아웃박스 이벤트 전달 실패 - 첫 이벤트 ID: {}, {}건", messages.getFirst().id(),
+          messages.size(), e);
+      return 0;
+    }
+
+    List<Long> ids = messages.stream().map(OutboxMessage::id).toList();
+    transactionTemplate.executeWithoutResult(status ->
+        outboxEventRepository.markPublished(ids, LocalDateTime.now()));
+    published.increment(ids.size());
+
+    return ids.size();
+  }
+
+  // 발행이 끝나고 보관 기간이 지난 이벤트를 지운다
+  @Scheduled(fixedDelayString = "${custom.outbox.purge.interval:1h}")
+  public void purgePublished() {
+    Integer deleted = transactionTemplate.execute(status ->
+        outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minus(retention)));
+
+    if (deleted != null && deleted > 0) {
+      log.info("발행 완료된 아웃박스 이벤트 {}건 삭제", deleted);
+    }
+  }
+}
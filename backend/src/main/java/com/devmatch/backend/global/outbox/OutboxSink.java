@@ -0,0 +1,12 @@
+package com.devmatch.backend.global.outbox;
+
+import java.util.List;
+
+/**
+ * 릴레이가 발행 대기 이벤트를 넘기는 곳. 예외를 던지면 해당 묶음은 발행 완료로 표시되지 않고 다음 주기에 다시 전달된다.
+ * 묶음 안의 이벤트는 기록된 순서(ID 순)로 넘어온다.
+ */
+public interface OutboxSink {
+
+  void publish(List<OutboxMessage> messages);
+}
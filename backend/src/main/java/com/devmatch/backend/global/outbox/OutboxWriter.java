@@ -0,0 +1,22 @@
+package com.devmatch.backend.global.outbox;
+
+import com.devmatch.backend.standard.util.Ut;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 도메인 변경과 같은 트랜잭션에서 이벤트를 기록한다. 요청 경로에서는 insert 한 번만 추가된다
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+  private final OutboxEventRepository outboxEventRepository;
+
+  // 변경과 이벤트가 함께 커밋/롤백되어야 하므로 진행 중인 트랜잭션 안에서만 호출할 수 있다
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void append(String aggregateType, Long aggregateId, String eventType, Object payload) {
+    outboxEventRepository.save(
+        new OutboxEvent(aggregateType, aggregateId, eventType, Ut.json.toString(payload)));
+  }
+}
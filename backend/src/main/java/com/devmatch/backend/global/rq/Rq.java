@@ -74,6 +74,20 @@ public class Rq {
         .orElse(defaultValue);
   }
 
+  // "Authorization: Bearer {apiKey} {accessToken}" 헤더를 우선하고, 없으면 apiKey 쿠키를 사용한다
+  public String getApiKey() {
+    String headerAuthorization = getHeader("Authorization", "");
+
+    if (headerAuthorization.startsWith("Bearer ")) {
+      String[] headerAuthorizationBits = headerAuthorization.split(" ", 3);
+      if (headerAuthorizationBits.length >= 2) {
+        return headerAuthorizationBits[1];
+      }
+    }
+
+    return getCookieValue("apiKey", "");
+  }
+
   public void setCookie(String name, String value) {
     if (value == null) {
       value = "";
@@ -114,7 +114,7 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
 
     if (user == null) {
       user = memberService
-          .findByApiKey(apiKey)
+          .findActorByApiKey(apiKey)
           .orElseThrow(() -> new ServiceException("401-3", "API 키가 유효하지 않습니다."));
     }
 
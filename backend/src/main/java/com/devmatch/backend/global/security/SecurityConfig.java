@@ -4,8 +4,11 @@ import static org.springframework.security.config.http.SessionCreationPolicy.STA
 
 import com.devmatch.backend.global.RsData;
 import com.devmatch.backend.standard.util.Ut;
+import jakarta.servlet.DispatcherType;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -29,8 +32,13 @@ public class SecurityConfig {
     http
         .authorizeHttpRequests(
             auth -> auth
+                // SSE 등 비동기 응답의 재디스패치는 최초 요청에서 이미 인가되었다
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/favicon.ico").permitAll()
                 .requestMatchers("/h2-console/**").permitAll()
+                // 헬스 체크(배포 플랫폼)만 공개하고, 지표(prometheus, metrics)는 관리자만 본다
+                .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                .requestMatchers(EndpointRequest.toAnyEndpoint()).hasRole("ADMIN")
                 .requestMatchers("/users/**").authenticated()
                 .requestMatchers("/projects/**").authenticated()
                 .requestMatchers("/analysis/**").authenticated()
@@ -0,0 +1,39 @@
+package com.devmatch.backend.global.web;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * 조건부 GET(If-None-Match / If-Modified-Since)용 리소스 버전. 버전 컬럼만 조회하거나, 본문을 캐시한다면
+ * 본문과 같은 행에서 읽어 한 쌍으로 보관한다.
+ * eTag 는 따옴표를 포함한 강한 ETag 이고, lastModified 는 없을 수 있다(컬럼 추가 전 데이터).
+ */
+public record ResourceVersion(
+    String eTag,
+    LocalDateTime lastModified
+) {
+
+  public static ResourceVersion of(String type, Long id, long revision, LocalDateTime lastModified) {
+    return new ResourceVersion("\"%s-%d-%d\"".formatted(type, id, revision), lastModified);
+  }
+
+  // 수정 시각(마이크로초)을 리비전으로 쓴다
+  public static ResourceVersion of(String type, Long id, LocalDateTime lastModified) {
+    long revision = lastModified.toEpochSecond(ZoneOffset.UTC) * 1_000_000
+        + lastModified.getNano() / 1_000;
+    return of(type, id, revision, lastModified);
+  }
+
+  // 클라이언트가 가진 버전과 같으면 304 응답을 준비하고 true 를 반환한다 (컨트롤러는 null 을 반환하면 된다).
+  // 다르면 ETag/Last-Modified 응답 헤더만 채우고 false
+  public boolean checkNotModified(WebRequest request) {
+    if (lastModified == null) {
+      return request.checkNotModified(eTag);
+    }
+
+    return request.checkNotModified(eTag,
+        lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+  }
+}
@@ -3,17 +3,26 @@ package com.devmatch.backend.standard.util;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ClaimsBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import java.security.Key;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.crypto.SecretKey;
 
 public class Ut {
 
   public static class jwt {
 
+    // secret 별로 HMAC 키와 파서를 한 번만 만들어 재사용한다 (JwtParser 는 불변이라 스레드 안전)
+    private static final Map<String, SecretKey> SECRET_KEYS = new ConcurrentHashMap<>();
+    private static final Map<String, JwtParser> PARSERS = new ConcurrentHashMap<>();
+
     public static String toString(String secret, int expireSeconds, Map<String, Object> body) {
       ClaimsBuilder claimsBuilder = Jwts.claims();
 
@@ -26,27 +35,19 @@ public class Ut {
       Date issuedAt = new Date();
       Date expiration = new Date(issuedAt.getTime() + 1000L * expireSeconds);
 
-      Key secretKey = Keys.hmacShaKeyFor(secret.getBytes());
-
       String jwt = Jwts.builder()
           .claims(claims)
           .issuedAt(issuedAt)
           .expiration(expiration)
-          .signWith(secretKey)
+          .signWith(secretKey(secret))
           .compact();
 
       return jwt;
     }
 
     public static boolean isValid(String secret, String jwtStr) {
-      SecretKey secretKey = Keys.hmacShaKeyFor(secret.getBytes());
-
       try {
-        Jwts
-            .parser()
-            .verifyWith(secretKey)
-            .build()
-            .parse(jwtStr);
+        parser(secret).parse(jwtStr);
       } catch (Exception e) {
         return false;
       }
@@ -55,19 +56,35 @@ public class Ut {
     }
 
     public static Map<String, Object> payload(String secret, String jwtStr) {
-      SecretKey secretKey = Keys.hmacShaKeyFor(secret.getBytes());
-
       try {
-        return (Map<String, Object>) Jwts
-            .parser()
-            .verifyWith(secretKey)
-            .build()
+        return (Map<String, Object>) parser(secret)
             .parse(jwtStr)
             .getPayload();
       } catch (Exception e) {
         return null;
       }
     }
+
+    // 서명된 클레임을 검증해 돌려준다. 만료(exp)를 꺼내야 할 때 사용
+    public static Claims claims(String secret, String jwtStr) {
+      try {
+        return parser(secret)
+            .parseSignedClaims(jwtStr)
+            .getPayload();
+      } catch (Exception e) {
+        return null;
+      }
+    }
+
+    private static SecretKey secretKey(String secret) {
+      return SECRET_KEYS.computeIfAbsent(secret, key -> Keys.hmacShaKeyFor(key.getBytes()));
+    }
+
+    private static JwtParser parser(String secret) {
+      return PARSERS.computeIfAbsent(secret, key -> Jwts.parser()
+          .verifyWith(secretKey(key))
+          .build());
+    }
   }
 
   public static class json {
@@ -86,4 +103,16 @@ public class Ut {
       }
     }
   }
+
+  public static class hash {
+
+    public static String sha256Hex(String value) {
+      try {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
 }
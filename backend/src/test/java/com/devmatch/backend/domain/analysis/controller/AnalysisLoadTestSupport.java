@@ -0,0 +1,179 @@
+package com.devmatch.backend.domain.analysis.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devmatch.backend.domain.analysis.entity.AnalysisResult;
+import com.devmatch.backend.domain.analysis.repository.AnalysisRepository;
+import com.devmatch.backend.domain.application.entity.Application;
+import com.devmatch.backend.domain.application.repository.ApplicationRepository;
+import com.devmatch.backend.domain.project.entity.Project;
+import com.devmatch.backend.domain.project.repository.ProjectRepository;
+import com.devmatch.backend.domain.user.entity.User;
+import com.devmatch.backend.domain.user.repository.UserRepository;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * 응답에 LATENCY 가 걸리는 스텁 LLM 으로 지원서 적합도 분석 API 를 REQUEST_COUNT 개 동시에 호출해 처리량을 잰다.
+ * 분석 결과는 지원서마다 한 번만 만들 수 있고 같은 프롬프트는 캐시되므로, 요청마다 설명이 다른 프로젝트와 지원서를 따로 두어
+ * 모든 요청이 실제로 LLM 을 기다리게 한다.
+ * 하위 클래스가 스레드 모드(가상/플랫폼)만 바꿔 같은 시나리오를 실행한다. ./gradlew loadTest 로 실행한다.
+ * 벽시계 시간에 의존하므로 "load" 태그로 묶어 기본 test 태스크에서는 제외한다.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@Import(AnalysisLoadTestSupport.LatencyChatModelConfig.class)
+// 처리량을 제한하는 LLM 보호 장치(토큰 버킷, 동시 호출 수)와 DB 커넥션 풀을 풀어 스레드 모델의 차이만 보이게 한다
+@TestPropertySource(properties = {
+    "spring.datasource.hikari.maximum-pool-size=50",
+    "custom.ai.resilience.permitsPerSecond=100000",
+    "custom.ai.resilience.burst=100000",
+    "custom.ai.resilience.maxConcurrentCalls=100000",
+    "custom.ai.resilience.acquireTimeout=60s",
+    "custom.ai.resilience.callTimeout=60s"
+})
+abstract class AnalysisLoadTestSupport {
+
+  private static final Logger log = LoggerFactory.getLogger(AnalysisLoadTestSupport.class);
+
+  static final int REQUEST_COUNT = 1000;
+  static final Duration LATENCY = Duration.ofSeconds(1);
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private ProjectRepository projectRepository;
+
+  @Autowired
+  private ApplicationRepository applicationRepository;
+
+  @Autowired
+  private AnalysisRepository analysisRepository;
+
+  private User creator;
+  private User applicant;
+  private List<Project> projects;
+  private List<Application> applications;
+
+  @BeforeEach
+  void setUp() {
+    creator = userRepository.save(new User("creator@load.test", "pwd", "creator", "imgUrl"));
+    applicant = userRepository.save(new User("applicant@load.test", "pwd", "applicant", "imgUrl"));
+    projects = projectRepository.saveAll(IntStream.range(0, REQUEST_COUNT)
+        .mapToObj(i -> new Project("title", "description " + i, "Java", 4, creator, 4))
+        .toList());
+    applications = applicationRepository.saveAll(projects.stream()
+        .map(project -> Application.builder().user(applicant).project(project).build())
+        .toList());
+  }
+
+  @AfterEach
+  void tearDown() {
+    List<AnalysisResult> results = applicationRepository.findAllById(
+            applications.stream().map(Application::getId).toList()).stream()
+        .map(Application::getAnalysisResult)
+        .filter(Objects::nonNull)
+        .toList();
+
+    applicationRepository.deleteAllInBatch(applications);
+    analysisRepository.deleteAllInBatch(results);
+    projectRepository.deleteAllInBatch(projects);
+    userRepository.deleteAllInBatch(List.of(creator, applicant));
+  }
+
+  // 모든 요청이 끝난 시간을 받아 스레드 모드별 기대치를 검사한다
+  abstract void assertElapsed(Duration elapsed);
+
+  abstract String mode();
+
+  @Test
+  void createAnalysisResult_underConcurrentLoad() {
+    List<HttpRequest> requests = applications.stream()
+        .map(application -> HttpRequest.newBuilder()
+            .uri(URI.create("http://localhost:%d/analysis/application/%d"
+                .formatted(port, application.getId())))
+            .header("Authorization", "Bearer " + creator.getApiKey())
+            .POST(HttpRequest.BodyPublishers.noBody())
+            .timeout(Duration.ofMinutes(2))
+            .build())
+        .toList();
+
+    try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(clientExecutor)
+            .build()) {
+      long startedAt = System.nanoTime();
+
+      List<CompletableFuture<Integer>> responses = requests.stream()
+          .map(request -> client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+              .thenApply(HttpResponse::statusCode))
+          .toList();
+      List<Integer> statusCodes = responses.stream().map(CompletableFuture::join).toList();
+
+      Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+      log.info("[load] mode={} requests={} latency={}ms elapsed={}ms throughput={} req/s",
+          mode(), REQUEST_COUNT, LATENCY.toMillis(), elapsed.toMillis(),
+          "%.1f".formatted(REQUEST_COUNT * 1000.0 / elapsed.toMillis()));
+
+      assertThat(statusCodes).containsOnly(201);
+      assertElapsed(elapsed);
+    }
+  }
+
+  @TestConfiguration
+  static class LatencyChatModelConfig {
+
+    // 외부 LLM 대신 LATENCY 만큼 기다렸다가 고정된 적합도 분석 결과([점수]|[이유])를 돌려준다
+    @Bean
+    @Primary
+    ChatModel latencyChatModel() {
+      return new ChatModel() {
+        @Override
+        public ChatResponse call(Prompt prompt) {
+          try {
+            Thread.sleep(LATENCY);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+          }
+          return new ChatResponse(List.of(
+              new Generation(new AssistantMessage("78.50|Java 백엔드 개발을 맡을 수 있음"))));
+        }
+      };
+    }
+  }
+}
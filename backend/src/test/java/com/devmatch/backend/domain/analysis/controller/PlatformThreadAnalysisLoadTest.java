@@ -0,0 +1,28 @@
+package com.devmatch.backend.domain.analysis.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.springframework.test.context.TestPropertySource;
+
+// 비교 기준선. Tomcat 워커 스레드가 LLM 응답을 기다리는 동안 막혀 있어 동시에 MAX_THREADS 개씩만 처리된다
+@TestPropertySource(properties = {
+    "spring.threads.virtual.enabled=false",
+    "server.tomcat.threads.max=" + PlatformThreadAnalysisLoadTest.MAX_THREADS
+})
+class PlatformThreadAnalysisLoadTest extends AnalysisLoadTestSupport {
+
+  static final int MAX_THREADS = 200;
+
+  @Override
+  String mode() {
+    return "platform";
+  }
+
+  // 동시에 MAX_THREADS 개씩만 처리되므로 환경이 느려져도 이 하한 아래로는 내려가지 않는다
+  @Override
+  void assertElapsed(Duration elapsed) {
+    assertThat(elapsed).isGreaterThanOrEqualTo(
+        LATENCY.multipliedBy(REQUEST_COUNT / MAX_THREADS));
+  }
+}
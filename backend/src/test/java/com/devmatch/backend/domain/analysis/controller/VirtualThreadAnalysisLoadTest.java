@@ -0,0 +1,24 @@
+package com.devmatch.backend.domain.analysis.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.springframework.test.context.TestPropertySource;
+
+// 요청마다 가상 스레드를 쓰므로 LLM 응답을 기다리는 요청 수가 Tomcat 스레드 수에 묶이지 않는다
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadAnalysisLoadTest extends AnalysisLoadTestSupport {
+
+  @Override
+  String mode() {
+    return "virtual";
+  }
+
+  // 이상적으로는 LATENCY 한 번 남짓이면 끝나지만, 느린 CI 에서도 흔들리지 않도록
+  // 플랫폼 스레드(200개)의 이론적 하한인 REQUEST_COUNT / 200 * LATENCY = 5초보다 빠른지만 본다
+  @Override
+  void assertElapsed(Duration elapsed) {
+    assertThat(elapsed).isLessThan(
+        LATENCY.multipliedBy(REQUEST_COUNT / PlatformThreadAnalysisLoadTest.MAX_THREADS));
+  }
+}
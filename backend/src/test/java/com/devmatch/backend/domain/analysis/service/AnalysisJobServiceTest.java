@@ -0,0 +1,249 @@
+package com.devmatch.backend.domain.analysis.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.devmatch.backend.domain.analysis.entity.AnalysisJob;
+import com.devmatch.backend.domain.analysis.entity.AnalysisJobStatus;
+import com.devmatch.backend.domain.analysis.entity.AnalysisResult;
+import com.devmatch.backend.domain.analysis.repository.AnalysisJobRepository;
+import com.devmatch.backend.domain.application.entity.Application;
+import com.devmatch.backend.domain.application.repository.ApplicationRepository;
+import com.devmatch.backend.domain.project.entity.Project;
+import com.devmatch.backend.domain.project.repository.ProjectRepository;
+import com.devmatch.backend.domain.project.service.ProjectStatsService;
+import com.devmatch.backend.domain.user.entity.User;
+import com.devmatch.backend.domain.user.repository.UserRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 작업 등록/실행이 각자 커밋해야 하므로 테스트 트랜잭션(롤백) 없이 실행하고, 만든 데이터는 직접 지운다.
+// 주기 복구가 테스트 도중 끼어들지 않도록 복구 주기를 길게 둔다
+@SpringBootTest
+@TestPropertySource(properties = "custom.analysis.job.recoveryInterval=1h")
+class AnalysisJobServiceTest {
+
+  private static final int APPLICANT_COUNT = 3;
+
+  @Autowired
+  private AnalysisJobService analysisJobService;
+
+  @Autowired
+  private AnalysisJobRepository analysisJobRepository;
+
+  @Autowired
+  private ApplicationRepository applicationRepository;
+
+  @Autowired
+  private ProjectRepository projectRepository;
+
+  @Autowired
+  private ProjectStatsService projectStatsService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @MockitoBean
+  private AnalysisService analysisService;
+
+  private final List<User> users = new ArrayList<>();
+  private final List<Application> applications = new ArrayList<>();
+  private Project project;
+
+  @BeforeEach
+  void setUp() {
+    User creator = saveUser("creator");
+    project = projectRepository.save(
+        new Project("title", "description", "Java", APPLICANT_COUNT, creator, 4));
+
+    for (int i = 0; i < APPLICANT_COUNT; i++) {
+      applications.add(applicationRepository.save(
+          Application.builder().user(saveUser("applicant" + i)).project(project).build()));
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("delete from analysis_jobs where application_id in (?, ?, ?)",
+        applications.stream().map(Application::getId).toArray());
+    applicationRepository.deleteAllInBatch(applications);
+    projectStatsService.delete(project.getId());
+    projectRepository.deleteById(project.getId());
+    userRepository.deleteAllInBatch(users);
+  }
+
+  @Test
+  @DisplayName("성공: 같은 지원서로 동시에 여러 번 분석을 요청해도, 작업은 하나만 만들어지고 모두 같은 작업을 받는다")
+  void enqueue_shouldCreateOneJob_whenRequestedConcurrently() throws Exception {
+    Long applicationId = applications.getFirst().getId();
+    // 작업이 끝나 버리면 다음 요청은 새 작업을 만들 수 있으므로, 모든 요청이 끝날 때까지 분석을 붙잡아 둔다
+    CountDownLatch release = new CountDownLatch(1);
+    when(analysisService.createAnalysisResult(applicationId)).thenAnswer(invocation -> {
+      release.await(10, TimeUnit.SECONDS);
+      return analysisResult(1L);
+    });
+
+    List<Long> jobIds;
+    try {
+      jobIds = enqueueConcurrently(applicationId, 5);
+    } finally {
+      release.countDown();
+    }
+
+    assertThat(jobIds).hasSize(5).containsOnly(jobIds.getFirst());
+    assertThat(analysisJobRepository.findAll().stream()
+        .filter(job -> job.getApplicationId().equals(applicationId)))
+        .hasSize(1);
+    awaitStatus(jobIds.getFirst(), AnalysisJobStatus.DONE);
+    verify(analysisService).createAnalysisResult(applicationId);
+  }
+
+  @Test
+  @DisplayName("성공: 작업은 등록한 트랜잭션이 커밋된 뒤에만 워커에 넘어가고, 롤백되면 넘어가지 않는다")
+  void enqueue_shouldDispatchOnlyAfterCommit() throws Exception {
+    Long committedId = applications.get(0).getId();
+    Long rolledBackId = applications.get(1).getId();
+    when(analysisService.createAnalysisResult(committedId)).thenReturn(analysisResult(1L));
+
+    Long jobId = transactionTemplate.execute(status -> {
+      AnalysisJob job = analysisJobService.enqueue(committedId);
+      verify(analysisService, after(300).never()).createAnalysisResult(anyLong());
+      return job.getId();
+    });
+
+    verify(analysisService, timeout(5000)).createAnalysisResult(committedId);
+    awaitStatus(jobId, AnalysisJobStatus.DONE);
+    assertThat(analysisJobService.getJob(jobId).getAnalysisResultId()).isEqualTo(1L);
+
+    transactionTemplate.executeWithoutResult(status -> {
+      analysisJobService.enqueue(rolledBackId);
+      status.setRollbackOnly();
+    });
+
+    verify(analysisService, after(300).never()).createAnalysisResult(rolledBackId);
+    assertThat(analysisJobRepository.findFirstByApplicationIdAndStatusIn(rolledBackId,
+        List.of(AnalysisJobStatus.values()))).isEmpty();
+  }
+
+  @Test
+  @DisplayName("실패: 분석 중 예외가 나면 작업은 FAILED 가 되고 사유가 남는다")
+  void run_shouldMarkFailed_whenAnalysisThrows() throws Exception {
+    Long applicationId = applications.getFirst().getId();
+    when(analysisService.createAnalysisResult(applicationId))
+        .thenThrow(new IllegalStateException("LLM 응답을 해석할 수 없습니다"));
+
+    AnalysisJob job = analysisJobService.enqueue(applicationId);
+
+    awaitStatus(job.getId(), AnalysisJobStatus.FAILED);
+    assertThat(analysisJobService.getJob(job.getId()).getErrorMessage())
+        .isEqualTo("LLM 응답을 해석할 수 없습니다");
+  }
+
+  @Test
+  @DisplayName("성공: 복구는 오래 대기 중인 작업과 하트비트가 끊긴 작업만 다시 실행하고, 하트비트가 살아 있는 작업은 건드리지 않는다")
+  void recoverUnfinishedJobs_shouldResumeOnlyStaleJobs() throws Exception {
+    Long pendingAppId = applications.get(0).getId();
+    Long staleAppId = applications.get(1).getId();
+    Long aliveAppId = applications.get(2).getId();
+    when(analysisService.createAnalysisResult(anyLong())).thenReturn(analysisResult(1L));
+
+    LocalDateTime longAgo = LocalDateTime.now().minusMinutes(10);
+    Long pendingJobId = insertJob(pendingAppId, AnalysisJobStatus.PENDING, longAgo, null);
+    Long staleJobId = insertJob(staleAppId, AnalysisJobStatus.RUNNING, longAgo, longAgo);
+    Long aliveJobId = insertJob(aliveAppId, AnalysisJobStatus.RUNNING, longAgo,
+        LocalDateTime.now());
+
+    analysisJobService.recoverUnfinishedJobs();
+
+    awaitStatus(pendingJobId, AnalysisJobStatus.DONE);
+    awaitStatus(staleJobId, AnalysisJobStatus.DONE);
+    verify(analysisService, after(300).never()).createAnalysisResult(aliveAppId);
+    assertThat(analysisJobService.getJob(aliveJobId).getStatus())
+        .isEqualTo(AnalysisJobStatus.RUNNING);
+  }
+
+  // 다른 서버가 남긴 작업처럼 시각을 직접 정해 저장한다
+  private Long insertJob(
+      Long applicationId,
+      AnalysisJobStatus status,
+      LocalDateTime createdAt,
+      LocalDateTime heartbeatAt
+  ) {
+    Long jobId = analysisJobRepository.save(new AnalysisJob(applicationId)).getId();
+    jdbcTemplate.update(
+        "update analysis_jobs set status = ?, created_at = ?, heartbeat_at = ? where id = ?",
+        status.name(), createdAt, heartbeatAt, jobId);
+    return jobId;
+  }
+
+  private List<Long> enqueueConcurrently(Long applicationId, int count) throws Exception {
+    CountDownLatch ready = new CountDownLatch(count);
+    CountDownLatch start = new CountDownLatch(1);
+
+    try (ExecutorService executor = Executors.newFixedThreadPool(count)) {
+      List<Future<Long>> results = new ArrayList<>();
+      for (int i = 0; i < count; i++) {
+        results.add(executor.submit(() -> {
+          ready.countDown();
+          start.await();
+          return analysisJobService.enqueue(applicationId).getId();
+        }));
+      }
+
+      ready.await(10, TimeUnit.SECONDS);
+      start.countDown();
+
+      List<Long> jobIds = new ArrayList<>();
+      for (Future<Long> result : results) {
+        jobIds.add(result.get(30, TimeUnit.SECONDS));
+      }
+      return jobIds;
+    }
+  }
+
+  private void awaitStatus(Long jobId, AnalysisJobStatus expected) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (analysisJobService.getJob(jobId).getStatus() != expected
+        && System.nanoTime() < deadline) {
+      Thread.sleep(20);
+    }
+    assertThat(analysisJobService.getJob(jobId).getStatus()).isEqualTo(expected);
+  }
+
+  private AnalysisResult analysisResult(Long id) {
+    return AnalysisResult.builder().id(id).build();
+  }
+
+  private User saveUser(String name) {
+    User user = userRepository.save(new User(name + "@analysis-job.test", "pwd", name, "imgUrl"));
+    users.add(user);
+    return user;
+  }
+}
@@ -0,0 +1,86 @@
+package com.devmatch.backend.domain.analysis.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.devmatch.backend.domain.analysis.dto.CompatibilityAnalysis;
+import com.devmatch.backend.domain.analysis.dto.CompatibilityPromptInput;
+import com.devmatch.backend.domain.analysis.dto.CompatibilityPromptInput.SkillLine;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AnalysisPromptsTest {
+
+  @Test
+  @DisplayName("성공: 기술 스택과 기술 점수의 순서/대소문자만 다르면 같은 캐시 키를 만든다")
+  void compatibilityCacheKey_shouldIgnoreOrderAndCase() {
+    CompatibilityPromptInput input1 = createInput("Java, React",
+        List.of(new SkillLine("Java", 7), new SkillLine("React", 3)));
+    CompatibilityPromptInput input2 = createInput("react, java",
+        List.of(new SkillLine("react", 3), new SkillLine("JAVA", 7)));
+
+    assertThat(AnalysisPrompts.compatibilityCacheKey(input1))
+        .isEqualTo(AnalysisPrompts.compatibilityCacheKey(input2))
+        .hasSize(64);
+  }
+
+  @Test
+  @DisplayName("성공: 기술 점수가 다르면 다른 캐시 키를 만든다")
+  void compatibilityCacheKey_shouldDiffer_whenSkillScoreDiffers() {
+    CompatibilityPromptInput input1 = createInput("Java",
+        List.of(new SkillLine("Java", 7)));
+    CompatibilityPromptInput input2 = createInput("Java",
+        List.of(new SkillLine("Java", 8)));
+
+    assertThat(AnalysisPrompts.compatibilityCacheKey(input1))
+        .isNotEqualTo(AnalysisPrompts.compatibilityCacheKey(input2));
+  }
+
+  @Test
+  @DisplayName("성공: '점수|이유' 형식의 응답을 파싱하고, 너무 낮은 점수는 최소 점수로 조정한다")
+  void parseCompatibility_shouldParseScoreAndReason() {
+    CompatibilityAnalysis analysis = AnalysisPrompts.parseCompatibility("78.50| 백엔드 전문가 ");
+    CompatibilityAnalysis lowScore = AnalysisPrompts.parseCompatibility("10|기초 단계");
+
+    assertThat(analysis.score()).isEqualByComparingTo("78.50");
+    assertThat(analysis.reason()).isEqualTo("백엔드 전문가");
+    assertThat(lowScore.score()).isEqualByComparingTo(new BigDecimal("45.00"));
+  }
+
+  @Test
+  @DisplayName("실패: 구분자가 없거나 점수가 숫자가 아니면 예외가 발생한다")
+  void parseCompatibility_shouldThrow_whenFormatIsInvalid() {
+    assertThatThrownBy(() -> AnalysisPrompts.parseCompatibility("78.50 백엔드 전문가"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> AnalysisPrompts.parseCompatibility("높음|백엔드 전문가"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("성공: 일괄 응답에서 요청한 지원서의 줄만 파싱하고, 형식이 깨진 줄은 건너뛴다")
+  void parseBatchCompatibility_shouldParseOnlyRequestedValidLines() {
+    String aiResponse = """
+        12|78.50|백엔드 전문가
+        [15]|72.00|프론트엔드 담당 가능
+        16|잘함|점수가 숫자가 아님
+        99|60.00|요청하지 않은 지원서
+        """;
+
+    AtomicInteger malformedLines = new AtomicInteger();
+    Map<Long, CompatibilityAnalysis> analyses = AnalysisPrompts.parseBatchCompatibility(
+        aiResponse, List.of(12L, 15L, 16L), malformedLines::incrementAndGet);
+
+    assertThat(analyses).containsOnlyKeys(12L, 15L);
+    assertThat(malformedLines).hasValue(1);
+    assertThat(analyses.get(15L).score()).isEqualByComparingTo("72.00");
+    assertThat(analyses.get(15L).reason()).isEqualTo("프론트엔드 담당 가능");
+  }
+
+  private CompatibilityPromptInput createInput(String techStack, List<SkillLine> skills) {
+    return new CompatibilityPromptInput(1L, "프로젝트 설명", 4, 8, techStack, skills);
+  }
+}
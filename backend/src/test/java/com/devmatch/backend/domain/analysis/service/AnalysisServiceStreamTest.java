@@ -0,0 +1,154 @@
+package com.devmatch.backend.domain.analysis.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import com.devmatch.backend.domain.analysis.controller.AnalysisController;
+import com.devmatch.backend.domain.analysis.repository.AnalysisRepository;
+import com.devmatch.backend.domain.application.entity.Application;
+import com.devmatch.backend.domain.application.enums.ApplicationStatus;
+import com.devmatch.backend.domain.application.service.ApplicationService;
+import com.devmatch.backend.domain.project.entity.Project;
+import com.devmatch.backend.domain.project.service.ProjectService;
+import com.devmatch.backend.domain.user.entity.User;
+import com.devmatch.backend.global.ai.LlmClient;
+import com.devmatch.backend.global.ai.LlmUnavailableException;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+
+// 팀 역할 분배 SSE 스트리밍: 이벤트 순서, 결과 저장, 연결 종료 시 상류 스트림 취소
+@ExtendWith(MockitoExtension.class)
+class AnalysisServiceStreamTest {
+
+  private static final String STREAM_URL = "/analysis/project/{projectId}/role-assignment/stream";
+
+  @Mock
+  AnalysisRepository analysisRepository;
+
+  @Mock
+  ApplicationService applicationService;
+
+  @Mock
+  ProjectService projectService;
+
+  @Mock
+  TransactionTemplate transactionTemplate;
+
+  @Mock
+  CompatibilityCache compatibilityCache;
+
+  @Mock
+  LlmClient llmClient;
+
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    AnalysisService analysisService = new AnalysisService(analysisRepository, applicationService,
+        projectService, transactionTemplate, compatibilityCache, llmClient);
+    mockMvc = MockMvcBuilders.standaloneSetup(new AnalysisController(analysisService, null, null))
+        .build();
+
+    // 팀원 1명이 승인된 프로젝트
+    User creator = new User(1L, "creator@test.com", "creator");
+    Project project = new Project("title", "description", "Java", 1, creator, 4);
+    Application approved = Application.builder()
+        .user(new User(2L, "applicant@test.com", "applicant"))
+        .project(project)
+        .build();
+
+    when(transactionTemplate.execute(any()))
+        .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0)
+            .doInTransaction(null));
+    when(projectService.getProject(1L)).thenReturn(project);
+    when(applicationService.findByProjectIdAndStatus(1L, ApplicationStatus.APPROVED))
+        .thenReturn(List.of(approved));
+  }
+
+  @Test
+  @DisplayName("성공: 토큰을 도착 순서대로 token 이벤트로 보내고, 완료되면 전체 결과를 저장한 뒤 done 이벤트를 보낸다")
+  void streamTeamRoleAssignment_shouldSendTokensAndSaveContent_whenCompleted() throws Exception {
+    when(llmClient.stream(anyString())).thenReturn(Flux.just(" applicant", " - 백엔드", " | Java "));
+
+    String body = perform();
+
+    assertThat(body).containsSubsequence(
+        "event:token", "{\"token\":\" applicant\"}",
+        "event:token", "{\"token\":\" - 백엔드\"}",
+        "event:token", "{\"token\":\" | Java \"}",
+        "event:done", "{\"content\":\"applicant - 백엔드 | Java\"}"
+    );
+    verify(projectService, times(1)).modifyContent(1L, "applicant - 백엔드 | Java");
+  }
+
+  @Test
+  @DisplayName("실패: LLM 스트림이 실패하면 error 이벤트로 사유를 보내고 결과를 저장하지 않는다")
+  void streamTeamRoleAssignment_shouldSendError_whenStreamFails() throws Exception {
+    when(llmClient.stream(anyString())).thenReturn(Flux.concat(
+        Flux.just("applicant"),
+        Flux.error(new LlmUnavailableException("AI 분석 요청이 많습니다. 잠시 후 다시 시도해주세요."))
+    ));
+
+    String body = perform();
+
+    assertThat(body).containsSubsequence(
+        "event:token", "event:error", "AI 분석 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+    assertThat(body).doesNotContain("event:done");
+    verify(projectService, never()).modifyContent(anyLong(), anyString());
+  }
+
+  @Test
+  @DisplayName("성공: emitter 가 타임아웃되면 상류 LLM 스트림을 취소해 호출 허가를 돌려준다")
+  void streamTeamRoleAssignment_shouldCancelUpstream_whenEmitterTimesOut() throws Exception {
+    CountDownLatch cancelled = new CountDownLatch(1);
+    when(llmClient.stream(anyString()))
+        .thenReturn(Flux.<String>never().doOnCancel(cancelled::countDown));
+
+    MvcResult result = mockMvc.perform(post(STREAM_URL, 1L).accept(MediaType.TEXT_EVENT_STREAM))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    MockAsyncContext asyncContext = (MockAsyncContext) result.getRequest().getAsyncContext();
+    for (AsyncListener listener : asyncContext.getListeners()) {
+      listener.onTimeout(new AsyncEvent(asyncContext));
+    }
+
+    assertThat(cancelled.await(5, TimeUnit.SECONDS)).isTrue();
+    verify(projectService, never()).modifyContent(anyLong(), anyString());
+  }
+
+  private String perform() throws Exception {
+    MvcResult result = mockMvc.perform(post(STREAM_URL, 1L).accept(MediaType.TEXT_EVENT_STREAM))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    result.getAsyncResult(TimeUnit.SECONDS.toMillis(5));
+
+    return result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+  }
+}
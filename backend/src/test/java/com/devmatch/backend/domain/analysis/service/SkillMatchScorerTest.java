@@ -0,0 +1,49 @@
+package com.devmatch.backend.domain.analysis.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devmatch.backend.domain.analysis.dto.CompatibilityPromptInput;
+import com.devmatch.backend.domain.analysis.dto.CompatibilityPromptInput.SkillLine;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SkillMatchScorerTest {
+
+  @Test
+  @DisplayName("성공: 요구 기술을 모두 10점으로 가진 지원자는 100점, 하나도 없으면 0점이다")
+  void score_shouldBeBoundedByFullAndNoMatch() {
+    assertThat(SkillMatchScorer.score(input("Java, Spring", skill("Java", 10), skill("Spring", 10))))
+        .isEqualByComparingTo("100.00");
+    assertThat(SkillMatchScorer.score(input("Java, Spring", skill("React", 10))))
+        .isEqualByComparingTo("0.00");
+  }
+
+  @Test
+  @DisplayName("성공: 커버리지, 최고 숙련도, 폭을 가중합하고 기술명 대소문자와 공백은 무시한다")
+  void score_shouldCombineCoverageMaxSkillAndBreadth() {
+    // 커버리지 (0.8 + 0.2) / 2 = 0.5, 최고 0.8, 폭 1/2 -> 100 * (0.6*0.5 + 0.25*0.8 + 0.15*0.5)
+    BigDecimal score = SkillMatchScorer.score(
+        input("Java, Spring", skill(" java ", 8), skill("SPRING", 2), skill("React", 10)));
+
+    assertThat(score).isEqualByComparingTo("57.50");
+  }
+
+  @Test
+  @DisplayName("성공: 같은 입력이면 순서와 관계없이 항상 같은 점수를 낸다")
+  void score_shouldBeDeterministic() {
+    BigDecimal first = SkillMatchScorer.score(input("Java, React", skill("Java", 7), skill("React", 3)));
+    BigDecimal second = SkillMatchScorer.score(input("React, Java", skill("React", 3), skill("Java", 7)));
+
+    assertThat(first).isEqualTo(second);
+  }
+
+  private static CompatibilityPromptInput input(String techStack, SkillLine... skills) {
+    return new CompatibilityPromptInput(1L, "description", 4, 8, techStack, List.of(skills));
+  }
+
+  private static SkillLine skill(String techName, int score) {
+    return new SkillLine(techName, score);
+  }
+}
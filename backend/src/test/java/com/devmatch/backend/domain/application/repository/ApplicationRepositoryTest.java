@@ -0,0 +1,181 @@
+package com.devmatch.backend.domain.application.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devmatch.backend.domain.application.dto.query.ApplicationRow;
+import com.devmatch.backend.domain.application.dto.query.UserApplicationRow;
+import com.devmatch.backend.domain.application.dto.response.ApplicationDetailResponseDto;
+import com.devmatch.backend.domain.application.entity.Application;
+import com.devmatch.backend.domain.application.entity.SkillScore;
+import com.devmatch.backend.domain.application.enums.ApplicationStatus;
+import com.devmatch.backend.domain.project.dto.query.ProjectSummaryRow;
+import com.devmatch.backend.domain.project.entity.Project;
+import com.devmatch.backend.domain.project.repository.ProjectRepository;
+import com.devmatch.backend.domain.user.entity.User;
+import com.devmatch.backend.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ApplicationRepositoryTest {
+
+  private static final int APPLICANT_COUNT = 5;
+  private static final int SKILL_COUNT = 20;
+
+  @Autowired
+  private ApplicationRepository applicationRepository;
+
+  @Autowired
+  private SkillScoreRepository skillScoreRepository;
+
+  @Autowired
+  private ProjectRepository projectRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  private Project project;
+
+  private User firstApplicant;
+
+  @BeforeEach
+  void setUp() {
+    User creator = userRepository.save(new User("creator@test.com", "pwd", "creator", "imgUrl"));
+    project = projectRepository.save(
+        new Project("title", "description", "Java, React", 5, creator, 4));
+
+    for (int i = 0; i < APPLICANT_COUNT; i++) {
+      User applicant = userRepository.save(
+          new User("user%d@test.com".formatted(i), "pwd", "user" + i, "imgUrl"));
+      if (i == 0) {
+        firstApplicant = applicant;
+      }
+
+      Application application = Application.builder()
+          .user(applicant)
+          .project(project)
+          .build();
+      application.getSkillScore().addAll(List.of(
+          SkillScore.builder().application(application).techName("Java").score(i + 1).build(),
+          SkillScore.builder().application(application).techName("React").score(i + 2).build()
+      ));
+      applicationRepository.save(application);
+    }
+  }
+
+  @Test
+  @DisplayName("성공: 프로젝트의 지원서 목록을 지원서 수와 무관하게 쿼리 2번으로 응답 DTO로 변환한다")
+  void findRowsByProjectId_shouldBuildResponsesInTwoStatements() {
+    Statistics statistics = clearContextAndStatistics();
+
+    List<ApplicationRow> rows = applicationRepository.findRowsByProjectId(project.getId());
+    List<ApplicationDetailResponseDto> responses = ApplicationDetailResponseDto.listOf(
+        rows,
+        skillScoreRepository.findRowsByApplicationIdIn(
+            rows.stream().map(ApplicationRow::applicationId).toList())
+    );
+
+    assertThat(responses).hasSize(APPLICANT_COUNT);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+    ApplicationDetailResponseDto first = responses.getFirst();
+    assertThat(first.nickname()).isEqualTo("user0");
+    assertThat(first.techName()).containsExactly("Java", "React");
+    assertThat(first.score()).containsExactly(1, 2);
+  }
+
+  @Test
+  @DisplayName("성공: 사용자의 지원서 목록을 쿼리 2번으로 응답 DTO로 변환한다")
+  void findRowsByUserId_shouldBuildResponsesInTwoStatements() {
+    Statistics statistics = clearContextAndStatistics();
+
+    List<ApplicationRow> rows = applicationRepository.findRowsByUserId(firstApplicant.getId());
+    List<ApplicationDetailResponseDto> responses = ApplicationDetailResponseDto.listOf(
+        rows,
+        skillScoreRepository.findRowsByApplicationIdIn(
+            rows.stream().map(ApplicationRow::applicationId).toList())
+    );
+
+    assertThat(responses).hasSize(1);
+    assertThat(responses.getFirst().techName()).containsExactly("Java", "React");
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("성공: 사용자의 지원서를 프로젝트 제목과 함께 쿼리 1번으로 조회한다")
+  void findUserApplicationRowsByUserId_shouldJoinProjectInOneStatement() {
+    Statistics statistics = clearContextAndStatistics();
+
+    List<UserApplicationRow> rows =
+        applicationRepository.findUserApplicationRowsByUserId(firstApplicant.getId());
+
+    assertThat(rows).hasSize(1);
+    assertThat(rows.getFirst().projectTitle()).isEqualTo("title");
+    assertThat(rows.getFirst().compatibilityScore()).isNull();
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("성공: 사용자가 만든 프로젝트를 지원자 수와 함께 쿼리 1번으로 조회한다")
+  void findSummaryRowsByCreatorId_shouldCountApplicantsInOneStatement() {
+    User creator = project.getCreator();
+    Project empty = projectRepository.save(
+        new Project("empty", "description", "Java", 3, creator, 4));
+    Statistics statistics = clearContextAndStatistics();
+
+    List<ProjectSummaryRow> rows =
+        projectRepository.findSummaryRowsByCreatorId(creator.getId(), ApplicationStatus.PENDING);
+
+    assertThat(rows).extracting(ProjectSummaryRow::projectId)
+        .containsExactly(empty.getId(), project.getId());
+    assertThat(rows).extracting(ProjectSummaryRow::applicantCount)
+        .containsExactly(0L, (long) APPLICANT_COUNT);
+    assertThat(rows).extracting(ProjectSummaryRow::pendingCount)
+        .containsExactly(0L, (long) APPLICANT_COUNT);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("성공: 기술 점수가 많은 지원서도 지원서 insert 1번과 기술 점수 배치 insert 1번으로 저장한다")
+  void save_shouldBatchSkillScoreInserts() {
+    User applicant = userRepository.save(new User("batch@test.com", "pwd", "batch", "imgUrl"));
+    Statistics statistics = clearContextAndStatistics();
+
+    Application application = Application.builder()
+        .user(applicant)
+        .project(project)
+        .build();
+    for (int i = 0; i < SKILL_COUNT; i++) {
+      application.getSkillScore().add(
+          SkillScore.builder().application(application).techName("Tech" + i).score(5).build());
+    }
+    applicationRepository.save(application);
+    entityManager.flush();
+
+    assertThat(statistics.getEntityInsertCount()).isEqualTo(1 + SKILL_COUNT);
+    // insert 2번 + 미리 받아 둔 시퀀스 블록을 다 쓴 경우에만 시퀀스 조회가 테이블마다 최대 1번
+    assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+  }
+
+  private Statistics clearContextAndStatistics() {
+    entityManager.flush();
+    entityManager.clear();
+
+    Statistics statistics = entityManager.getEntityManagerFactory()
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+    statistics.clear();
+
+    return statistics;
+  }
+}
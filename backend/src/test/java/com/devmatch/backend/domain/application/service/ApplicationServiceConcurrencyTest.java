@@ -0,0 +1,213 @@
+package com.devmatch.backend.domain.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.devmatch.backend.domain.application.dto.request.ApplicationBulkStatusUpdateRequestDto;
+import com.devmatch.backend.domain.application.dto.request.ApplicationStatusUpdateRequestDto;
+import com.devmatch.backend.domain.application.entity.Application;
+import com.devmatch.backend.domain.application.enums.ApplicationStatus;
+import com.devmatch.backend.domain.application.repository.ApplicationRepository;
+import com.devmatch.backend.domain.project.dto.ProjectApplicationStatsResponse;
+import com.devmatch.backend.domain.project.entity.Project;
+import com.devmatch.backend.domain.project.entity.ProjectStatus;
+import com.devmatch.backend.domain.project.repository.ProjectRepository;
+import com.devmatch.backend.domain.project.service.ProjectStatsService;
+import com.devmatch.backend.domain.user.entity.User;
+import com.devmatch.backend.domain.user.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+// 여러 스레드가 각자 커밋해야 하므로 테스트 트랜잭션(롤백) 없이 실행하고, 만든 데이터는 직접 지운다
+@SpringBootTest
+class ApplicationServiceConcurrencyTest {
+
+  private static final int TEAM_SIZE = 3;
+  private static final int APPLICANT_COUNT = 10;
+
+  @Autowired
+  private ApplicationService applicationService;
+
+  @Autowired
+  private ApplicationRepository applicationRepository;
+
+  @Autowired
+  private ProjectRepository projectRepository;
+
+  @Autowired
+  private ProjectStatsService projectStatsService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  private final List<User> users = new ArrayList<>();
+  private final List<Application> applications = new ArrayList<>();
+  private Project project;
+
+  @BeforeEach
+  void setUp() {
+    User creator = saveUser("creator");
+    project = projectRepository.save(
+        new Project("title", "description", "Java", TEAM_SIZE, creator, 4));
+
+    for (int i = 0; i < APPLICANT_COUNT; i++) {
+      applications.add(applicationRepository.save(
+          Application.builder().user(saveUser("applicant" + i)).project(project).build()));
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    applicationRepository.deleteAllInBatch(applications);
+    projectStatsService.delete(project.getId());
+    projectRepository.deleteById(project.getId());
+    userRepository.deleteAllInBatch(users);
+  }
+
+  @Test
+  @DisplayName("성공: 정원보다 많은 지원서를 동시에 승인해도, 정원만큼만 승인되고 팀원 수가 정원을 넘지 않는다")
+  void updateApplicationStatus_shouldNotExceedTeamSize_whenApprovedConcurrently() throws Exception {
+    List<Long> applicationIds = applications.stream().map(Application::getId).toList();
+
+    long approved = runConcurrently(applicationIds);
+
+    Project result = projectRepository.findById(project.getId()).orElseThrow();
+    assertThat(approved).isEqualTo(TEAM_SIZE);
+    assertThat(result.getCurrentTeamSize()).isEqualTo(TEAM_SIZE);
+    assertThat(result.getStatus()).isEqualTo(ProjectStatus.COMPLETED);
+    assertThat(applicationRepository.findByProjectIdAndStatus(project.getId(),
+        ApplicationStatus.APPROVED)).hasSize(TEAM_SIZE);
+
+    ProjectApplicationStatsResponse stats = projectStatsService.getStats(project.getId());
+    assertThat(stats.approvedCount()).isEqualTo(TEAM_SIZE);
+    assertThat(stats.pendingCount()).isEqualTo(APPLICANT_COUNT - TEAM_SIZE);
+  }
+
+  @Test
+  @DisplayName("성공: 같은 지원서를 동시에 여러 번 승인해도, 한 번만 승인되고 팀원 수는 1 늘어난다")
+  void updateApplicationStatus_shouldCountOnce_whenSameApplicationApprovedConcurrently()
+      throws Exception {
+    Long applicationId = applications.getFirst().getId();
+
+    long approved = runConcurrently(List.of(
+        applicationId, applicationId, applicationId, applicationId, applicationId));
+
+    Project result = projectRepository.findById(project.getId()).orElseThrow();
+    assertThat(approved).isEqualTo(1);
+    assertThat(result.getCurrentTeamSize()).isEqualTo(1);
+    assertThat(result.getStatus()).isEqualTo(ProjectStatus.RECRUITING);
+  }
+
+  @Test
+  @DisplayName("성공: 여러 지원서의 상태를 한 번에 바꾸면, 승인 수만큼 팀원 수가 한 번에 늘어난다")
+  void updateApplicationStatuses_shouldApplyAllChangesAtOnce() {
+    applicationService.updateApplicationStatuses(project.getId(), bulkRequest(
+        ApplicationStatus.APPROVED, applications.subList(0, TEAM_SIZE)));
+    applicationService.updateApplicationStatuses(project.getId(), bulkRequest(
+        ApplicationStatus.REJECTED, applications.subList(TEAM_SIZE, APPLICANT_COUNT)));
+
+    Project result = projectRepository.findById(project.getId()).orElseThrow();
+    assertThat(result.getCurrentTeamSize()).isEqualTo(TEAM_SIZE);
+    assertThat(result.getStatus()).isEqualTo(ProjectStatus.COMPLETED);
+    assertThat(applicationRepository.findByProjectIdAndStatus(project.getId(),
+        ApplicationStatus.APPROVED)).hasSize(TEAM_SIZE);
+    assertThat(applicationRepository.findByProjectIdAndStatus(project.getId(),
+        ApplicationStatus.REJECTED)).hasSize(APPLICANT_COUNT - TEAM_SIZE);
+  }
+
+  @Test
+  @DisplayName("실패: 한 번에 승인하려는 지원서가 남은 정원보다 많으면, 아무 지원서도 바뀌지 않는다")
+  void updateApplicationStatuses_shouldChangeNothing_whenExceedingTeamSize() {
+    ApplicationBulkStatusUpdateRequestDto request = bulkRequest(
+        ApplicationStatus.APPROVED, applications.subList(0, TEAM_SIZE + 1));
+
+    assertThatThrownBy(
+        () -> applicationService.updateApplicationStatuses(project.getId(), request))
+        .isInstanceOf(IllegalArgumentException.class);
+
+    Project result = projectRepository.findById(project.getId()).orElseThrow();
+    assertThat(result.getCurrentTeamSize()).isZero();
+    assertThat(applicationRepository.findByProjectIdAndStatus(project.getId(),
+        ApplicationStatus.APPROVED)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("성공: 지원서 상태를 바꾸거나 지원서를 삭제하면, 프로젝트 지원서 통계가 함께 바뀐다")
+  void projectStats_shouldFollowStatusChangesAndDeletion() {
+    applicationService.updateApplicationStatuses(project.getId(), bulkRequest(
+        ApplicationStatus.APPROVED, applications.subList(0, 2)));
+    applicationService.updateApplicationStatuses(project.getId(), bulkRequest(
+        ApplicationStatus.REJECTED, applications.subList(2, 5)));
+    applicationService.updateApplicationStatus(applications.get(1).getId(),
+        new ApplicationStatusUpdateRequestDto(ApplicationStatus.REJECTED));
+    applicationService.deleteApplication(applications.get(2).getId());
+
+    ProjectApplicationStatsResponse stats = projectStatsService.getStats(project.getId());
+    assertThat(stats.approvedCount()).isEqualTo(1);
+    assertThat(stats.rejectedCount()).isEqualTo(3);
+    assertThat(stats.pendingCount()).isEqualTo(APPLICANT_COUNT - 5);
+    assertThat(stats.totalCount()).isEqualTo(APPLICANT_COUNT - 1);
+    assertThat(stats.averageCompatibilityScore()).isNull();
+  }
+
+  private ApplicationBulkStatusUpdateRequestDto bulkRequest(
+      ApplicationStatus status,
+      List<Application> targets
+  ) {
+    return new ApplicationBulkStatusUpdateRequestDto(targets.stream()
+        .map(application -> new ApplicationBulkStatusUpdateRequestDto.Item(
+            application.getId(), status))
+        .toList());
+  }
+
+  // 모든 스레드가 준비된 뒤 한꺼번에 승인을 요청하고, 성공한 요청 수를 반환한다
+  private long runConcurrently(List<Long> applicationIds) throws Exception {
+    ApplicationStatusUpdateRequestDto approve =
+        new ApplicationStatusUpdateRequestDto(ApplicationStatus.APPROVED);
+    CountDownLatch ready = new CountDownLatch(applicationIds.size());
+    CountDownLatch start = new CountDownLatch(1);
+
+    try (ExecutorService executor = Executors.newFixedThreadPool(applicationIds.size())) {
+      List<Future<Boolean>> results = applicationIds.stream()
+          .map(applicationId -> executor.submit(() -> {
+            ready.countDown();
+            start.await();
+            try {
+              applicationService.updateApplicationStatus(applicationId, approve);
+              return true;
+            } catch (RuntimeException e) {
+              return false;
+            }
+          }))
+          .toList();
+
+      ready.await(10, TimeUnit.SECONDS);
+      start.countDown();
+
+      long succeeded = 0;
+      for (Future<Boolean> result : results) {
+        if (result.get(30, TimeUnit.SECONDS)) {
+          succeeded++;
+        }
+      }
+      return succeeded;
+    }
+  }
+
+  private User saveUser(String name) {
+    User user = userRepository.save(new User(name + "@concurrency.test", "pwd", name, "imgUrl"));
+    users.add(user);
+    return user;
+  }
+}
@@ -13,6 +13,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -22,12 +24,16 @@ import com.devmatch.backend.domain.application.service.ApplicationService;
 import com.devmatch.backend.domain.project.dto.ProjectApplyRequest;
 import com.devmatch.backend.domain.project.dto.ProjectCreateRequest;
 import com.devmatch.backend.domain.project.dto.ProjectDetailResponse;
+import com.devmatch.backend.domain.project.dto.ProjectPageResponse;
+import com.devmatch.backend.domain.project.dto.ProjectSearchRequest;
 import com.devmatch.backend.domain.project.dto.ProjectStatusUpdateRequest;
+import com.devmatch.backend.domain.project.dto.VersionedProjectDetail;
 import com.devmatch.backend.domain.project.entity.ProjectStatus;
 import com.devmatch.backend.domain.project.service.ProjectService;
 import com.devmatch.backend.domain.user.entity.User;
 import com.devmatch.backend.global.rq.Rq;
 import com.devmatch.backend.global.security.CustomAuthenticationFilter;
+import com.devmatch.backend.global.web.ResourceVersion;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -46,6 +52,7 @@ import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfi
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -136,35 +143,52 @@ class ProjectControllerUnitTest {
     ProjectDetailResponse project2 = createProjectDetailResponse(2L, "새 프로젝트2");
     List<ProjectDetailResponse> projectList = List.of(project1, project2);
 
-    given(projectService.getProjects()).willReturn(projectList);
+    given(projectService.getProjects(any(ProjectSearchRequest.class)))
+        .willReturn(new ProjectPageResponse(projectList, "next-cursor", true));
 
     mockMvc.perform(get("/projects")
             .accept(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.msg").value("프로젝트 전체 조회 성공"))
-        .andExpect(jsonPath("$.data").isArray())
-        .andExpect(jsonPath("$.data", hasSize(2)))
-        .andExpect(jsonPath("$.data[0].id").value(project1.id()))
-        .andExpect(jsonPath("$.data[0].title").value(project1.title()))
-        .andExpect(jsonPath("$.data[1].id").value(project2.id()))
-        .andExpect(jsonPath("$.data[1].title").value(project2.title()));
-
-    verify(projectService, times(1)).getProjects();
+        .andExpect(jsonPath("$.data.projects").isArray())
+        .andExpect(jsonPath("$.data.projects", hasSize(2)))
+        .andExpect(jsonPath("$.data.projects[0].id").value(project1.id()))
+        .andExpect(jsonPath("$.data.projects[0].title").value(project1.title()))
+        .andExpect(jsonPath("$.data.projects[1].id").value(project2.id()))
+        .andExpect(jsonPath("$.data.projects[1].title").value(project2.title()))
+        .andExpect(jsonPath("$.data.nextCursor").value("next-cursor"))
+        .andExpect(jsonPath("$.data.hasNext").value(true));
+
+    verify(projectService, times(1)).getProjects(any(ProjectSearchRequest.class));
   }
 
   @Test
   @DisplayName("성공: 프로젝트가 하나도 없을 때 200 OK와 빈 목록을 반환한다")
   void getAllProjects_shouldReturnEmptyList_whenNoProjectsExist() throws Exception {
-    given(projectService.getProjects()).willReturn(Collections.emptyList());
+    given(projectService.getProjects(any(ProjectSearchRequest.class)))
+        .willReturn(new ProjectPageResponse(Collections.emptyList(), null, false));
 
     mockMvc.perform(get("/projects")
             .accept(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.msg").value("프로젝트 전체 조회 성공"))
-        .andExpect(jsonPath("$.data").isArray())
-        .andExpect(jsonPath("$.data", hasSize(0)));
+        .andExpect(jsonPath("$.data.projects").isArray())
+        .andExpect(jsonPath("$.data.projects", hasSize(0)))
+        .andExpect(jsonPath("$.data.hasNext").value(false));
 
-    verify(projectService, times(1)).getProjects();
+    verify(projectService, times(1)).getProjects(any(ProjectSearchRequest.class));
+  }
+
+  @Test
+  @DisplayName("실패: 페이지 크기가 허용 범위를 벗어나면 400 Bad Request를 반환한다")
+  void getAllProjects_shouldReturnBadRequest_whenSizeIsOutOfRange() throws Exception {
+    mockMvc.perform(get("/projects")
+            .param("size", "0")
+            .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.msg").value(containsString("size")));
+
+    verify(projectService, times(0)).getProjects(any(ProjectSearchRequest.class));
   }
 
   @Test
@@ -172,7 +196,8 @@ class ProjectControllerUnitTest {
   void getProject_shouldReturnProject_whenIdExists() throws Exception {
     ProjectDetailResponse response = createProjectDetailResponse(1L, "새 프로젝트");
 
-    given(projectService.getProjectDetail(response.id())).willReturn(response);
+    given(projectService.getVersionedProjectDetail(response.id()))
+        .willReturn(createVersionedProjectDetail(response, 0L));
 
     mockMvc.perform(get("/projects/{id}", response.id())
             .accept(MediaType.APPLICATION_JSON))
@@ -181,7 +206,37 @@ class ProjectControllerUnitTest {
         .andExpect(jsonPath("$.data.id").value(response.id()))
         .andExpect(jsonPath("$.data.title").value(response.title()));
 
-    verify(projectService, times(1)).getProjectDetail(response.id());
+    verify(projectService, times(1)).getVersionedProjectDetail(response.id());
+  }
+
+  @Test
+  @DisplayName("성공: 프로젝트 단일 조회 응답에 본문과 함께 읽은 버전의 ETag를 붙인다")
+  void getProject_shouldReturnETag_whenVersionExists() throws Exception {
+    ProjectDetailResponse response = createProjectDetailResponse(1L, "새 프로젝트");
+    VersionedProjectDetail detail = createVersionedProjectDetail(response, 3L);
+
+    given(projectService.getVersionedProjectDetail(response.id())).willReturn(detail);
+
+    mockMvc.perform(get("/projects/{id}", response.id())
+            .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, detail.version().eTag()))
+        .andExpect(jsonPath("$.data.id").value(response.id()));
+  }
+
+  @Test
+  @DisplayName("성공: If-None-Match가 현재 버전과 같으면 본문 없이 304 Not Modified를 반환한다")
+  void getProject_shouldReturnNotModified_whenETagMatches() throws Exception {
+    VersionedProjectDetail detail = createVersionedProjectDetail(
+        createProjectDetailResponse(1L, "새 프로젝트"), 3L);
+
+    given(projectService.getVersionedProjectDetail(1L)).willReturn(detail);
+
+    mockMvc.perform(get("/projects/{id}", 1L)
+            .header(HttpHeaders.IF_NONE_MATCH, detail.version().eTag())
+            .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
   }
 
   @Test
@@ -189,7 +244,7 @@ class ProjectControllerUnitTest {
   void getProject_shouldReturnNotFound_whenIdDoesNotExist() throws Exception {
     Long nonExistentId = 999L;
 
-    given(projectService.getProjectDetail(nonExistentId))
+    given(projectService.getVersionedProjectDetail(nonExistentId))
         .willThrow(new NoSuchElementException("조회하려는 프로젝트가 없습니다"));
 
     mockMvc.perform(get("/projects/{id}", nonExistentId)
@@ -197,7 +252,7 @@ class ProjectControllerUnitTest {
         .andExpect(status().isNotFound())
         .andExpect(jsonPath("$.msg").value("조회하려는 프로젝트가 없습니다"));
 
-    verify(projectService, times(1)).getProjectDetail(nonExistentId);
+    verify(projectService, times(1)).getVersionedProjectDetail(nonExistentId);
   }
 
   @Test
@@ -539,6 +594,14 @@ class ProjectControllerUnitTest {
     );
   }
 
+  private VersionedProjectDetail createVersionedProjectDetail(
+      ProjectDetailResponse response,
+      long revision
+  ) {
+    return new VersionedProjectDetail(response,
+        ResourceVersion.of("project", response.id(), revision, null));
+  }
+
   static String createContentJson(String key, String value) {
     if (value == null) {
       return """
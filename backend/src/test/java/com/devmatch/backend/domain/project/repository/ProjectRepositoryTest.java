@@ -2,16 +2,26 @@ package com.devmatch.backend.domain.project.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.devmatch.backend.domain.project.dto.ProjectDetailResponse;
 import com.devmatch.backend.domain.project.entity.Project;
+import com.devmatch.backend.domain.project.entity.ProjectStatus;
+import com.devmatch.backend.domain.project.entity.Tech;
+import com.devmatch.backend.domain.project.mapper.ProjectMapper;
 import com.devmatch.backend.domain.user.entity.User;
 import com.devmatch.backend.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 class ProjectRepositoryTest {
 
   @Autowired
@@ -20,6 +30,12 @@ class ProjectRepositoryTest {
   @Autowired
   private UserRepository userRepository;
 
+  @Autowired
+  private TechRepository techRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
   @Test
   @DisplayName("성공: 사용자 ID로 프로젝트 목록을 조회하면, 해당 사용자의 프로젝트만 반환한다")
   void findAllByCreatorId_shouldReturnOnlyProjectsOfGivenUser_whenUserHasProjects() {
@@ -52,4 +68,158 @@ class ProjectRepositoryTest {
     assertThat(projects).isNotNull();
     assertThat(projects).isEmpty();
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("성공: 커서 이후의 프로젝트를 생성일 역순으로 필터 조건에 맞게 조회한다")
+  void findPageByKeyset_shouldReturnProjectsAfterCursor_whenCursorGiven() {
+    User user1 = userRepository.save(new User("user1@test.com", "pwd1", "user1", "imgUrl1"));
+
+    Project project1 = saveProject("title1", "Java, Spring", 2, user1);
+    Project project2 = saveProject("title2", "React", 8, user1);
+    Project project3 = saveProject("title3", "Java, JPA", 4, user1);
+
+    List<Project> firstPage = findPage(null, List.of(), 0, null, null, PageRequest.of(0, 2));
+
+    assertThat(firstPage).extracting(Project::getId)
+        .containsExactly(project3.getId(), project2.getId());
+
+    Project last = firstPage.getLast();
+    List<Project> secondPage = findPage(null, List.of(), 0, last.getCreatedAt(), last.getId(),
+        PageRequest.of(0, 2));
+
+    assertThat(secondPage).extracting(Project::getId).containsExactly(project1.getId());
+
+    List<Project> filtered = projectRepository.findPageByKeyset(
+        ProjectStatus.RECRUITING, List.of("java"), 1, null, 4, null, null, PageRequest.of(0, 10));
+
+    assertThat(filtered).extracting(Project::getId)
+        .containsExactly(project3.getId(), project1.getId());
+  }
+
+  @Test
+  @DisplayName("성공: 기술 중 하나라도 요구하는 프로젝트와 모두 요구하는 프로젝트를 구분해 조회한다")
+  void findProjectIdsByTechs_shouldMatchAnyOrAllTechs() {
+    User user1 = userRepository.save(new User("user1@test.com", "pwd1", "user1", "imgUrl1"));
+
+    Project javaSpring = saveProject("title1", "Java, Spring", 2, user1);
+    Project react = saveProject("title2", "React", 8, user1);
+    Project javaReact = saveProject("title3", "java, React", 4, user1);
+
+    List<String> techs = List.of("java", "react");
+
+    assertThat(projectRepository.findProjectIdsByTechs(techs, 1))
+        .containsExactlyInAnyOrder(javaSpring.getId(), react.getId(), javaReact.getId());
+    assertThat(projectRepository.findProjectIdsByTechs(techs, techs.size()))
+        .containsExactly(javaReact.getId());
+  }
+
+  @Test
+  @DisplayName("성공: 대소문자만 다른 기술명은 기술 사전의 같은 기술로 연결되고, 처음 등록된 표기로 응답한다")
+  void saveProject_shouldShareCanonicalTech_whenNamesDifferOnlyInCase() {
+    User user1 = userRepository.save(new User("user1@test.com", "pwd1", "user1", "imgUrl1"));
+
+    saveProject("title1", "React", 2, user1);
+    Project project = saveProject("title2", "react, Java", 2, user1);
+
+    assertThat(techRepository.count()).isEqualTo(2);
+    assertThat(project.getTechNames()).containsExactly("React", "Java");
+  }
+
+  @Test
+  @DisplayName("성공: 프로젝트 목록을 응답 DTO로 변환해도, 프로젝트 수와 무관하게 쿼리 수가 일정하다")
+  void findPageByKeyset_shouldFetchInConstantStatements() {
+    saveProjectsOfManyCreators(5);
+
+    Statistics statistics = clearContextAndStatistics();
+
+    List<ProjectDetailResponse> responses = findPage(null, List.of(), 0, null, null,
+        PageRequest.of(0, 10))
+        .stream()
+        .map(ProjectMapper::toProjectDetailResponse)
+        .toList();
+
+    assertThat(responses).hasSize(5);
+    assertThat(responses.getFirst().techStacks()).containsExactly("Java", "Spring");
+    // 프로젝트+생성자 1번, 프로젝트 기술 배치 1번, 기술 사전 배치 1번
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("성공: 사용자의 프로젝트 목록을 응답 DTO로 변환해도, 프로젝트 수와 무관하게 쿼리 수가 일정하다")
+  void findAllByCreatorId_shouldFetchInConstantStatements() {
+    User user1 = userRepository.save(new User("user1@test.com", "pwd1", "user1", "imgUrl1"));
+    for (int i = 0; i < 5; i++) {
+      saveProject("title" + i, "Java, Spring", 2, user1);
+    }
+
+    Statistics statistics = clearContextAndStatistics();
+
+    List<ProjectDetailResponse> responses = projectRepository.findAllByCreatorId(user1.getId())
+        .stream()
+        .map(ProjectMapper::toProjectDetailResponse)
+        .toList();
+
+    assertThat(responses).hasSize(5);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("성공: 프로젝트 단일 조회 시 생성자를 함께 조회한다")
+  void findWithCreatorById_shouldFetchCreatorWithProject() {
+    User user1 = userRepository.save(new User("user1@test.com", "pwd1", "user1", "imgUrl1"));
+    Project project = saveProject("title", "Java", 2, user1);
+
+    Statistics statistics = clearContextAndStatistics();
+
+    ProjectDetailResponse response = projectRepository.findWithCreatorById(project.getId())
+        .map(ProjectMapper::toProjectDetailResponse)
+        .orElseThrow();
+
+    assertThat(response.creator()).isEqualTo("user1");
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+  }
+
+  private List<Project> findPage(
+      ProjectStatus status,
+      List<String> techs,
+      int requiredTechCount,
+      LocalDateTime cursorCreatedAt,
+      Long cursorId,
+      PageRequest pageRequest
+  ) {
+    return projectRepository.findPageByKeyset(status, techs.isEmpty() ? List.of("") : techs,
+        requiredTechCount, null, null, cursorCreatedAt, cursorId, pageRequest);
+  }
+
+  private Project saveProject(String title, String techStack, int durationWeeks, User creator) {
+    Project project = new Project(title, "description", techStack, 5, creator, durationWeeks);
+    project.changeTechs(Arrays.stream(techStack.split(", "))
+        .map(name -> techRepository.findAllByNormalizedNameIn(List.of(Tech.normalize(name)))
+            .stream()
+            .findFirst()
+            .orElseGet(() -> techRepository.save(new Tech(name))))
+        .toList());
+
+    return projectRepository.save(project);
+  }
+
+  private void saveProjectsOfManyCreators(int count) {
+    for (int i = 0; i < count; i++) {
+      User user = userRepository.save(
+          new User("user%d@test.com".formatted(i), "pwd", "user" + i, "imgUrl"));
+      saveProject("title" + i, "Java, Spring", 2, user);
+    }
+  }
+
+  private Statistics clearContextAndStatistics() {
+    entityManager.flush();
+    entityManager.clear();
+
+    Statistics statistics = entityManager.getEntityManagerFactory()
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+    statistics.clear();
+
+    return statistics;
+  }
+}
@@ -0,0 +1,53 @@
+package com.devmatch.backend.domain.project.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InMemoryProjectSearchIndexTest {
+
+  private InMemoryProjectSearchIndex index;
+
+  @BeforeEach
+  void setUp() {
+    // 시작 시 재색인(rebuild)은 쓰지 않으므로 저장소 없이 만든다
+    index = new InMemoryProjectSearchIndex(null, null);
+
+    index.index(new ProjectSearchDocument(1L, "스프링 게시판", "게시판 프로젝트입니다", "Java, Spring Boot"));
+    index.index(new ProjectSearchDocument(2L, "리액트 쇼핑몰", "스프링 백엔드와 연동합니다", "React, TypeScript"));
+    index.index(new ProjectSearchDocument(3L, "C++ 게임 서버", "실시간 게임 서버", "C++, C#"));
+  }
+
+  @Test
+  @DisplayName("성공: 제목에 검색어가 있는 프로젝트가 설명에만 있는 프로젝트보다 먼저 나온다")
+  void search_shouldRankTitleMatchesFirst() {
+    assertThat(index.search("스프링", 0, 10)).containsExactly(1L, 2L);
+  }
+
+  @Test
+  @DisplayName("성공: 여러 검색어는 모두 포함하는 프로젝트만 반환하고, 검색어는 접두어로도 일치한다")
+  void search_shouldMatchAllTermsByPrefix() {
+    assertThat(index.search("spr 게시", 0, 10)).containsExactly(1L);
+    assertThat(index.search("c++", 0, 10)).containsExactly(3L);
+    assertThat(index.search("없는검색어", 0, 10)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("성공: 다시 색인하거나 삭제하면 검색 결과에 바로 반영된다")
+  void indexAndRemove_shouldUpdateSearchResults() {
+    index.index(new ProjectSearchDocument(1L, "코틀린 게시판", "게시판 프로젝트입니다", "Kotlin"));
+    index.remove(2L);
+
+    assertThat(index.search("스프링", 0, 10)).isEmpty();
+    assertThat(index.search("kotlin", 0, 10)).containsExactly(1L);
+  }
+
+  @Test
+  @DisplayName("성공: offset 과 limit 으로 관련도 순 결과를 나눠 가져온다")
+  void search_shouldPaginate() {
+    assertThat(index.search("스프링", 1, 10)).containsExactly(2L);
+    assertThat(index.search("스프링", 0, 1)).containsExactly(1L);
+  }
+}
@@ -0,0 +1,70 @@
+package com.devmatch.backend.domain.project.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.devmatch.backend.domain.project.entity.ProjectStatus;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ProjectTechIndexTest {
+
+  private static final Long USER_ID = 100L;
+  private static final Long OTHER_USER_ID = 200L;
+
+  private ProjectTechIndex index;
+
+  @BeforeEach
+  void setUp() {
+    // 시작 시 재색인(rebuild)은 쓰지 않으므로 저장소 없이 만든다
+    index = new ProjectTechIndex(null, null);
+
+    index.index(document(1L, OTHER_USER_ID, "java", "spring"));
+    index.index(document(2L, OTHER_USER_ID, "java", "spring", "react", "docker"));
+    index.index(document(3L, OTHER_USER_ID, "react"));
+    index.index(document(4L, USER_ID, "java"));
+  }
+
+  @Test
+  @DisplayName("성공: 내 숙련도와 요구 기술이 잘 맞는 프로젝트가 먼저 나오고, 내 프로젝트와 기술이 겹치지 않는 프로젝트는 빠진다")
+  void recommend_shouldRankBySkillMatch() {
+    List<ScoredProject> recommended = index.recommend(
+        Map.of("java", 1.0, "spring", 0.5), USER_ID, Set.of(), 10);
+
+    assertThat(recommended).extracting(ScoredProject::projectId).containsExactly(1L, 2L);
+    assertThat(recommended.getFirst().score()).isCloseTo(1.5 / Math.sqrt(2), within(1e-9));
+  }
+
+  @Test
+  @DisplayName("성공: 이미 지원한 프로젝트와 모집이 끝난 프로젝트는 추천하지 않고, 상위 limit 개만 반환한다")
+  void recommend_shouldExcludeAppliedAndCompletedProjects() {
+    Map<String, Double> skillProfile = Map.of("java", 1.0, "react", 1.0);
+
+    assertThat(index.recommend(skillProfile, USER_ID, Set.of(), 1))
+        .extracting(ScoredProject::projectId).containsExactly(3L);
+
+    index.updateStatus(3L, ProjectStatus.COMPLETED);
+
+    assertThat(index.recommend(skillProfile, USER_ID, Set.of(1L), 10))
+        .extracting(ScoredProject::projectId).containsExactly(2L);
+  }
+
+  @Test
+  @DisplayName("성공: 다시 색인하거나 삭제하면 추천 결과에 바로 반영된다")
+  void indexAndRemove_shouldUpdateRecommendations() {
+    index.index(document(1L, OTHER_USER_ID, "kotlin"));
+    index.remove(2L);
+
+    assertThat(index.recommend(Map.of("java", 1.0), USER_ID, Set.of(), 10)).isEmpty();
+    assertThat(index.recommend(Map.of("kotlin", 0.3), USER_ID, Set.of(), 10))
+        .extracting(ScoredProject::projectId).containsExactly(1L);
+  }
+
+  private static ProjectTechDocument document(Long projectId, Long creatorId, String... techs) {
+    return new ProjectTechDocument(projectId, creatorId, ProjectStatus.RECRUITING, List.of(techs));
+  }
+}
@@ -0,0 +1,70 @@
+package com.devmatch.backend.domain.project.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.devmatch.backend.domain.application.service.ApplicationService;
+import com.devmatch.backend.domain.project.dto.ProjectDetailResponse;
+import com.devmatch.backend.domain.project.dto.ProjectRecommendationResponse;
+import com.devmatch.backend.domain.project.entity.ProjectStatus;
+import com.devmatch.backend.domain.project.search.ProjectTechIndex;
+import com.devmatch.backend.domain.project.search.ScoredProject;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectRecommendationServiceTest {
+
+  @InjectMocks
+  ProjectRecommendationService projectRecommendationService;
+
+  @Mock
+  ApplicationService applicationService;
+
+  @Mock
+  ProjectService projectService;
+
+  @Mock
+  ProjectTechIndex projectTechIndex;
+
+  @Test
+  @DisplayName("성공: 색인에는 모집 중이지만 DB 에서 모집이 끝난 프로젝트가 섞여 있어도, 요청한 개수만큼 추천한다")
+  void recommendProjects_shouldFillSize_whenIndexContainsClosedProjects() {
+    when(applicationService.getSkillProfile(1L)).thenReturn(Map.of("java", 4.0));
+    when(applicationService.getAppliedProjectIds(1L)).thenReturn(Set.of());
+    when(projectTechIndex.recommend(eq(Map.of("java", 4.0)), eq(1L), eq(Set.of()), eq(4)))
+        .thenReturn(List.of(
+            new ScoredProject(10L, 4.0),
+            new ScoredProject(11L, 3.0),
+            new ScoredProject(12L, 2.0),
+            new ScoredProject(13L, 1.0)
+        ));
+    when(projectService.getProjectDetails(anyList())).thenReturn(List.of(
+        projectDetail(10L, ProjectStatus.COMPLETED),
+        projectDetail(11L, ProjectStatus.RECRUITING),
+        projectDetail(12L, ProjectStatus.RECRUITING),
+        projectDetail(13L, ProjectStatus.RECRUITING)
+    ));
+
+    List<ProjectRecommendationResponse> result =
+        projectRecommendationService.recommendProjects(1L, 2);
+
+    assertThat(result).extracting(response -> response.project().id())
+        .containsExactly(11L, 12L);
+  }
+
+  private ProjectDetailResponse projectDetail(Long id, ProjectStatus status) {
+    return new ProjectDetailResponse(id, "title" + id, "description", List.of("Java"), 4, 0,
+        "creator", status.name(), "", 4, LocalDateTime.now());
+  }
+}
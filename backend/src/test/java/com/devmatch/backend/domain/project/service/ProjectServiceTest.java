@@ -8,13 +8,33 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.devmatch.backend.domain.application.entity.Application;
+import com.devmatch.backend.domain.application.enums.ApplicationStatus;
+import com.devmatch.backend.domain.application.event.ApplicationEventType;
+import com.devmatch.backend.domain.application.event.ApplicationLifecycleEvent;
+import com.devmatch.backend.domain.application.repository.ApplicationRepository;
 import com.devmatch.backend.domain.project.dto.ProjectCreateRequest;
+import com.devmatch.backend.domain.project.dto.ProjectCursor;
 import com.devmatch.backend.domain.project.dto.ProjectDetailResponse;
+import com.devmatch.backend.domain.project.dto.ProjectPageResponse;
+import com.devmatch.backend.domain.project.dto.ProjectSearchRequest;
+import com.devmatch.backend.domain.project.dto.ProjectSearchResponse;
+import com.devmatch.backend.domain.project.dto.ProjectTextSearchRequest;
+import com.devmatch.backend.domain.project.dto.VersionedProjectDetail;
 import com.devmatch.backend.domain.project.entity.Project;
 import com.devmatch.backend.domain.project.entity.ProjectStatus;
+import com.devmatch.backend.domain.project.entity.Tech;
+import com.devmatch.backend.domain.project.mapper.ProjectMapper;
 import com.devmatch.backend.domain.project.repository.ProjectRepository;
+import com.devmatch.backend.domain.project.search.ProjectSearchDocument;
+import com.devmatch.backend.domain.project.search.ProjectSearchIndex;
+import com.devmatch.backend.domain.project.search.ProjectTechDocument;
+import com.devmatch.backend.domain.project.search.ProjectTechIndex;
 import com.devmatch.backend.domain.user.entity.User;
 import com.devmatch.backend.domain.user.service.UserService;
+import com.devmatch.backend.global.outbox.OutboxWriter;
+import com.devmatch.backend.global.web.ResourceVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.*;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.DisplayName;
@@ -23,7 +43,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @ExtendWith(MockitoExtension.class)
 class ProjectServiceTest {
@@ -34,9 +57,30 @@ class ProjectServiceTest {
   @Mock
   UserService userService;
 
+  @Mock
+  TechService techService;
+
   @Mock
   ProjectRepository projectRepository;
 
+  @Mock
+  ProjectDetailCache projectDetailCache;
+
+  @Mock
+  ProjectSearchIndex projectSearchIndex;
+
+  @Mock
+  ProjectTechIndex projectTechIndex;
+
+  @Mock
+  ProjectStatsService projectStatsService;
+
+  @Mock
+  ApplicationRepository applicationRepository;
+
+  @Mock
+  OutboxWriter outboxWriter;
+
   @Test
   @DisplayName("성공: 유효한 프로젝트 생성 요청을 하면, 프로젝트 응답 DTO를 반환한다")
   void createProject_shouldReturnProjectResponse() {
@@ -59,8 +103,11 @@ class ProjectServiceTest {
         projectCreateRequest.durationWeeks()
     );
     ReflectionTestUtils.setField(savedProject, "id", 1L);
+    List<Tech> techs = List.of(new Tech("Java"), new Tech("Spring Boot"));
+    savedProject.changeTechs(techs);
 
     when(userService.getUser(user.getId())).thenReturn(user);
+    when(techService.resolveAll(List.of("Java", "Spring Boot"))).thenReturn(techs);
     when(projectRepository.save(any(Project.class))).thenReturn(savedProject);
 
     ProjectDetailResponse response = projectService.createProject(user.getId(),
@@ -74,7 +121,24 @@ class ProjectServiceTest {
         Arrays.stream(savedProject.getTechStack().split(", ")).toList());
 
     verify(userService, times(1)).getUser(user.getId());
+    verify(techService, times(1)).resolveAll(List.of("Java", "Spring Boot"));
     verify(projectRepository, times(1)).save(any(Project.class));
+    verify(projectSearchIndex, times(1)).index(ProjectSearchDocument.from(savedProject));
+    verify(projectTechIndex, times(1)).index(ProjectTechDocument.from(savedProject));
+    verify(projectStatsService, times(1)).create(savedProject.getId());
+  }
+
+  @Test
+  @DisplayName("실패: 기술 스택이 \", \"로 구분되어 있지 않으면, IllegalArgumentException을 던진다")
+  void createProject_shouldThrowException_whenTechStackFormatIsInvalid() {
+    ProjectCreateRequest projectCreateRequest = new ProjectCreateRequest(
+        "테스트 프로젝트", "설명", "Java,Spring Boot", 5, 4);
+
+    assertThrows(IllegalArgumentException.class,
+        () -> projectService.createProject(1L, projectCreateRequest));
+
+    verify(techService, times(0)).resolveAll(any());
+    verify(projectRepository, times(0)).save(any(Project.class));
   }
 
   @Test
@@ -87,12 +151,16 @@ class ProjectServiceTest {
 
     List<Project> projects = List.of(project1, project2);
 
-    when(projectRepository.findAll()).thenReturn(projects);
+    when(projectRepository.findPageByKeyset(any(), any(), anyLong(), any(), any(), any(),
+        any(), any(Pageable.class))).thenReturn(projects);
 
-    List<ProjectDetailResponse> responses = projectService.getProjects();
+    ProjectPageResponse pageResponse = projectService.getProjects(createSearchRequest(null, 20));
+    List<ProjectDetailResponse> responses = pageResponse.projects();
 
     assertThat(responses).isNotNull();
     assertThat(responses.size()).isEqualTo(2);
+    assertThat(pageResponse.hasNext()).isFalse();
+    assertThat(pageResponse.nextCursor()).isNull();
 
     ProjectDetailResponse response = responses.getFirst();
     assertThat(response).isNotNull();
@@ -102,20 +170,76 @@ class ProjectServiceTest {
     assertThat(response.techStacks()).isEqualTo(
         Arrays.stream(project1.getTechStack().split(", ")).toList());
 
-    verify(projectRepository, times(1)).findAll();
+    verify(projectRepository, times(1)).findPageByKeyset(any(), any(), anyLong(), any(), any(), any(),
+        any(), any(Pageable.class));
   }
 
   @Test
   @DisplayName("성공: 프로젝트 없을 시 전체 조회를 하면, 빈 리스트를 반환한다")
   void getProjects_shouldReturnEmptyList_whenProjectsDoNotExist() {
-    when(projectRepository.findAll()).thenReturn(Collections.emptyList());
+    when(projectRepository.findPageByKeyset(any(), any(), anyLong(), any(), any(), any(),
+        any(), any(Pageable.class))).thenReturn(Collections.emptyList());
 
-    List<ProjectDetailResponse> responses = projectService.getProjects();
+    ProjectPageResponse pageResponse = projectService.getProjects(createSearchRequest(null, 20));
 
-    assertThat(responses).isNotNull();
-    assertThat(responses).isEmpty();
+    assertThat(pageResponse.projects()).isNotNull();
+    assertThat(pageResponse.projects()).isEmpty();
+    assertThat(pageResponse.hasNext()).isFalse();
+
+    verify(projectRepository, times(1)).findPageByKeyset(any(), any(), anyLong(), any(), any(), any(),
+        any(), any(Pageable.class));
+  }
+
+  @Test
+  @DisplayName("성공: 페이지 크기보다 많은 프로젝트가 있으면, 마지막 프로젝트 기준의 다음 커서를 반환한다")
+  void getProjects_shouldReturnNextCursor_whenMoreProjectsExist() {
+    User user1 = createUser(1L, "user1@test.com", "user1");
+    Project project3 = createProject(3L, "title3", user1);
+    Project project2 = createProject(2L, "title2", user1);
+    Project project1 = createProject(1L, "title1", user1);
+
+    when(projectRepository.findPageByKeyset(any(), any(), anyLong(), any(), any(), any(),
+        any(), any(Pageable.class))).thenReturn(List.of(project3, project2, project1));
+
+    ProjectPageResponse pageResponse = projectService.getProjects(createSearchRequest(null, 2));
+
+    assertThat(pageResponse.projects()).extracting(ProjectDetailResponse::id)
+        .containsExactly(project3.getId(), project2.getId());
+    assertThat(pageResponse.hasNext()).isTrue();
 
-    verify(projectRepository, times(1)).findAll();
+    ProjectCursor cursor = ProjectCursor.decode(pageResponse.nextCursor());
+    assertThat(cursor.id()).isEqualTo(project2.getId());
+    assertThat(cursor.createdAt()).isEqualTo(project2.getCreatedAt());
+  }
+
+  @Test
+  @DisplayName("실패: 형식이 올바르지 않은 커서로 조회하면, IllegalArgumentException을 던진다")
+  void getProjects_shouldThrowException_whenCursorIsInvalid() {
+    assertThrows(IllegalArgumentException.class,
+        () -> projectService.getProjects(createSearchRequest("invalid-cursor", 20)));
+
+    verify(projectRepository, times(0)).findPageByKeyset(any(), any(), anyLong(), any(), any(), any(),
+        any(), any(Pageable.class));
+  }
+
+  @Test
+  @DisplayName("성공: 검색어로 조회하면, 검색 색인의 관련도 순서대로 프로젝트 응답 DTO를 반환한다")
+  void searchProjects_shouldReturnProjectsInIndexOrder() {
+    User user1 = createUser(1L, "user1@test.com", "user1");
+    Project project1 = createProject(1L, "title1", user1);
+    Project project3 = createProject(3L, "title3", user1);
+
+    when(projectSearchIndex.search("spring", 0, 3)).thenReturn(List.of(3L, 1L, 2L));
+    when(projectRepository.findAllWithCreatorByIdIn(List.of(3L, 1L)))
+        .thenReturn(List.of(project1, project3));
+
+    ProjectSearchResponse response = projectService.searchProjects(
+        new ProjectTextSearchRequest("spring", 0, 2));
+
+    assertThat(response.projects()).extracting(ProjectDetailResponse::id)
+        .containsExactly(project3.getId(), project1.getId());
+    assertThat(response.hasNext()).isTrue();
+    assertThat(response.page()).isZero();
   }
 
   @Test
@@ -166,7 +290,7 @@ class ProjectServiceTest {
     User user1 = createUser(1L, "user@test.com", "user");
     Project project1 = createProject(1L, "title1", user1);
 
-    when(projectRepository.findById(project1.getId())).thenReturn(Optional.of(project1));
+    when(projectRepository.findWithCreatorById(project1.getId())).thenReturn(Optional.of(project1));
 
     ProjectDetailResponse response = projectService.getProjectDetail(project1.getId());
 
@@ -177,13 +301,77 @@ class ProjectServiceTest {
     assertThat(response.techStacks()).isEqualTo(
         Arrays.stream(project1.getTechStack().split(", ")).toList());
 
-    verify(projectRepository, times(1)).findById(project1.getId());
+    verify(projectRepository, times(1)).findWithCreatorById(project1.getId());
+    verify(projectDetailCache, times(1)).put(project1.getId(), new VersionedProjectDetail(
+        response, ResourceVersion.of("project", project1.getId(), 0L, project1.getUpdatedAt())));
+  }
+
+  @Test
+  @DisplayName("성공: 캐시된 프로젝트를 단일로 조회하면, DB를 조회하지 않고 캐시된 응답 DTO를 반환한다")
+  void getProjectDetail_shouldReturnCachedResponse_whenCached() {
+    User user1 = createUser(1L, "user@test.com", "user");
+    VersionedProjectDetail cached = new VersionedProjectDetail(
+        ProjectMapper.toProjectDetailResponse(createProject(1L, "title1", user1)),
+        ResourceVersion.of("project", 1L, 0L, null));
+
+    when(projectDetailCache.get(1L)).thenReturn(Optional.of(cached));
+
+    VersionedProjectDetail detail = projectService.getVersionedProjectDetail(1L);
+
+    assertThat(detail).isSameAs(cached);
+
+    verify(projectRepository, times(0)).findWithCreatorById(anyLong());
+  }
+
+  @Test
+  @DisplayName("성공: 옛 행을 읽은 조회가 수정의 커밋 후 무효화보다 늦게 캐시해도, 캐시된 ETag는 그 본문의 버전을 가리킨다")
+  void getVersionedProjectDetail_shouldKeepETagWithBody_whenStalePutFollowsEvict() {
+    ProjectDetailCache cache = new CaffeineProjectDetailCache(new SimpleMeterRegistry(), 100, 60);
+    ReflectionTestUtils.setField(projectService, "projectDetailCache", cache);
+
+    User user1 = createUser(1L, "user@test.com", "user");
+    Project stale = createProject(1L, "title1", user1);
+    Project fresh = createProject(1L, "title1", user1);
+    fresh.changeContent("역할 분배 결과");
+    ReflectionTestUtils.setField(fresh, "version", 1L);
+
+    // 조회가 옛 행을 읽은 직후, 캐시에 넣기 전에 수정 트랜잭션이 커밋되어 무효화된다
+    when(projectRepository.findWithCreatorById(1L))
+        .thenAnswer(invocation -> {
+          commitWithEvict(cache, 1L);
+          return Optional.of(stale);
+        })
+        .thenReturn(Optional.of(fresh));
+
+    VersionedProjectDetail staleDetail = projectService.getVersionedProjectDetail(1L);
+    ResourceVersion staleVersion = ResourceVersion.of("project", 1L, 0L, stale.getUpdatedAt());
+
+    assertThat(staleDetail.version()).isEqualTo(staleVersion);
+    assertThat(cache.get(1L)).contains(staleDetail);
+
+    // 캐시 항목이 만료(무효화)되면 새 본문과 새 버전을 함께 읽는다
+    cache.evict(1L);
+    VersionedProjectDetail freshDetail = projectService.getVersionedProjectDetail(1L);
+
+    assertThat(freshDetail.response().content()).isEqualTo("역할 분배 결과");
+    assertThat(freshDetail.version())
+        .isEqualTo(ResourceVersion.of("project", 1L, 1L, fresh.getUpdatedAt()))
+        .isNotEqualTo(staleVersion);
   }
 
   @Test
   @DisplayName("실패: 존재하지 않는 프로젝트를 상세 조회하면, NoSuchElementException을 던진다")
   void getProjectDetail_shouldThrowException_whenProjectDoesNotExist() {
-    assertProjectNotFound(projectId -> projectService.getProjectDetail(projectId));
+    Long nonExistentId = 999L;
+
+    when(projectRepository.findWithCreatorById(nonExistentId)).thenReturn(Optional.empty());
+
+    NoSuchElementException exception = assertThrows(NoSuchElementException.class,
+        () -> projectService.getProjectDetail(nonExistentId));
+
+    assertThat(exception.getMessage()).isEqualTo("조회하려는 프로젝트가 없습니다");
+
+    verify(projectRepository, times(1)).findWithCreatorById(nonExistentId);
   }
 
   @Test
@@ -204,6 +392,8 @@ class ProjectServiceTest {
     assertThat(response.creator()).isEqualTo(project1.getCreator().getNickName());
 
     verify(projectRepository, times(1)).findById(project1.getId());
+    verify(projectDetailCache, times(1)).evict(project1.getId());
+    verify(projectTechIndex, times(1)).updateStatus(project1.getId(), ProjectStatus.COMPLETED);
   }
 
   @Test
@@ -232,6 +422,7 @@ class ProjectServiceTest {
     assertThat(response.creator()).isEqualTo(project1.getCreator().getNickName());
 
     verify(projectRepository, times(1)).findById(project1.getId());
+    verify(projectDetailCache, times(1)).evict(project1.getId());
   }
 
   @Test
@@ -252,6 +443,37 @@ class ProjectServiceTest {
 
     verify(projectRepository, times(1)).findById(project1.getId());
     verify(projectRepository, times(1)).deleteById(project1.getId());
+    verify(projectStatsService, times(1)).delete(project1.getId());
+    verify(projectDetailCache, times(1)).evict(project1.getId());
+    verify(projectSearchIndex, times(1)).remove(project1.getId());
+    verify(projectTechIndex, times(1)).remove(project1.getId());
+  }
+
+  @Test
+  @DisplayName("성공: 프로젝트를 삭제하면, 함께 지워지는 지원서마다 DELETED 이벤트를 남긴다")
+  void deleteProject_shouldAppendDeletedEvents_forCascadedApplications() {
+    User user1 = createUser(1L, "user1@test.com", "user1");
+    Project project1 = createProject(1L, "title1", user1);
+    Application application1 = createApplication(10L, createUser(2L, "user2@test.com", "user2"),
+        project1);
+    Application application2 = createApplication(11L, createUser(3L, "user3@test.com", "user3"),
+        project1);
+
+    when(projectRepository.findById(project1.getId())).thenReturn(Optional.of(project1));
+    when(applicationRepository.findAllByProjectId(project1.getId()))
+        .thenReturn(List.of(application1, application2));
+
+    projectService.deleteProject(project1.getId());
+
+    for (Application application : List.of(application1, application2)) {
+      verify(outboxWriter, times(1)).append(
+          ApplicationLifecycleEvent.AGGREGATE_TYPE,
+          application.getId(),
+          ApplicationEventType.DELETED.name(),
+          ApplicationLifecycleEvent.of(application, ApplicationStatus.PENDING, null)
+      );
+    }
+    verify(projectRepository, times(1)).deleteById(project1.getId());
   }
 
   @Test
@@ -292,12 +514,36 @@ class ProjectServiceTest {
     return user;
   }
 
+  private Application createApplication(Long id, User user, Project project) {
+    Application application = Application.builder().user(user).project(project).build();
+    ReflectionTestUtils.setField(application, "id", id);
+    return application;
+  }
+
   private Project createProject(Long id, String title, User creator) {
     Project project = new Project(title, "description", "Java, Spring Boot", 5, creator, 4);
     ReflectionTestUtils.setField(project, "id", id);
+    ReflectionTestUtils.setField(project, "version", 0L);
+    project.changeTechs(List.of(new Tech("Java"), new Tech("Spring Boot")));
     return project;
   }
 
+  // 수정 트랜잭션 안에서 무효화하고 커밋(afterCompletion)까지 마친다
+  private void commitWithEvict(ProjectDetailCache cache, Long projectId) {
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      cache.evict(projectId);
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  private ProjectSearchRequest createSearchRequest(String cursor, Integer size) {
+    return new ProjectSearchRequest(cursor, size, null, null, null, null, null);
+  }
+
   private void assertProjectNotFound(Consumer<Long> serviceMethodCall) {
     Long nonExistentId = 999L;
 
@@ -0,0 +1,95 @@
+package com.devmatch.backend.domain.project.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devmatch.backend.domain.project.entity.Tech;
+import com.devmatch.backend.domain.project.repository.TechRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 여러 스레드가 각자 커밋해야 하므로 테스트 트랜잭션(롤백) 없이 실행하고, 만든 기술은 직접 지운다
+@SpringBootTest
+class TechServiceTest {
+
+  private static final List<String> TECH_NAMES = List.of("TechServiceTest-A", "techservicetest-b");
+
+  @Autowired
+  private TechService techService;
+
+  @Autowired
+  private TechRepository techRepository;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @AfterEach
+  void tearDown() {
+    techRepository.deleteAllInBatch(techRepository.findAllByNormalizedNameIn(
+        TECH_NAMES.stream().map(Tech::normalize).toList()));
+  }
+
+  @Test
+  @DisplayName("성공: 바깥 트랜잭션 안에서 기술을 등록하면, 같은 트랜잭션에서 등록되고 대소문자/공백만 다른 이름은 하나로 합쳐진다")
+  void resolveAll_shouldRegisterInCurrentTransaction() {
+    List<Tech> techs = transactionTemplate.execute(status -> techService.resolveAll(
+        List.of(" TechServiceTest-A", "techservicetest-a", "techservicetest-b")));
+
+    assertThat(techs).extracting(Tech::getName)
+        .containsExactly("TechServiceTest-A", "techservicetest-b");
+    assertThat(techs).allSatisfy(tech -> assertThat(tech.getId()).isNotNull());
+  }
+
+  @Test
+  @DisplayName("성공: 바깥 트랜잭션이 롤백되면, 그 안에서 등록한 기술도 남지 않는다")
+  void resolveAll_shouldRollBackWithOuterTransaction() {
+    transactionTemplate.executeWithoutResult(status -> {
+      techService.resolveAll(TECH_NAMES);
+      status.setRollbackOnly();
+    });
+
+    assertThat(techRepository.findAllByNormalizedNameIn(
+        TECH_NAMES.stream().map(Tech::normalize).toList())).isEmpty();
+  }
+
+  @Test
+  @DisplayName("성공: 같은 새 기술을 동시에 등록해도, 예외 없이 모두 같은 기술 하나를 받는다")
+  void resolveAll_shouldShareOneTech_whenRegisteredConcurrently() throws Exception {
+    int threadCount = 5;
+    CountDownLatch ready = new CountDownLatch(threadCount);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Long> techIds = new ArrayList<>();
+
+    try (ExecutorService executor = Executors.newFixedThreadPool(threadCount)) {
+      List<Future<Long>> results = new ArrayList<>();
+      for (int i = 0; i < threadCount; i++) {
+        results.add(executor.submit(() -> {
+          ready.countDown();
+          start.await();
+          return transactionTemplate.execute(status ->
+              techService.resolveAll(List.of("TechServiceTest-A")).getFirst().getId());
+        }));
+      }
+
+      ready.await(10, TimeUnit.SECONDS);
+      start.countDown();
+
+      for (Future<Long> result : results) {
+        techIds.add(result.get(30, TimeUnit.SECONDS));
+      }
+    }
+
+    assertThat(techIds).hasSize(threadCount).containsOnly(techIds.getFirst());
+    assertThat(techRepository.findAllByNormalizedNameIn(List.of("techservicetest-a"))).hasSize(1);
+  }
+}
@@ -0,0 +1,43 @@
+package com.devmatch.backend.domain.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devmatch.backend.domain.user.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ApiKeyUserCacheTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final ApiKeyUserCache apiKeyUserCache = new ApiKeyUserCache(meterRegistry, 100, 60);
+
+  @Test
+  @DisplayName("성공: 캐시한 apiKey 로 조회하면 인증에 필요한 사용자 정보를 반환하고 적중/미적중을 기록한다")
+  void get_shouldReturnCachedPrincipal_andRecordHitAndMiss() {
+    assertThat(apiKeyUserCache.get("apiKey1")).isEmpty();
+
+    apiKeyUserCache.put("apiKey1", new User(1L, "user1@test.com", "user1"));
+    Optional<User> cached = apiKeyUserCache.get("apiKey1");
+
+    assertThat(cached).isPresent();
+    assertThat(cached.get().getId()).isEqualTo(1L);
+    assertThat(cached.get().getUsername()).isEqualTo("user1@test.com");
+    assertThat(cached.get().getNickName()).isEqualTo("user1");
+    assertThat(meterRegistry.get("cache.gets").tag("cache", "apiKeyUser").tag("result", "hit")
+        .functionCounter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("cache.gets").tag("cache", "apiKeyUser").tag("result", "miss")
+        .functionCounter().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("성공: 무효화한 apiKey 는 다시 조회되지 않는다")
+  void invalidate_shouldRemoveCachedPrincipal() {
+    apiKeyUserCache.put("apiKey1", new User(1L, "user1@test.com", "user1"));
+
+    apiKeyUserCache.invalidate("apiKey1");
+
+    assertThat(apiKeyUserCache.get("apiKey1")).isEmpty();
+  }
+}
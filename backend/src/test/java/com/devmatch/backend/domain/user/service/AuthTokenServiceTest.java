@@ -0,0 +1,48 @@
+package com.devmatch.backend.domain.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devmatch.backend.domain.user.entity.User;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class AuthTokenServiceTest {
+
+  private static final String SECRET = "test-secret-key-test-secret-key-0123456789abcdef";
+
+  private AuthTokenService authTokenService;
+
+  @BeforeEach
+  void setUp() {
+    authTokenService = new AuthTokenService(100);
+    ReflectionTestUtils.setField(authTokenService, "jwtSecretKey", SECRET);
+    ReflectionTestUtils.setField(authTokenService, "accessTokenExpirationSeconds", 60);
+  }
+
+  @Test
+  @DisplayName("성공: 같은 토큰을 다시 검증하면 캐시된 페이로드를 그대로 반환한다")
+  void payload_shouldReturnCachedPayload_whenSameTokenVerifiedAgain() {
+    String accessToken = authTokenService.genAccessToken(new User(1L, "user1@test.com", "user1"));
+
+    Map<String, Object> first = authTokenService.payload(accessToken);
+    Map<String, Object> second = authTokenService.payload(accessToken);
+
+    assertThat(first).containsEntry("id", 1)
+        .containsEntry("username", "user1@test.com")
+        .containsEntry("name", "user1");
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  @DisplayName("실패: 서명이 변조된 토큰은 null 을 반환하고 캐시하지 않는다")
+  void payload_shouldReturnNull_whenSignatureIsTampered() {
+    String accessToken = authTokenService.genAccessToken(new User(1L, "user1@test.com", "user1"));
+    String tampered = accessToken.substring(0, accessToken.length() - 2) + "xx";
+
+    assertThat(authTokenService.payload(tampered)).isNull();
+    assertThat(authTokenService.payload(tampered)).isNull();
+  }
+}
@@ -0,0 +1,239 @@
+package com.devmatch.backend.global.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+class LlmClientTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private LlmClient llmClient;
+
+  @AfterEach
+  void tearDown() {
+    if (llmClient != null) {
+      llmClient.close();
+    }
+  }
+
+  @Test
+  @DisplayName("성공: 응답 형식이 어긋나면 다시 호출하고, 올바른 응답을 파싱해 반환한다")
+  void call_shouldRetry_whenParseFails() {
+    StubChatModel chatModel = StubChatModel.responding("형식 없는 응답", "80|백엔드 전문가");
+    llmClient = new LlmClient(chatModel, properties(3, Duration.ofSeconds(1), 5), meterRegistry);
+
+    String reason = llmClient.call("prompt", response -> {
+      String[] parts = response.split("\\|");
+      if (parts.length < 2) {
+        throw new IllegalArgumentException("형식 오류");
+      }
+      return parts[1];
+    });
+
+    assertThat(reason).isEqualTo("백엔드 전문가");
+    assertThat(chatModel.calls.get()).isEqualTo(2);
+    assertThat(meterRegistry.counter("llm.parse.failures").count()).isEqualTo(1);
+    assertThat(meterRegistry.counter("llm.retries").count()).isEqualTo(1);
+    assertThat(meterRegistry.counter("llm.tokens", "type", "prompt").count()).isEqualTo(20);
+    assertThat(meterRegistry.counter("llm.tokens", "type", "completion").count()).isEqualTo(10);
+  }
+
+  @Test
+  @DisplayName("실패: 연속 실패가 임계값에 도달하면 서킷이 열리고, 이후 호출은 모델을 부르지 않고 거절된다")
+  void call_shouldOpenCircuit_whenFailuresReachThreshold() {
+    StubChatModel chatModel = new StubChatModel(() -> {
+      throw new IllegalStateException("upstream 503");
+    });
+    llmClient = new LlmClient(chatModel, properties(2, Duration.ofSeconds(1), 2), meterRegistry);
+
+    assertThatThrownBy(() -> llmClient.call("prompt"))
+        .isInstanceOf(LlmUnavailableException.class);
+    assertThat(llmClient.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+    assertThatThrownBy(() -> llmClient.call("prompt"))
+        .isInstanceOf(LlmUnavailableException.class)
+        .hasMessageContaining("차단");
+    assertThat(chatModel.calls.get()).isEqualTo(2);
+    assertThat(meterRegistry.counter("llm.calls", "outcome", "rejected").count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("실패: 모델 응답이 타임아웃을 넘기면 LlmUnavailableException 이 발생한다")
+  void call_shouldFail_whenCallTimesOut() {
+    StubChatModel chatModel = new StubChatModel(() -> {
+      try {
+        Thread.sleep(1_000);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return "80|늦은 응답";
+    });
+    llmClient = new LlmClient(chatModel, properties(1, Duration.ofMillis(50), 5), meterRegistry);
+
+    assertThatThrownBy(() -> llmClient.call("prompt"))
+        .isInstanceOf(LlmUnavailableException.class);
+    assertThat(meterRegistry.counter("llm.calls", "outcome", "timeout").count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("성공: 타임아웃으로 포기한 호출이 아직 진행 중이면 끝날 때까지 동시 호출 허가를 반납하지 않는다")
+  void call_shouldHoldBulkheadPermit_untilTimedOutCallFinishes() throws InterruptedException {
+    CountDownLatch upstream = new CountDownLatch(1);
+    StubChatModel chatModel = new StubChatModel(() -> {
+      // 인터럽트를 무시하고 계속 통신하는 제공자 클라이언트를 흉내 낸다
+      while (true) {
+        try {
+          upstream.await();
+          return "80|늦은 응답";
+        } catch (InterruptedException ignored) {
+        }
+      }
+    });
+    llmClient = new LlmClient(chatModel, new LlmResilienceProperties(
+        100, 100, 1, Duration.ofMillis(50), Duration.ofMillis(50),
+        1, Duration.ZERO, 5, Duration.ofMinutes(1)
+    ), meterRegistry);
+
+    try {
+      assertThatThrownBy(() -> llmClient.call("prompt"))
+          .isInstanceOf(LlmUnavailableException.class);
+      assertThat(bulkheadActive()).isEqualTo(1);
+
+      assertThatThrownBy(() -> llmClient.call("prompt"))
+          .isInstanceOf(LlmUnavailableException.class)
+          .hasMessageContaining("요청이 많습니다");
+    } finally {
+      upstream.countDown();
+    }
+
+    awaitBulkheadActive(0);
+  }
+
+  @Test
+  @DisplayName("성공: 스트리밍이 끝나면 토큰을 순서대로 전달하고 동시 호출 허가를 반납한다")
+  void stream_shouldEmitTokensAndReleasePermit_whenCompleted() {
+    llmClient = new LlmClient(new StubStreamingChatModel(() -> Flux.just("백엔드", " - ", "Java")),
+        properties(1, Duration.ofSeconds(1), 5), meterRegistry);
+
+    List<String> tokens = llmClient.stream("prompt").collectList().block(Duration.ofSeconds(5));
+
+    assertThat(tokens).containsExactly("백엔드", " - ", "Java");
+    assertThat(bulkheadActive()).isZero();
+    assertThat(meterRegistry.counter("llm.calls", "outcome", "success").count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("실패: 모델이 스트림을 만들기도 전에 예외를 던져도 허가를 반납하고 실패로 기록한다")
+  void stream_shouldReleasePermit_whenModelThrowsSynchronously() {
+    llmClient = new LlmClient(new StubStreamingChatModel(() -> {
+      throw new IllegalStateException("upstream 503");
+    }), properties(1, Duration.ofSeconds(1), 1), meterRegistry);
+
+    assertThatThrownBy(() -> llmClient.stream("prompt").blockLast(Duration.ofSeconds(5)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("upstream 503");
+    assertThat(bulkheadActive()).isZero();
+    assertThat(meterRegistry.counter("llm.calls", "outcome", "failure").count()).isEqualTo(1);
+    assertThat(llmClient.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+  }
+
+  @Test
+  @DisplayName("성공: 구독을 취소하면 진행 중인 스트림의 허가를 반납하고 실패로 세지 않는다")
+  void stream_shouldReleasePermit_whenCancelled() throws InterruptedException {
+    llmClient = new LlmClient(new StubStreamingChatModel(Flux::never),
+        properties(1, Duration.ofMinutes(1), 1), meterRegistry);
+
+    Disposable subscription = llmClient.stream("prompt").subscribe();
+    awaitBulkheadActive(1);
+
+    subscription.dispose();
+
+    awaitBulkheadActive(0);
+    assertThat(llmClient.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+  }
+
+  private double bulkheadActive() {
+    return meterRegistry.get("llm.bulkhead.active").gauge().value();
+  }
+
+  private void awaitBulkheadActive(double expected) throws InterruptedException {
+    long deadline = System.nanoTime() + Duration.ofSeconds(1).toNanos();
+    while (bulkheadActive() != expected && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(bulkheadActive()).isEqualTo(expected);
+  }
+
+  private LlmResilienceProperties properties(int maxAttempts, Duration callTimeout, int failureThreshold) {
+    return new LlmResilienceProperties(
+        100, 100, 4, Duration.ofSeconds(1), callTimeout,
+        maxAttempts, Duration.ZERO, failureThreshold, Duration.ofMinutes(1)
+    );
+  }
+
+  // 네트워크 없이 정해진 응답을 돌려주는 ChatModel (호출마다 프롬프트 10토큰, 응답 5토큰 사용)
+  private static class StubChatModel implements ChatModel {
+
+    private final Supplier<String> responder;
+    private final AtomicInteger calls = new AtomicInteger();
+
+    StubChatModel(Supplier<String> responder) {
+      this.responder = responder;
+    }
+
+    static StubChatModel responding(String... responses) {
+      Deque<String> queue = new ArrayDeque<>(List.of(responses));
+      return new StubChatModel(() -> queue.size() > 1 ? queue.poll() : queue.peek());
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+      calls.incrementAndGet();
+      return new ChatResponse(
+          List.of(new Generation(new AssistantMessage(responder.get()))),
+          ChatResponseMetadata.builder().usage(new DefaultUsage(10, 5)).build()
+      );
+    }
+  }
+
+  // 정해진 토큰 스트림을 돌려주는 ChatModel. tokens 가 예외를 던지면 스트림을 만들기 전에 실패하는 제공자를 흉내 낸다
+  private static class StubStreamingChatModel implements ChatModel {
+
+    private final Supplier<Flux<String>> tokens;
+
+    StubStreamingChatModel(Supplier<Flux<String>> tokens) {
+      this.tokens = tokens;
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Flux<ChatResponse> stream(Prompt prompt) {
+      return tokens.get()
+          .map(token -> new ChatResponse(List.of(new Generation(new AssistantMessage(token)))));
+    }
+  }
+}
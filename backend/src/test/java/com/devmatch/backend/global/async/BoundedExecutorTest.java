@@ -0,0 +1,51 @@
+package com.devmatch.backend.global.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BoundedExecutorTest {
+
+  @Test
+  @DisplayName("성공: 동시에 실행되는 작업 수가 최대 동시 실행 수를 넘지 않는다")
+  void execute_shouldNotExceedMaxConcurrency() throws InterruptedException {
+    int maxConcurrency = 3;
+    int taskCount = 30;
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxObserved = new AtomicInteger();
+    CountDownLatch done = new CountDownLatch(taskCount);
+
+    try (BoundedExecutor executor = new BoundedExecutor("test-worker-", maxConcurrency)) {
+      for (int i = 0; i < taskCount; i++) {
+        executor.execute(() -> {
+          int current = running.incrementAndGet();
+          maxObserved.accumulateAndGet(current, Math::max);
+          try {
+            Thread.sleep(10);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          } finally {
+            running.decrementAndGet();
+            done.countDown();
+          }
+        });
+      }
+
+      assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    assertThat(maxObserved.get()).isLessThanOrEqualTo(maxConcurrency);
+  }
+
+  @Test
+  @DisplayName("실패: 최대 동시 실행 수가 1 미만이면 예외가 발생한다")
+  void constructor_shouldThrow_whenMaxConcurrencyIsLessThanOne() {
+    assertThatThrownBy(() -> new BoundedExecutor("test-worker-", 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,98 @@
+package com.devmatch.backend.global.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class OutboxRelayTest {
+
+  private static final int BATCH_SIZE = 2;
+
+  private final OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+  private final RecordingSink sink = new RecordingSink();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private OutboxRelay relay;
+
+  @BeforeEach
+  void setUp() {
+    relay = new OutboxRelay(
+        outboxEventRepository,
+        List.of(sink),
+        new TransactionTemplate(mock(PlatformTransactionManager.class)),
+        meterRegistry,
+        BATCH_SIZE,
+        Duration.ofDays(7)
+    );
+  }
+
+  @Test
+  @DisplayName("성공: 발행 대기 이벤트를 묶음 단위로 ID 순서대로 전달하고, 전달한 묶음을 발행 완료로 표시한다")
+  void relay_shouldPublishBatchesInOrder() {
+    when(outboxEventRepository.findByPublishedAtIsNullOrderByIdAsc(any(Pageable.class)))
+        .thenReturn(List.of(event(1L), event(2L)))
+        .thenReturn(List.of(event(3L)));
+
+    relay.relay();
+
+    assertThat(sink.received).extracting(OutboxMessage::id).containsExactly(1L, 2L, 3L);
+    verify(outboxEventRepository).markPublished(eq(List.of(1L, 2L)), any());
+    verify(outboxEventRepository).markPublished(eq(List.of(3L)), any());
+    assertThat(meterRegistry.counter("outbox.relay", "outcome", "published").count()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("실패: 싱크가 실패하면 발행 완료로 표시하지 않고, 다음 주기에 같은 이벤트부터 다시 전달한다")
+  void relay_shouldRedeliver_whenSinkFails() {
+    when(outboxEventRepository.findByPublishedAtIsNullOrderByIdAsc(any(Pageable.class)))
+        .thenReturn(List.of(event(1L)));
+    sink.failNext = true;
+
+    relay.relay();
+
+    verify(outboxEventRepository, never()).markPublished(any(), any());
+    assertThat(meterRegistry.counter("outbox.relay", "outcome", "failure").count()).isEqualTo(1);
+
+    relay.relay();
+
+    assertThat(sink.received).extracting(OutboxMessage::id).containsExactly(1L);
+    verify(outboxEventRepository).markPublished(eq(List.of(1L)), any());
+  }
+
+  private static OutboxEvent event(Long id) {
+    OutboxEvent event = new OutboxEvent("Application", id, "CREATED", "{}");
+    ReflectionTestUtils.setField(event, "id", id);
+    return event;
+  }
+
+  private static class RecordingSink implements OutboxSink {
+
+    private final List<OutboxMessage> received = new ArrayList<>();
+    private boolean failNext;
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+      if (failNext) {
+        failNext = false;
+        throw new IllegalStateException("sink down");
+      }
+      received.addAll(messages);
+    }
+  }
+}
@@ -28,16 +28,22 @@ export default function HomePage() {
   const { user, loading } = useAuth();
   const router = useRouter();
   const [projects, setProjects] = useState<ProjectDetailResponse[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [hasNextProjects, setHasNextProjects] = useState(false);
+  const [loadingMoreProjects, setLoadingMoreProjects] = useState(false);
   const [userProjects, setUserProjects] = useState<UserProjectListResponse[]>([]);
   const [userApplications, setUserApplications] = useState<ApplicationDetailResponseDto[]>([]);
   const [dataLoading, setDataLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
 
+  // 첫 페이지만 불러온다. 이후 페이지는 "더 불러오기"에서 nextCursor 로 이어서 요청한다
   const fetchProjects = useCallback(async () => {
     try {
       setDataLoading(true);
-      const allProjects = await projectApi.getAllProjects();
-      setProjects(allProjects);
+      const page = await projectApi.getProjects();
+      setProjects(page.projects);
+      setNextCursor(page.nextCursor);
+      setHasNextProjects(page.hasNext);
     } catch (err) {
       console.error('프로젝트 목록 조회 실패:', err);
       setError('프로젝트 목록을 불러오는데 실패했습니다.');
@@ -46,6 +52,21 @@ export default function HomePage() {
     }
   }, []);
 
+  const loadMoreProjects = useCallback(async () => {
+    if (!nextCursor || loadingMoreProjects) return;
+    try {
+      setLoadingMoreProjects(true);
+      const page = await projectApi.getProjects(nextCursor);
+      setProjects(prev => [...prev, ...page.projects]);
+      setNextCursor(page.nextCursor);
+      setHasNextProjects(page.hasNext);
+    } catch (err) {
+      console.error('프로젝트 목록 추가 조회 실패:', err);
+    } finally {
+      setLoadingMoreProjects(false);
+    }
+  }, [nextCursor, loadingMoreProjects]);
+
   const fetchUserProjects = useCallback(async () => {
     if (!user) return;
     try {
@@ -317,7 +338,7 @@ export default function HomePage() {
           </motion.p>
         ) : (
           <div className="grid grid-cols-1 md:grid-cols-2 lg:grid-cols-3 gap-6">
-            {projects.slice(0, 6).map((project, index) => {
+            {projects.map((project, index) => {
               // userProjects 배열에서 현재 프로젝트 ID가 있는지 확인
               const isMyProject = userProjects.some(userProject => userProject.id === project.id);
               
@@ -326,7 +347,7 @@ export default function HomePage() {
                   key={project.id} 
                   initial={{ opacity: 0, y: 20 }}
                   animate={{ opacity: 1, y: 0 }}
-                  transition={{ duration: 0.3, delay: index * 0.1 }}
+                  transition={{ duration: 0.3, delay: (index % projectApi.PROJECTS_PAGE_SIZE) * 0.1 }}
                   whileHover={{ y: -10 }}
                   className="relative"
                 >
@@ -346,6 +367,19 @@ export default function HomePage() {
             })}
           </div>
         )}
+        {hasNextProjects && (
+          <div className="flex justify-center mt-8">
+            <motion.div whileHover={{ scale: 1.05 }} whileTap={{ scale: 0.95 }}>
+              <Button
+                onClick={loadMoreProjects}
+                disabled={loadingMoreProjects}
+                className="bg-white hover:bg-gray-100 text-black border-4 border-black shadow-[4px_4px_0px_0px_rgba(0,0,0,1)] hover:shadow-[2px_2px_0px_0px_rgba(0,0,0,1)] transition-all duration-200 font-bold px-8"
+              >
+                {loadingMoreProjects ? '불러오는 중...' : '프로젝트 더 불러오기'}
+              </Button>
+            </motion.div>
+          </div>
+        )}
       </motion.div>
     </div>
     </div>
@@ -85,3 +85,57 @@ export const createTeamRoleAssignment = async (projectId: number): Promise<strin
     throw error;
   }
 };
+
+/**
+ * 👥 팀 역할 분배 스트리밍 생성
+ * 
+ * 📡 백엔드 API: POST /analysis/project/{projectId}/role-assignment/stream (text/event-stream)
+ * 🏠 컨트롤러: AnalysisController.streamTeamRoleAssignment()
+ * 📦 이벤트: token {token} → done {content} (완료 시 프로젝트 content 에 저장됨) | error {message}
+ */
+export const streamTeamRoleAssignment = async (
+  projectId: number,
+  onToken: (token: string) => void
+): Promise<string> => {
+  const response = await fetch(
+    `${apiClient.defaults.baseURL}${ANALYSIS_ENDPOINT}/project/${projectId}/role-assignment/stream`,
+    { method: 'POST', credentials: 'include', headers: { Accept: 'text/event-stream' } }
+  );
+
+  if (!response.ok || !response.body) {
+    const body = await response.json().catch(() => null);
+    throw new Error(body?.msg || `팀 역할 분배 요청 실패 (${response.status})`);
+  }
+
+  const reader = response.body.getReader();
+  const decoder = new TextDecoder();
+  let buffer = '';
+
+  while (true) {
+    const { value, done } = await reader.read();
+    if (done) break;
+    buffer += decoder.decode(value, { stream: true });
+
+    // SSE 이벤트는 빈 줄로 구분된다
+    let boundary;
+    while ((boundary = buffer.indexOf('\n\n')) >= 0) {
+      const rawEvent = buffer.slice(0, boundary);
+      buffer = buffer.slice(boundary + 2);
+
+      const name = rawEvent.match(/^event:(.*)$/m)?.[1]?.trim();
+      const data = rawEvent
+        .split('\n')
+        .filter((line) => line.startsWith('data:'))
+        .map((line) => line.slice(5))
+        .join('\n');
+      if (!data) continue;
+
+      const payload = JSON.parse(data);
+      if (name === 'token') onToken(payload.token);
+      if (name === 'done') return payload.content;
+      if (name === 'error') throw new Error(payload.message);
+    }
+  }
+
+  throw new Error('팀 역할 분배 스트림이 완료되지 않았습니다.');
+};
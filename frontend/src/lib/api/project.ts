@@ -5,6 +5,7 @@
 import { apiClient } from './index';
 import { 
   ProjectDetailResponse, 
+  ProjectPageResponse,
   ProjectCreateRequest,
   ProjectStatusUpdateRequest,
   ProjectContentUpdateRequest,
@@ -18,33 +19,46 @@ import {
 // ============================================
 
 const PROJECTS_ENDPOINT = '/projects';
+export const PROJECTS_PAGE_SIZE = 12; // 목록 한 페이지 크기 (백엔드 최대 100)
 
 // ============================================
 // 📡 프로젝트 API 함수들 (백엔드 컨트롤러와 1:1 매칭)
 // ============================================
 
 /**
- * 📊 전체 프로젝트 조회
+ * 📊 프로젝트 목록 한 페이지 조회
  * 
- * 📡 백엔드 API: GET /projects
+ * 📡 백엔드 API: GET /projects?cursor=&size=
  * 🏠 컨트롤러: ProjectController.getAll()
- * 📦 응답: List<ProjectDetailResponse>
+ * 📦 응답: ProjectPageResponse (키셋 페이지네이션)
+ * 
+ * 한 번에 한 페이지만 가져온다. 다음 페이지는 화면에서 "더 불러오기" 시 nextCursor 로 요청한다.
  */
-export const getAllProjects = async (): Promise<ProjectDetailResponse[]> => {
+export const getProjects = async (
+  cursor?: string | null,
+  size: number = PROJECTS_PAGE_SIZE
+): Promise<ProjectPageResponse> => {
   try {
-    const response = await apiClient.get(PROJECTS_ENDPOINT);
-    console.log('📤 [Project API] 전체 프로젝트 조회 요청');
-    console.log('📥 [Project API] 전체 프로젝트 조회 응답:', response.data);
-    
-    // 백엔드가 ApiResponse 래퍼로 응답: { msg: string, data: ProjectDetailResponse[] }
+    const response = await apiClient.get(PROJECTS_ENDPOINT, {
+      params: { size, ...(cursor ? { cursor } : {}) },
+    });
+    console.log('📤 [Project API] 프로젝트 목록 조회 요청:', { cursor, size });
+    console.log('📥 [Project API] 프로젝트 목록 조회 응답:', response.data);
+
+    // 백엔드가 ApiResponse 래퍼로 응답: { msg: string, data: { projects, nextCursor, hasNext } }
     if (response.data.msg && response.data.data) {
-      return response.data.data;
+      const page = response.data.data;
+      return {
+        projects: page.projects || [],
+        nextCursor: page.nextCursor ?? null,
+        hasNext: Boolean(page.hasNext && page.nextCursor),
+      };
     }
     // 직접 배열로 응답하는 경우 (fallback)
-    return response.data || [];
+    return { projects: response.data || [], nextCursor: null, hasNext: false };
   } catch (error) {
-    console.error('❌ [Project API] 전체 프로젝트 조회 실패:', error);
-    return []; // 에러 시 빈 배열 반환
+    console.error('❌ [Project API] 프로젝트 목록 조회 실패:', error);
+    throw error;
   }
 };
 
@@ -73,6 +87,29 @@ export const createProject = async (data: ProjectCreateRequest): Promise<Project
   }
 };
 
+/**
+ * 🔍 프로젝트 검색 (제목/설명/기술 스택, 관련도 순)
+ * 
+ * 📡 백엔드 API: GET /projects/search?q=&page=&size=
+ * 🏠 컨트롤러: ProjectController.search()
+ * 📦 응답: ProjectSearchResponse (projects, page, hasNext)
+ */
+export const searchProjects = async (
+  q: string,
+  page = 0,
+  size = 20
+): Promise<{ projects: ProjectDetailResponse[]; page: number; hasNext: boolean }> => {
+  try {
+    const response = await apiClient.get(`${PROJECTS_ENDPOINT}/search`, { params: { q, page, size } });
+    console.log('📥 [Project API] 프로젝트 검색 응답:', response.data);
+
+    return response.data.data;
+  } catch (error) {
+    console.error('❌ [Project API] 프로젝트 검색 실패:', error);
+    return { projects: [], page, hasNext: false };
+  }
+};
+
 /**
  * 📋 프로젝트 단일 조회
  * 
@@ -67,6 +67,16 @@ export interface ProjectDetailResponse {
   createdAt: string;           // LocalDateTime이 ISO 문자열로 변환
 }
 
+/**
+ * 프로젝트 목록 한 페이지 (키셋 페이지네이션)
+ * 위치: backend/src/main/java/com/devmatch/backend/domain/project/dto/ProjectPageResponse.java
+ */
+export interface ProjectPageResponse {
+  projects: ProjectDetailResponse[];
+  nextCursor: string | null;   // 다음 페이지 요청 시 cursor 로 그대로 보낸다 (마지막 페이지면 null)
+  hasNext: boolean;
+}
+
 /**
  * 프로젝트 생성 요청 (백엔드 실제 구조)
  * 위치: backend/src/main/java/com/devmatch/backend/domain/project/dto/ProjectCreateRequest.java